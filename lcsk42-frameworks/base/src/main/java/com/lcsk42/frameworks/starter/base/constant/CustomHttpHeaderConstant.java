@@ -25,6 +25,11 @@ public final class CustomHttpHeaderConstant {
      */
     public static final String REQUEST_ID_HEADER = "Request-Id";
 
+    /**
+     * Custom HTTP header for the time in milliseconds the caller still waits for the response
+     */
+    public static final String REQUEST_TIMEOUT_HEADER = "Request-Timeout";
+
     public static String getClientRequestId(String requestId) {
         return "C-" + requestId;
     }
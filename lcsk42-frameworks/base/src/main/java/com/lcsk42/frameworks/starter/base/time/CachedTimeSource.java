@@ -0,0 +1,80 @@
+package com.lcsk42.frameworks.starter.base.time;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A clock read from a volatile field that a daemon thread refreshes from the system clock every tick.
+ * <p>
+ * Readers may see a time up to about one tick old, so it suits timestamps, not measuring intervals.
+ * Once closed, it reads the system clock directly.
+ * <p>
+ * {@link TimeSourceHolder#install(TimeSource)} advances it to the reading of the source it replaces,
+ * so timestamps do not go backwards across the switch.
+ */
+public class CachedTimeSource implements TimeSource, AutoCloseable {
+
+    private final long tickNanos;
+
+    private final Thread ticker;
+
+    private final AtomicLong currentMillis;
+
+    // Lowest value the ticker may publish, raised by advanceTo
+    private volatile long floorMillis;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs the clock and starts its ticking thread.
+     *
+     * @param tickMillis time between refreshes in milliseconds
+     * @param threadName name of the ticking thread
+     * @throws IllegalArgumentException if tickMillis is not positive
+     */
+    public CachedTimeSource(long tickMillis, String threadName) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick interval must be positive");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.currentMillis = new AtomicLong(System.currentTimeMillis());
+        this.ticker = Thread.ofPlatform()
+                .name(threadName)
+                .daemon(true)
+                .start(this::tick);
+    }
+
+    private void tick() {
+        while (!closed) {
+            long current = currentMillis.get();
+            // A failed CAS means advanceTo raised the value meanwhile, the next tick catches up
+            currentMillis.compareAndSet(current, Math.max(System.currentTimeMillis(), floorMillis));
+            LockSupport.parkNanos(this, tickNanos);
+        }
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return closed ? System.currentTimeMillis() : currentMillis.get();
+    }
+
+    /**
+     * Makes the clock read no earlier than the given time from now on.
+     *
+     * @param millis time in milliseconds
+     */
+    void advanceTo(long millis) {
+        floorMillis = millis;
+        currentMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    /**
+     * Stops the ticking thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(ticker);
+    }
+}
@@ -0,0 +1,52 @@
+package com.lcsk42.frameworks.starter.base.time;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A clock that only moves when told to, for tests.
+ */
+public class ManualTimeSource implements TimeSource {
+
+    private final AtomicLong currentMillis;
+
+    /**
+     * Constructs a clock stopped at the current system time.
+     */
+    public ManualTimeSource() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Constructs a clock stopped at the given time.
+     *
+     * @param currentMillis start time in milliseconds since the epoch
+     */
+    public ManualTimeSource(long currentMillis) {
+        this.currentMillis = new AtomicLong(currentMillis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentMillis.get();
+    }
+
+    /**
+     * Sets the time.
+     *
+     * @param millis time in milliseconds since the epoch
+     */
+    public void set(long millis) {
+        currentMillis.set(millis);
+    }
+
+    /**
+     * Moves the time, backwards for a negative duration.
+     *
+     * @param duration how far to move
+     * @return the new time in milliseconds
+     */
+    public long advance(Duration duration) {
+        return currentMillis.addAndGet(duration.toMillis());
+    }
+}
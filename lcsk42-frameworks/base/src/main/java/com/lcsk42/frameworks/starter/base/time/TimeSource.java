@@ -0,0 +1,46 @@
+package com.lcsk42.frameworks.starter.base.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Source of wall-clock time for timestamps.
+ * <p>
+ * Hot paths stamping rows, messages or ids read the time through {@link TimeSourceHolder} instead of
+ * the system clock, so the process can use a {@link CachedTimeSource} that costs a volatile read per
+ * call, and tests can install a {@link ManualTimeSource}.
+ */
+@FunctionalInterface
+public interface TimeSource {
+
+    /**
+     * Reads the system clock on every call.
+     */
+    TimeSource PRECISE = System::currentTimeMillis;
+
+    /**
+     * Returns the current time in milliseconds since the epoch.
+     *
+     * @return current time in milliseconds
+     */
+    long currentTimeMillis();
+
+    /**
+     * Returns the current time as an instant.
+     *
+     * @return current instant, millisecond precision
+     */
+    default Instant instant() {
+        return Instant.ofEpochMilli(currentTimeMillis());
+    }
+
+    /**
+     * Returns the current date-time in the system default time-zone.
+     *
+     * @return current LocalDateTime, millisecond precision
+     */
+    default LocalDateTime localDateTime() {
+        return LocalDateTime.ofInstant(instant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,107 @@
+package com.lcsk42.frameworks.starter.base.time;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Process-wide {@link TimeSource}.
+ * Until one is installed, a {@link CachedTimeSource} ticking every millisecond is created on first use.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TimeSourceHolder {
+
+    private static final long DEFAULT_TICK_MILLIS = 1L;
+
+    private static volatile TimeSource timeSource;
+
+    // The cached source created here, closed when replaced
+    private static CachedTimeSource defaultTimeSource;
+
+    /**
+     * Returns the installed time source.
+     *
+     * @return the time source
+     */
+    public static TimeSource get() {
+        TimeSource current = timeSource;
+        if (current == null) {
+            synchronized (TimeSourceHolder.class) {
+                if (timeSource == null) {
+                    defaultTimeSource = new CachedTimeSource(DEFAULT_TICK_MILLIS, "time-source");
+                    timeSource = defaultTimeSource;
+                }
+                current = timeSource;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Installs a time source, e.g. {@link TimeSource#PRECISE} or a {@link ManualTimeSource} in tests.
+     * A {@link CachedTimeSource} is advanced to the reading of the source it replaces, as it may lag
+     * that one by up to a tick; other sources are used as they are.
+     *
+     * @param source the time source to use from now on
+     * @return the time source replaced, null if none was in use
+     */
+    public static synchronized TimeSource install(@NonNull TimeSource source) {
+        TimeSource previous = timeSource;
+        CachedTimeSource cached = source instanceof CachedTimeSource cachedTimeSource ? cachedTimeSource : null;
+        if (previous != null && cached != null) {
+            cached.advanceTo(previous.currentTimeMillis());
+        }
+        timeSource = source;
+        closeDefault(source);
+        if (previous != null && cached != null) {
+            // The closed default reads the system clock now, catch up with what its last readers saw
+            cached.advanceTo(previous.currentTimeMillis());
+        }
+        return previous;
+    }
+
+    /**
+     * Drops the installed time source, the default one is created again on next use.
+     */
+    public static synchronized void reset() {
+        timeSource = null;
+        closeDefault(null);
+    }
+
+    private static void closeDefault(TimeSource replacement) {
+        if (defaultTimeSource != null && defaultTimeSource != replacement) {
+            defaultTimeSource.close();
+            defaultTimeSource = null;
+        }
+    }
+
+    /**
+     * Returns the current time in milliseconds from the installed time source.
+     *
+     * @return current time in milliseconds
+     */
+    public static long currentTimeMillis() {
+        return get().currentTimeMillis();
+    }
+
+    /**
+     * Returns the current instant from the installed time source.
+     *
+     * @return current instant
+     */
+    public static Instant instant() {
+        return get().instant();
+    }
+
+    /**
+     * Returns the current date-time in the system default time-zone from the installed time source.
+     *
+     * @return current LocalDateTime
+     */
+    public static LocalDateTime now() {
+        return get().localDateTime();
+    }
+}
@@ -0,0 +1,63 @@
+package com.lcsk42.frameworks.starter.base.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        TimeSourceHolder.reset();
+    }
+
+    @Test
+    void cachedTimeSourceFollowsSystemClock() throws InterruptedException {
+        try (CachedTimeSource timeSource = new CachedTimeSource(1, "time-source-test")) {
+            long before = System.currentTimeMillis();
+            Thread.sleep(50);
+            long cached = timeSource.currentTimeMillis();
+            long after = System.currentTimeMillis();
+            // Refreshed at least once during the sleep, never ahead of the system clock
+            assertTrue(cached > before && cached <= after, () -> before + " < " + cached + " <= " + after);
+        }
+    }
+
+    @Test
+    void installedManualTimeSourceControlsTimestamps() {
+        ManualTimeSource manual = new ManualTimeSource(1_000L);
+        TimeSourceHolder.install(manual);
+
+        assertSame(manual, TimeSourceHolder.get());
+        assertEquals(1_000L, TimeSourceHolder.currentTimeMillis());
+        assertEquals(61_000L, manual.advance(Duration.ofMinutes(1)));
+        assertEquals(Instant.ofEpochMilli(61_000L), TimeSourceHolder.instant());
+    }
+
+    @Test
+    void installedCachedTimeSourceDoesNotGoBackwards() {
+        long ahead = System.currentTimeMillis() + 60_000L;
+        TimeSourceHolder.install(new ManualTimeSource(ahead));
+
+        try (CachedTimeSource cached = new CachedTimeSource(1, "time-source-test")) {
+            TimeSourceHolder.install(cached);
+            assertTrue(TimeSourceHolder.currentTimeMillis() >= ahead);
+        }
+    }
+
+    @Test
+    void resetRestoresDefaultCachedTimeSource() {
+        TimeSourceHolder.install(TimeSource.PRECISE);
+        TimeSourceHolder.reset();
+
+        TimeSource timeSource = TimeSourceHolder.get();
+        assertTrue(timeSource instanceof CachedTimeSource);
+        assertTrue(Math.abs(timeSource.currentTimeMillis() - System.currentTimeMillis()) < 1_000L);
+    }
+}
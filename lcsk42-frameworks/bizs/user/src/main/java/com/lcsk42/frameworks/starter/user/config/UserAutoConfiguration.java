@@ -1,6 +1,8 @@
 package com.lcsk42.frameworks.starter.user.config;
 
 import com.lcsk42.frameworks.starter.base.constant.FilterOrderConstant;
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import com.lcsk42.frameworks.starter.user.core.UserContextTaskDecorator;
 import com.lcsk42.frameworks.starter.user.core.UserTransmitFilter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
@@ -16,4 +18,11 @@ public class UserAutoConfiguration {
         registration.setOrder(FilterOrderConstant.USER_TRANSMIT_FILTER_ORDER);
         return registration;
     }
+
+    @Bean
+    public UserContextTaskDecorator userContextTaskDecorator() {
+        UserContextTaskDecorator decorator = new UserContextTaskDecorator();
+        TaskDecoratorRegistry.register(decorator);
+        return decorator;
+    }
 }
@@ -1,12 +1,19 @@
 package com.lcsk42.frameworks.starter.user.core;
 
 import com.alibaba.ttl.TransmittableThreadLocal;
+import com.lcsk42.frameworks.starter.common.context.ContextCarrier;
+import com.lcsk42.frameworks.starter.common.context.RequestContext;
 import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.Optional;
 
+/**
+ * The user of the current request. Inside a {@link ContextCarrier} binding the user lives in the bound
+ * {@link RequestContext}, and setting it replaces that context, so tasks submitted and Feign calls made
+ * afterwards see the new user. The TransmittableThreadLocal holds the user for threads outside a binding.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class UserContext {
 
@@ -14,31 +21,41 @@ public final class UserContext {
 
     public static void setUser(UserInfoDTO user) {
         USER_THREAD_LOCAL.set(user);
+        replaceBoundUser(user);
     }
 
     public static UserInfoDTO getUser() {
-        return USER_THREAD_LOCAL.get();
+        return ContextCarrier.current()
+                .map(RequestContext::getUser)
+                .orElseGet(USER_THREAD_LOCAL::get);
     }
 
     public static Long getUserId() {
-        return Optional.ofNullable(USER_THREAD_LOCAL.get())
+        return Optional.ofNullable(getUser())
                 .map(UserInfoDTO::getUserId)
                 .orElse(null);
     }
 
     public static String getUsername() {
-        return Optional.ofNullable(USER_THREAD_LOCAL.get())
+        return Optional.ofNullable(getUser())
                 .map(UserInfoDTO::getUsername)
                 .orElse(null);
     }
 
     public static String getToken() {
-        return Optional.ofNullable(USER_THREAD_LOCAL.get())
+        return Optional.ofNullable(getUser())
                 .map(UserInfoDTO::getToken)
                 .orElse(null);
     }
 
     public static void removeUser() {
         USER_THREAD_LOCAL.remove();
+        replaceBoundUser(null);
+    }
+
+    private static void replaceBoundUser(UserInfoDTO user) {
+        ContextCarrier.current()
+                .filter(context -> context.getUser() != user)
+                .ifPresent(context -> ContextCarrier.replace(context.toBuilder().user(user).build()));
     }
 }
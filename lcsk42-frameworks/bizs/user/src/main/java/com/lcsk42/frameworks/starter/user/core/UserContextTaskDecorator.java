@@ -0,0 +1,41 @@
+package com.lcsk42.frameworks.starter.user.core;
+
+import com.lcsk42.frameworks.starter.common.context.ContextCarrier;
+import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+import java.util.Objects;
+
+/**
+ * Carries the current user from the submitting thread to the task, restoring the user the
+ * executing thread had before once the task ends. Only needed outside a {@link ContextCarrier}
+ * binding, inside one the user travels with the bound request context.
+ */
+public class UserContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public @NonNull Runnable decorate(@NonNull Runnable runnable) {
+        if (ContextCarrier.current().isPresent()) {
+            return runnable;
+        }
+        UserInfoDTO user = UserContext.getUser();
+        return () -> {
+            UserInfoDTO previous = UserContext.getUser();
+            set(user);
+            try {
+                runnable.run();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    private static void set(UserInfoDTO user) {
+        if (Objects.isNull(user)) {
+            UserContext.removeUser();
+        } else {
+            UserContext.setUser(user);
+        }
+    }
+}
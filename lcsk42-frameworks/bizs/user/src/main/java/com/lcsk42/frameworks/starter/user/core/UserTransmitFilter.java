@@ -1,13 +1,19 @@
 package com.lcsk42.frameworks.starter.user.core;
 
+import com.lcsk42.frameworks.starter.base.constant.CustomHttpHeaderConstant;
+import com.lcsk42.frameworks.starter.common.context.ContextCarrier;
+import com.lcsk42.frameworks.starter.common.context.RequestContext;
 import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.math.NumberUtils;
 
 import java.io.IOException;
+import java.time.Instant;
 
 public class UserTransmitFilter implements Filter {
     @Override
@@ -21,9 +27,28 @@ public class UserTransmitFilter implements Filter {
         UserContext.setUser(userInfoDTO);
 
         try {
-            filterChain.doFilter(servletRequest, servletResponse);
+            ContextCarrier.callWhere(buildRequestContext(servletRequest, userInfoDTO), () -> {
+                filterChain.doFilter(servletRequest, servletResponse);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ServletException(ex);
         } finally {
             UserContext.removeUser();
         }
     }
+
+    private static RequestContext buildRequestContext(ServletRequest servletRequest, UserInfoDTO userInfoDTO) {
+        RequestContext.RequestContextBuilder builder = RequestContext.builder().user(userInfoDTO);
+        if (servletRequest instanceof HttpServletRequest request) {
+            builder.requestId(request.getHeader(CustomHttpHeaderConstant.REQUEST_ID_HEADER));
+            long timeout = NumberUtils.toLong(request.getHeader(CustomHttpHeaderConstant.REQUEST_TIMEOUT_HEADER), -1L);
+            if (timeout >= 0) {
+                builder.deadline(Instant.now().plusMillis(timeout));
+            }
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,52 @@
+package com.lcsk42.frameworks.starter.user.core;
+
+import com.lcsk42.frameworks.starter.base.constant.CustomHttpHeaderConstant;
+import com.lcsk42.frameworks.starter.common.context.RequestContextTaskDecorator;
+import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
+import com.lcsk42.frameworks.starter.web.feign.RequestContextFeignInterceptor;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserTransmitFilterTest {
+
+    @Test
+    void userSetInsideTheFilterChainIsSeenEverywhere() throws Exception {
+        UserInfoDTO user = UserInfoDTO.builder().userId(42L).username("alice").token("token-42").build();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CustomHttpHeaderConstant.REQUEST_ID_HEADER, "request-1");
+        AtomicReference<UserInfoDTO> seenByTask = new AtomicReference<>();
+        RequestTemplate template = new RequestTemplate();
+
+        new UserTransmitFilter().doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            UserContext.setUser(user);
+            assertSame(user, UserContext.getUser());
+            assertEquals(42L, UserContext.getUserId());
+
+            Runnable task = new UserContextTaskDecorator().decorate(
+                    new RequestContextTaskDecorator().decorate(() -> seenByTask.set(UserContext.getUser())));
+            Thread worker = Thread.ofPlatform().start(task);
+            try {
+                worker.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            new RequestContextFeignInterceptor().apply(template);
+        });
+
+        assertSame(user, seenByTask.get());
+        assertEquals(List.of("42"), List.copyOf(template.headers().get(CustomHttpHeaderConstant.USER_ID)));
+        assertEquals(List.of("token-42"), List.copyOf(template.headers().get(CustomHttpHeaderConstant.TOKEN)));
+        assertEquals(List.of("request-1"), List.copyOf(template.headers().get(CustomHttpHeaderConstant.REQUEST_ID_HEADER)));
+        assertNull(UserContext.getUser());
+    }
+}
@@ -1,5 +1,8 @@
 package com.lcsk42.frameworks.starter.user.util;
 
+import com.lcsk42.frameworks.starter.base.time.ManualTimeSource;
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
+import com.lcsk42.frameworks.starter.common.jwt.VerifiedTokenCache;
 import com.lcsk42.frameworks.starter.common.util.JwtUtil;
 import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
 import io.jsonwebtoken.Jwts;
@@ -9,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -68,4 +72,47 @@ class JWTUtilTest {
         UserInfoDTO result = JwtUtil.parseJwtToken("");
         assertThat(result).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRepeatedParseIsAnsweredFromCache() {
+        UserInfoDTO userInfo = new UserInfoDTO();
+        userInfo.setUserId(456L);
+        userInfo.setUsername("cached_user");
+        String token = JwtUtil.generateAccessToken(userInfo);
+        VerifiedTokenCache cache = JwtUtil.getTokenCache();
+
+        JwtUtil.parseJwtToken(token);
+        long hits = cache.getHitCount();
+        UserInfoDTO first = JwtUtil.parseJwtToken(token);
+        UserInfoDTO second = JwtUtil.parseJwtToken(token);
+
+        assertThat(cache.getHitCount() - hits).isEqualTo(2L);
+        assertThat(first.getUsername()).isEqualTo("cached_user");
+        // Every caller gets its own copy
+        first.setUsername("changed");
+        assertThat(second.getUsername()).isEqualTo("cached_user");
+        assertThat(JwtUtil.parseJwtToken(token).getUsername()).isEqualTo("cached_user");
+    }
+
+    @Test
+    void testCachedTokenIsDroppedAtExpiry() {
+        ManualTimeSource clock = new ManualTimeSource();
+        TimeSourceHolder.install(clock);
+        try {
+            UserInfoDTO userInfo = new UserInfoDTO();
+            userInfo.setUserId(789L);
+            userInfo.setUsername("expiring_user");
+            String token = JwtUtil.generateAccessToken(userInfo);
+            VerifiedTokenCache cache = JwtUtil.getTokenCache();
+
+            assertThat(JwtUtil.parseJwtToken(token)).isNotNull();
+            long expired = cache.getExpiredCount();
+            clock.advance(Duration.ofDays(1).plusSeconds(1));
+
+            assertThat(JwtUtil.parseJwtToken(token)).isNull();
+            assertThat(cache.getExpiredCount() - expired).isEqualTo(1L);
+        } finally {
+            TimeSourceHolder.reset();
+        }
+    }
+}
@@ -7,6 +7,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.redisson.api.RBloomFilter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 public interface DistributedCache extends Cache {
@@ -97,6 +101,26 @@ public interface DistributedCache extends Cache {
      */
     void put(@NotBlank String key, Object value, long timeout, TimeUnit timeUnit);
 
+    /**
+     * Get multiple values in a single round trip.
+     * The returned list has the same order and size as the keys, with {@code null} for missing entries.
+     */
+    <T> List<T> multiGet(@NotNull Collection<String> keys, Class<T> clazz);
+
+    /**
+     * Put multiple values into the cache with a custom expiration time.
+     * All writes are sent in a single pipeline, so the cost is one round trip instead of one per key.
+     */
+    void putAll(@NotNull Map<String, ?> values, long timeout, TimeUnit timeUnit);
+
+    /**
+     * Put multiple values into the cache, each only if its key does not exist yet.
+     * All writes are sent in a single pipeline, each key is set independently.
+     *
+     * @return the keys that were written
+     */
+    Set<String> putAllIfAbsent(@NotNull Map<String, ?> values, long timeout, TimeUnit timeUnit);
+
     /**
      * Safely put a value into the cache and add the key to a Bloom filter.
      * Helps prevent cache penetration, breakdown, and avalanche.
@@ -111,6 +135,11 @@ public interface DistributedCache extends Cache {
      */
     void safePut(@NotBlank String key, Object value, long timeout, TimeUnit timeUnit, RBloomFilter<String> bloomFilter);
 
+    /**
+     * Atomically increment the numeric value stored at the key, starting from zero if it does not exist.
+     */
+    Long increment(@NotBlank String key);
+
     /**
      * Count how many of the specified keys exist in the cache.
      */
@@ -10,19 +10,31 @@ import com.lcsk42.frameworks.starter.common.util.JacksonUtil;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.redisson.api.RBloomFilter;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scripting.support.ResourceScriptSource;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
@@ -221,6 +233,86 @@ public class StringRedisTemplateProxy implements DistributedCache {
         }
     }
 
+    @Override
+    public <T> List<T> multiGet(Collection<String> keys, Class<T> clazz) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return List.of();
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+        return values.stream()
+                .map(value -> {
+                    if (value == null || String.class.isAssignableFrom(clazz)) {
+                        return clazz.cast(value);
+                    }
+                    return JacksonUtil.fromJson(value, clazz);
+                })
+                .toList();
+    }
+
+    @Override
+    public void putAll(Map<String, ?> values, long timeout, TimeUnit timeUnit) {
+        if (MapUtils.isEmpty(values)) {
+            return;
+        }
+        // Serialize through the template's serializers so the configured key prefix is still applied
+        RedisSerializer<String> keySerializer = keySerializer();
+        RedisSerializer<String> valueSerializer = stringRedisTemplate.getStringSerializer();
+        Expiration expiration = Expiration.from(timeout, timeUnit);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> {
+                String actual = value instanceof String ? (String) value : JacksonUtil.toJSON(value);
+                if (Objects.nonNull(actual)) {
+                    connection.stringCommands().set(
+                            keySerializer.serialize(key),
+                            valueSerializer.serialize(actual),
+                            expiration,
+                            RedisStringCommands.SetOption.upsert()
+                    );
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public Set<String> putAllIfAbsent(Map<String, ?> values, long timeout, TimeUnit timeUnit) {
+        if (MapUtils.isEmpty(values)) {
+            return Collections.emptySet();
+        }
+        Map<String, String> actualValues = new LinkedHashMap<>(values.size());
+        values.forEach((key, value) -> {
+            String actual = value instanceof String ? (String) value : JacksonUtil.toJSON(value);
+            if (Objects.nonNull(actual)) {
+                actualValues.put(key, actual);
+            }
+        });
+        RedisSerializer<String> keySerializer = keySerializer();
+        RedisSerializer<String> valueSerializer = stringRedisTemplate.getStringSerializer();
+        Expiration expiration = Expiration.from(timeout, timeUnit);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            actualValues.forEach((key, actual) -> connection.stringCommands().set(
+                    keySerializer.serialize(key),
+                    valueSerializer.serialize(actual),
+                    expiration,
+                    RedisStringCommands.SetOption.ifAbsent()
+            ));
+            return null;
+        });
+        // Pipeline results come back in command order, one Boolean per SET NX
+        Set<String> written = new HashSet<>();
+        Iterator<String> keys = actualValues.keySet().iterator();
+        for (Object result : results) {
+            String key = keys.next();
+            if (Boolean.TRUE.equals(result)) {
+                written.add(key);
+            }
+        }
+        return written;
+    }
+
     @Override
     public void safePut(String key, Object value, long timeout, RBloomFilter<String> bloomFilter) {
         safePut(key, value, timeout, redisProperties.getValueTimeUnit(), bloomFilter);
@@ -244,11 +336,22 @@ public class StringRedisTemplateProxy implements DistributedCache {
         return stringRedisTemplate;
     }
 
+    @Override
+    public Long increment(String key) {
+        return stringRedisTemplate.opsForValue().increment(key);
+    }
+
     @Override
     public Long countExistingKeys(String... keys) {
         return stringRedisTemplate.countExistingKeys(List.of(keys));
     }
 
+    // The key serializer of a StringRedisTemplate always takes strings, the template just does not declare it
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<String> keySerializer() {
+        return (RedisSerializer<String>) stringRedisTemplate.getKeySerializer();
+    }
+
     private <T> T loadAndSet(String key,
                              CacheLoader<T> cacheLoader,
                              long timeout,
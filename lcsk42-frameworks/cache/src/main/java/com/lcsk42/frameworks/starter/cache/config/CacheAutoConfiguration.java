@@ -2,6 +2,9 @@ package com.lcsk42.frameworks.starter.cache.config;
 
 import com.lcsk42.frameworks.starter.cache.RedisKeySerializer;
 import com.lcsk42.frameworks.starter.cache.StringRedisTemplateProxy;
+import com.lcsk42.frameworks.starter.cache.snowflake.RedisWorkerIdRegistry;
+import com.lcsk42.frameworks.starter.cache.warmup.CacheWarmupRunner;
+import com.lcsk42.frameworks.starter.common.snowflake.WorkerIdLeaseManager;
 import lombok.AllArgsConstructor;
 import org.redisson.api.RBloomFilter;
 import org.redisson.api.RedissonClient;
@@ -11,7 +14,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 @AllArgsConstructor
-@EnableConfigurationProperties({RedisDistributedProperties.class, BloomFilterPenetrateProperties.class})
+@EnableConfigurationProperties({
+        RedisDistributedProperties.class,
+        BloomFilterPenetrateProperties.class,
+        CacheWarmupProperties.class,
+        WorkerIdLeaseProperties.class
+})
 public class CacheAutoConfiguration {
 
     private final RedisDistributedProperties redisDistributedProperties;
@@ -44,4 +52,28 @@ public class CacheAutoConfiguration {
         stringRedisTemplate.setKeySerializer(redisKeySerializer);
         return new StringRedisTemplateProxy(stringRedisTemplate, redisDistributedProperties, redissonClient);
     }
-}
\ No newline at end of file
+
+    /**
+     * Run registered cache warmers before the application accepts traffic
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = CacheWarmupProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheWarmupRunner cacheWarmupRunner(StringRedisTemplateProxy stringRedisTemplateProxy,
+                                               CacheWarmupProperties cacheWarmupProperties) {
+        return new CacheWarmupRunner(stringRedisTemplateProxy, cacheWarmupProperties, redisDistributedProperties);
+    }
+
+    /**
+     * Lease the Snowflake worker ID from Redis, picked up by the Snowflake generator bean
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = WorkerIdLeaseProperties.PREFIX, name = "enabled", havingValue = "true")
+    public WorkerIdLeaseManager workerIdLeaseManager(StringRedisTemplateProxy stringRedisTemplateProxy,
+                                                     WorkerIdLeaseProperties workerIdLeaseProperties) {
+        WorkerIdLeaseManager workerIdLeaseManager = new WorkerIdLeaseManager(
+                new RedisWorkerIdRegistry((StringRedisTemplate) stringRedisTemplateProxy.getInstance()),
+                workerIdLeaseProperties.getTtl());
+        workerIdLeaseManager.start();
+        return workerIdLeaseManager;
+    }
+}
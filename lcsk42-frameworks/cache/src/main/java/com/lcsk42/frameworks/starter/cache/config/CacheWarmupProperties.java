@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.cache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = CacheWarmupProperties.PREFIX)
+public class CacheWarmupProperties {
+
+    public static final String PREFIX = "framework.cache.warmup";
+
+    /**
+     * Whether registered cache warmers are executed at startup
+     */
+    private Boolean enabled = Boolean.TRUE;
+
+    /**
+     * Number of threads loading warmup batches in parallel
+     */
+    private Integer parallelism = 4;
+
+    /**
+     * Default number of keys loaded and written per batch
+     */
+    private Integer batchSize = 500;
+
+    /**
+     * Maximum time (milliseconds) readiness is held back waiting for warmup to finish
+     */
+    private Long deadline = 60 * 1_000L;
+}
@@ -0,0 +1,21 @@
+package com.lcsk42.frameworks.starter.cache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = WorkerIdLeaseProperties.PREFIX)
+public class WorkerIdLeaseProperties {
+
+    public static final String PREFIX = "framework.cache.worker-id";
+
+    /**
+     * Whether the Snowflake worker ID is leased from Redis instead of derived from the host
+     */
+    private Boolean enabled = Boolean.FALSE;
+
+    /**
+     * Lease time-to-live (milliseconds), renewed three times per TTL
+     */
+    private Long ttl = 30 * 1_000L;
+}
@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.cache.segment;
+
+import com.lcsk42.frameworks.starter.cache.util.CacheUtil;
+import com.lcsk42.frameworks.starter.common.segment.SegmentAllocator;
+import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Objects;
+
+/**
+ * {@link SegmentAllocator} backed by a Redis counter per business tag, advanced with {@code INCRBY}.
+ * <p>
+ * Redis must be persistent for this allocator, losing the counter would hand out used segments again.
+ */
+@RequiredArgsConstructor
+public class RedisSegmentAllocator implements SegmentAllocator {
+
+    private static final String KEY_PREFIX = "id_segment";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long allocate(String bizTag, long step) {
+        Long maxId = stringRedisTemplate.opsForValue().increment(CacheUtil.buildKey(KEY_PREFIX, bizTag), step);
+        if (Objects.isNull(maxId)) {
+            throw new ServiceException(String.format("Failed to allocate id segment for [%s]", bizTag));
+        }
+        return maxId;
+    }
+}
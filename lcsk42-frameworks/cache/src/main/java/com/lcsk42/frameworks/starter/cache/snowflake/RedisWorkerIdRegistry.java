@@ -0,0 +1,87 @@
+package com.lcsk42.frameworks.starter.cache.snowflake;
+
+import com.lcsk42.frameworks.starter.base.Singleton;
+import com.lcsk42.frameworks.starter.cache.util.CacheUtil;
+import com.lcsk42.frameworks.starter.common.snowflake.WorkerIdLease;
+import com.lcsk42.frameworks.starter.common.snowflake.WorkerIdRegistry;
+import com.lcsk42.frameworks.starter.common.util.IdUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link WorkerIdRegistry} keeping one key per worker ID in Redis, owned with {@code SET NX PX}.
+ * <p>
+ * Renewal and release compare the stored owner token in a Lua script, so a node never extends or
+ * deletes a lease that has meanwhile been taken by another node.
+ * <p>
+ * The last timestamp issued under each ID is kept in a second key without expiry, so it survives the
+ * lease key: renewals raise it to the lease's bound, release sets it to the exact value, and acquiring
+ * the ID hands it to the new lease in the same script.
+ */
+@RequiredArgsConstructor
+public class RedisWorkerIdRegistry implements WorkerIdRegistry {
+
+    private static final String KEY_PREFIX = "worker_id";
+
+    private static final String ISSUED_SUFFIX = "issued";
+
+    private static final String LUA_ACQUIRE_SCRIPT_PATH = "lua/acquireWorkerIdLease.lua";
+
+    private static final String LUA_RENEW_SCRIPT_PATH = "lua/renewWorkerIdLease.lua";
+
+    private static final String LUA_RELEASE_SCRIPT_PATH = "lua/releaseWorkerIdLease.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public WorkerIdLease acquire(long ttlMillis) {
+        String owner = IdUtil.generateCompactUuid();
+        // Start at a random ID so nodes booting together do not race for the same keys
+        int offset = ThreadLocalRandom.current().nextInt(WorkerIdLease.MAX_LEASE_IDS);
+        for (int i = 0; i < WorkerIdLease.MAX_LEASE_IDS; i++) {
+            int leaseId = (offset + i) % WorkerIdLease.MAX_LEASE_IDS;
+            long acquiredNanos = System.nanoTime();
+            Long issued = stringRedisTemplate.execute(getScript(LUA_ACQUIRE_SCRIPT_PATH),
+                    buildKeys(leaseId), owner, String.valueOf(ttlMillis));
+            if (issued != null && issued >= 0L) {
+                return new WorkerIdLease(leaseId, owner, ttlMillis, acquiredNanos, issued);
+            }
+        }
+        throw new IllegalStateException("No free worker id left");
+    }
+
+    @Override
+    public boolean renew(WorkerIdLease lease) {
+        Long renewed = stringRedisTemplate.execute(getScript(LUA_RENEW_SCRIPT_PATH),
+                buildKeys(lease.getLeaseId()), lease.getOwner(), String.valueOf(lease.getTtlMillis()),
+                String.valueOf(lease.issuedBoundMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void release(WorkerIdLease lease) {
+        stringRedisTemplate.execute(getScript(LUA_RELEASE_SCRIPT_PATH),
+                buildKeys(lease.getLeaseId()), lease.getOwner(), String.valueOf(lease.getIssuedMillis()));
+    }
+
+    // The lease key and the key of the last issued timestamp
+    private static List<String> buildKeys(int leaseId) {
+        String leaseKey = CacheUtil.buildKey(KEY_PREFIX, String.valueOf(leaseId));
+        return List.of(leaseKey, CacheUtil.buildKey(leaseKey, ISSUED_SUFFIX));
+    }
+
+    private static DefaultRedisScript<Long> getScript(String path) {
+        return Singleton.get(path, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.lcsk42.frameworks.starter.cache.warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declares a set of cache entries that should be loaded before the application starts accepting traffic.
+ * <p>
+ * Every Spring bean implementing this interface is picked up by {@link CacheWarmupRunner} during
+ * {@link com.lcsk42.frameworks.starter.base.init.ApplicationInitializingEvent}. The key set is split into
+ * batches, each batch is resolved with a single call to {@link #load(List)}, and the result is written to
+ * the distributed cache in one pipeline.
+ *
+ * <pre>{@code
+ * @Component
+ * public class HotProductWarmer implements CacheWarmer {
+ *
+ *     public Collection<String> warmupKeys() {
+ *         return productMapper.selectHotIds().stream().map(id -> "product:" + id).toList();
+ *     }
+ *
+ *     public Map<String, ?> load(List<String> keys) {
+ *         // one IN query per batch
+ *     }
+ * }
+ * }</pre>
+ */
+public interface CacheWarmer {
+
+    /**
+     * Name used in warmup logs, defaults to the simple class name.
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Cache keys to warm up.
+     */
+    Collection<String> warmupKeys();
+
+    /**
+     * Load the values for a batch of keys.
+     * Keys missing from the returned map or mapped to {@code null} are skipped.
+     *
+     * @param keys a batch of keys taken from {@link #warmupKeys()}
+     * @return values keyed by cache key
+     */
+    Map<String, ?> load(List<String> keys);
+
+    /**
+     * Number of keys per batch, a non-positive value falls back to {@code framework.cache.warmup.batch-size}.
+     */
+    default int getBatchSize() {
+        return 0;
+    }
+
+    /**
+     * Expiration of the warmed entries, a non-positive value falls back to
+     * {@code framework.cache.redis.value-timeout}.
+     */
+    default long getTimeout() {
+        return 0L;
+    }
+
+    /**
+     * Time unit of {@link #getTimeout()}.
+     */
+    default TimeUnit getTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+}
@@ -0,0 +1,132 @@
+package com.lcsk42.frameworks.starter.cache.warmup;
+
+import com.lcsk42.frameworks.starter.base.ApplicationContextHolder;
+import com.lcsk42.frameworks.starter.base.init.ApplicationInitializingEvent;
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.config.CacheWarmupProperties;
+import com.lcsk42.frameworks.starter.cache.config.RedisDistributedProperties;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Runs every {@link CacheWarmer} bean when the application finishes starting.
+ * <p>
+ * {@link ApplicationInitializingEvent} is published from within the {@code ApplicationReadyEvent} listener,
+ * and Spring Boot only switches readiness to {@code ACCEPTING_TRAFFIC} after that listener returns.
+ * Blocking here therefore keeps the instance out of the load balancer until the cache is warm,
+ * bounded by {@link CacheWarmupProperties#getDeadline()}, which covers key discovery as well as loading.
+ * Key queries and batches still running when the deadline passes are abandoned and the application
+ * starts with a partially warmed cache.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheWarmupRunner implements ApplicationListener<ApplicationInitializingEvent> {
+
+    private final DistributedCache distributedCache;
+    private final CacheWarmupProperties warmupProperties;
+    private final RedisDistributedProperties redisProperties;
+
+    @Override
+    public void onApplicationEvent(@NonNull ApplicationInitializingEvent event) {
+        Map<String, CacheWarmer> warmers = ApplicationContextHolder.getBeansOfType(CacheWarmer.class);
+        if (MapUtils.isEmpty(warmers)) {
+            return;
+        }
+        warmup(warmers.values());
+    }
+
+    /**
+     * Runs the warmers, returning once all of them finished or the deadline passed.
+     *
+     * @param warmers the warmers to run
+     */
+    void warmup(Collection<CacheWarmer> warmers) {
+        long start = System.currentTimeMillis();
+        ThreadPoolExecutor executor = ThreadPoolBuilder.builder()
+                .corePoolSize(warmupProperties.getParallelism())
+                .maximumPoolSize(warmupProperties.getParallelism())
+                .workQueue(new LinkedBlockingQueue<>())
+                .threadFactory("cache-warmup", true)
+                .build();
+        AtomicLong warmedCount = new AtomicLong();
+        try {
+            CompletableFuture<?>[] futures = warmers.stream()
+                    .map(warmer -> warmup(warmer, executor, warmedCount))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures)
+                    .get(warmupProperties.getDeadline(), TimeUnit.MILLISECONDS);
+            log.info("Cache warmup finished, {} entries written in {} ms.",
+                    warmedCount.get(), System.currentTimeMillis() - start);
+        } catch (TimeoutException ex) {
+            log.warn("Cache warmup exceeded the {} ms deadline, continuing startup with {} entries written.",
+                    warmupProperties.getDeadline(), warmedCount.get());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.warn("Cache warmup failed.", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Discovers the keys of a warmer on the warmup pool, then loads them in batches.
+     */
+    private CompletableFuture<Void> warmup(CacheWarmer warmer, ThreadPoolExecutor executor, AtomicLong warmedCount) {
+        return CompletableFuture.supplyAsync(warmer::warmupKeys, executor)
+                .thenCompose(keys -> CompletableFuture.allOf(submit(warmer, keys, executor, warmedCount)
+                        .toArray(CompletableFuture[]::new)))
+                .exceptionally(ex -> {
+                    // A failing warmer should not prevent the others from warming up
+                    log.warn("Cache warmer [{}] failed to discover its keys.", warmer.getName(), ex);
+                    return null;
+                });
+    }
+
+    private List<CompletableFuture<Void>> submit(CacheWarmer warmer, Collection<String> keys,
+                                                 ThreadPoolExecutor executor, AtomicLong warmedCount) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return List.of();
+        }
+        int batchSize = warmer.getBatchSize() > 0 ? warmer.getBatchSize() : warmupProperties.getBatchSize();
+        long timeout = warmer.getTimeout() > 0 ? warmer.getTimeout() : redisProperties.getValueTimeout();
+        TimeUnit timeUnit = warmer.getTimeout() > 0 ? warmer.getTimeUnit() : redisProperties.getValueTimeUnit();
+        return ListUtils.partition(List.copyOf(keys), batchSize).stream()
+                .map(batch -> CompletableFuture.runAsync(() -> {
+                    try {
+                        Map<String, ?> values = warmer.load(batch);
+                        if (MapUtils.isEmpty(values)) {
+                            return;
+                        }
+                        Map<String, Object> actual = values.entrySet().stream()
+                                .filter(each -> Objects.nonNull(each.getValue()))
+                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                        distributedCache.putAll(actual, timeout, timeUnit);
+                        warmedCount.addAndGet(actual.size());
+                    } catch (Exception ex) {
+                        // A failing batch should not prevent the others from warming up
+                        log.warn("Cache warmer [{}] failed to load a batch of {} keys.", warmer.getName(), batch.size(), ex);
+                    }
+                }, executor))
+                .toList();
+    }
+}
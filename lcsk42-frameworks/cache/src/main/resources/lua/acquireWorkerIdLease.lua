@@ -0,0 +1,6 @@
+--[[Take the lease key if it is free, return the last timestamp issued under the ID (0 if none), or -1 if the key is taken]]
+
+if (not redis.call('set', KEYS[1], ARGV[1], 'nx', 'px', ARGV[2])) then
+    return -1;
+end
+return tonumber(redis.call('get', KEYS[2]) or '0');
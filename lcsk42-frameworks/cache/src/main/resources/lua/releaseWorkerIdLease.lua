@@ -0,0 +1,8 @@
+--[[Delete the lease key only if it is still held by the given owner, return the number of deleted keys]]
+--[[The issued timestamp key is set to the last timestamp issued under the lease before the key is deleted]]
+
+if (redis.call('get', KEYS[1]) == ARGV[1]) then
+    redis.call('set', KEYS[2], ARGV[2]);
+    return redis.call('del', KEYS[1]);
+end
+return 0;
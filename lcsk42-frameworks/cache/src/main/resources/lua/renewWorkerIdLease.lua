@@ -0,0 +1,16 @@
+--[[Extend the lease key if it is held by the given owner or has expired, return 1 on success, otherwise 0]]
+--[[On success the issued timestamp key is raised to the given bound, it never expires]]
+
+local owner = redis.call('get', KEYS[1]);
+if (owner == ARGV[1]) then
+    redis.call('pexpire', KEYS[1], ARGV[2]);
+elseif (not owner) then
+    redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[2]);
+else
+    return 0;
+end
+local issued = tonumber(redis.call('get', KEYS[2]) or '0');
+if (tonumber(ARGV[3]) > issued) then
+    redis.call('set', KEYS[2], ARGV[3]);
+end
+return 1;
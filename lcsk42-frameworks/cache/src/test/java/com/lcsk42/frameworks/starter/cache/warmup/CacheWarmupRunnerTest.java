@@ -0,0 +1,86 @@
+package com.lcsk42.frameworks.starter.cache.warmup;
+
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.config.CacheWarmupProperties;
+import com.lcsk42.frameworks.starter.cache.config.RedisDistributedProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CacheWarmupRunnerTest {
+
+    private final DistributedCache distributedCache = mock(DistributedCache.class);
+
+    private CacheWarmupRunner runner(long deadline) {
+        CacheWarmupProperties warmupProperties = new CacheWarmupProperties();
+        warmupProperties.setParallelism(2);
+        warmupProperties.setBatchSize(2);
+        warmupProperties.setDeadline(deadline);
+        return new CacheWarmupRunner(distributedCache, warmupProperties, new RedisDistributedProperties());
+    }
+
+    @Test
+    void deadlineBoundsKeyDiscovery() {
+        CountDownLatch never = new CountDownLatch(1);
+        CacheWarmer slow = warmer(() -> {
+            try {
+                never.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of("a");
+        }, keys -> Map.of());
+
+        long start = System.nanoTime();
+        runner(200).warmup(List.of(slow));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 2_000, () -> "Warmup took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void failingWarmerDoesNotStopOthers() {
+        CacheWarmer failingKeys = warmer(() -> {
+            throw new IllegalStateException("key query failed");
+        }, keys -> Map.of());
+        CacheWarmer failingLoad = warmer(() -> List.of("x"), keys -> {
+            throw new IllegalStateException("load failed");
+        });
+        CacheWarmer healthy = warmer(() -> List.of("k1", "k2", "k3"),
+                keys -> keys.stream().collect(Collectors.toMap(key -> key, key -> "v-" + key)));
+
+        runner(5_000).warmup(List.of(failingKeys, failingLoad, healthy));
+
+        // Three keys in batches of two
+        verify(distributedCache, times(2)).putAll(any(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private static CacheWarmer warmer(Supplier<Collection<String>> keys, Function<List<String>, Map<String, ?>> loader) {
+        return new CacheWarmer() {
+            @Override
+            public Collection<String> warmupKeys() {
+                return keys.get();
+            }
+
+            @Override
+            public Map<String, ?> load(List<String> batch) {
+                return loader.apply(batch);
+            }
+        };
+    }
+}
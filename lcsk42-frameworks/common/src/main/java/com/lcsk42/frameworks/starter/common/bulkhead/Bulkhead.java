@@ -0,0 +1,85 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent calls to one downstream dependency, so a slow dependency
+ * exhausts its own bulkhead instead of the shared thread pools.
+ * <p>
+ * Calls beyond the limit fail fast with a {@link BulkheadFullException} instead of queueing up.
+ */
+public interface Bulkhead {
+
+    /**
+     * Returns the name of the bulkhead.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Runs a call within the bulkhead and returns its result. Exceptions of the call are rethrown as they are.
+     *
+     * @param task the call
+     * @param <T>  the result type
+     * @return the result of the call
+     * @throws BulkheadFullException    if the bulkhead is saturated
+     * @throws BulkheadTimeoutException if the call did not finish within the bulkhead's timeout
+     * @throws Exception                if the call failed
+     */
+    <T> T call(Callable<T> task) throws Exception;
+
+    /**
+     * Runs a call within the bulkhead and returns its result.
+     *
+     * @param task the call
+     * @param <T>  the result type
+     * @return the result of the call
+     * @throws BulkheadFullException    if the bulkhead is saturated
+     * @throws BulkheadTimeoutException if the call did not finish within the bulkhead's timeout
+     * @throws CompletionException      if the calling thread was interrupted while waiting
+     */
+    default <T> T get(Supplier<T> task) {
+        try {
+            return call(task::get);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Runs a call within the bulkhead.
+     *
+     * @param task the call
+     * @throws BulkheadFullException    if the bulkhead is saturated
+     * @throws BulkheadTimeoutException if the call did not finish within the bulkhead's timeout
+     * @throws CompletionException      if the calling thread was interrupted while waiting
+     */
+    default void run(Runnable task) {
+        get(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns how many more calls are admitted right now.
+     *
+     * @return free call slots
+     */
+    int getAvailableConcurrentCalls();
+
+    /**
+     * Returns the number of calls rejected because the bulkhead was saturated.
+     *
+     * @return rejected calls
+     */
+    long getRejectedCount();
+}
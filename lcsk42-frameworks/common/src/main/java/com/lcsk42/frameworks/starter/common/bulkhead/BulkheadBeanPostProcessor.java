@@ -0,0 +1,38 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+/**
+ * Wraps the beans listed in the {@link BulkheadSettings#getBeans() bulkhead settings} in a proxy routing
+ * their calls through the bulkhead, e.g. the file service or the distributed cache.
+ * <p>
+ * Beans are proxied by class so they can still be injected by their concrete type; beans that cannot be
+ * subclassed, such as Feign clients, are proxied by their interfaces.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BulkheadBeanPostProcessor implements BeanPostProcessor {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        String bulkheadName = bulkheadRegistry.bulkheadNameForBean(beanName);
+        if (bulkheadName == null) {
+            return bean;
+        }
+        Class<?> beanClass = bean.getClass();
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(!Proxy.isProxyClass(beanClass) && !Modifier.isFinal(beanClass.getModifiers()));
+        proxyFactory.addAdvice(new BulkheadInterceptor(bulkheadRegistry.bulkhead(bulkheadName)));
+        log.info("Calls to bean {} go through bulkhead {}.", beanName, bulkheadName);
+        return proxyFactory.getProxy(beanClass.getClassLoader());
+    }
+}
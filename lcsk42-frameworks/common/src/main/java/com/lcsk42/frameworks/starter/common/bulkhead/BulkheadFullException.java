@@ -0,0 +1,13 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a {@link Bulkhead} admits no further call.
+ */
+public class BulkheadFullException extends RejectedExecutionException {
+
+    public BulkheadFullException(String bulkheadName) {
+        super("Bulkhead " + bulkheadName + " is full.");
+    }
+}
@@ -0,0 +1,34 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.lang.NonNull;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Routes every public method call of a proxied bean, except those of {@link Object}, through a {@link Bulkhead}.
+ */
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements MethodInterceptor {
+
+    private final Bulkhead bulkhead;
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        if (ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+            return invocation.proceed();
+        }
+        return bulkhead.call(() -> {
+            try {
+                return invocation.proceed();
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The bulkheads of an application by name, created from their {@link BulkheadSettings} on first use.
+ * Names without settings get a {@link SemaphoreBulkhead} with the default settings.
+ */
+@Slf4j
+public class BulkheadRegistry implements AutoCloseable {
+
+    private final Map<String, BulkheadSettings> settings;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a registry.
+     *
+     * @param settings bulkhead settings by name
+     */
+    public BulkheadRegistry(@NonNull Map<String, BulkheadSettings> settings) {
+        this.settings = Map.copyOf(settings);
+    }
+
+    /**
+     * Returns the bulkhead of the given name, creating it on first use.
+     *
+     * @param name the bulkhead name, usually the dependency it protects
+     * @return the bulkhead
+     * @throws IllegalArgumentException if the settings of the bulkhead are invalid
+     */
+    public Bulkhead bulkhead(@NonNull String name) {
+        return bulkheads.computeIfAbsent(name, this::create);
+    }
+
+    /**
+     * Returns the bulkheads created so far, sorted by name.
+     *
+     * @return unmodifiable name-to-bulkhead map
+     */
+    public Map<String, Bulkhead> getAll() {
+        return Collections.unmodifiableMap(new TreeMap<>(bulkheads));
+    }
+
+    /**
+     * Returns the name of the bulkhead configured for a bean.
+     *
+     * @param beanName the bean name
+     * @return the bulkhead name, or null if the bean is not configured
+     */
+    public String bulkheadNameForBean(@NonNull String beanName) {
+        for (Map.Entry<String, BulkheadSettings> entry : settings.entrySet()) {
+            if (entry.getValue().getBeans().contains(beanName)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private Bulkhead create(String name) {
+        BulkheadSettings bulkheadSettings = settings.get(name);
+        if (bulkheadSettings == null) {
+            log.info("No settings for bulkhead {}, using the defaults.", name);
+            bulkheadSettings = new BulkheadSettings();
+        }
+        return switch (bulkheadSettings.getType()) {
+            case SEMAPHORE -> new SemaphoreBulkhead(name,
+                    bulkheadSettings.getMaxConcurrentCalls(),
+                    bulkheadSettings.getMaxWait());
+            case THREAD_POOL -> new ThreadPoolBulkhead(name,
+                    bulkheadSettings.getMaxConcurrentCalls(),
+                    bulkheadSettings.getQueueCapacity(),
+                    bulkheadSettings.getTimeout());
+        };
+    }
+
+    @Override
+    public void close() {
+        bulkheads.values().forEach(bulkhead -> {
+            if (bulkhead instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close bulkhead {}.", bulkhead.getName(), ex);
+                }
+            }
+        });
+        bulkheads.clear();
+    }
+}
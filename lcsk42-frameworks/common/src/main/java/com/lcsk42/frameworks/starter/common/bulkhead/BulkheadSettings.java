@@ -0,0 +1,43 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of one {@link Bulkhead}.
+ */
+@Data
+public class BulkheadSettings {
+
+    /**
+     * How calls are isolated
+     */
+    private BulkheadType type = BulkheadType.SEMAPHORE;
+
+    /**
+     * Calls running at the same time, the pool size for thread pool bulkheads
+     */
+    private Integer maxConcurrentCalls = 25;
+
+    /**
+     * Time in milliseconds a semaphore bulkhead waits for a free slot, 0 to fail immediately
+     */
+    private Long maxWait = 0L;
+
+    /**
+     * Calls a thread pool bulkhead queues while all threads are busy
+     */
+    private Integer queueCapacity = 0;
+
+    /**
+     * Time in milliseconds a caller waits for a call in a thread pool bulkhead, 0 to wait indefinitely
+     */
+    private Long timeout = 0L;
+
+    /**
+     * Names of the beans whose calls go through this bulkhead, e.g. "fileService" or "stringRedisTemplateProxy"
+     */
+    private List<String> beans = new ArrayList<>();
+}
@@ -0,0 +1,11 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+/**
+ * Thrown when a call in a {@link ThreadPoolBulkhead} does not finish in time. The call is interrupted.
+ */
+public class BulkheadTimeoutException extends RuntimeException {
+
+    public BulkheadTimeoutException(String bulkheadName, long timeoutMillis) {
+        super("Call in bulkhead " + bulkheadName + " did not finish within " + timeoutMillis + " ms.");
+    }
+}
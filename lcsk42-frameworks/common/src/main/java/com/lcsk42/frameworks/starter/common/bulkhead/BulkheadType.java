@@ -0,0 +1,19 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+/**
+ * How a {@link Bulkhead} isolates calls.
+ */
+public enum BulkheadType {
+
+    /**
+     * Calls run on the calling thread, a semaphore limits how many at a time. Cheap, but the caller
+     * waits as long as the dependency takes.
+     */
+    SEMAPHORE,
+
+    /**
+     * Calls run on a dedicated pool and the caller waits at most the timeout. Costs a thread hop,
+     * thread-bound context of the caller reaches the call only through the registered task decorators.
+     */
+    THREAD_POOL
+}
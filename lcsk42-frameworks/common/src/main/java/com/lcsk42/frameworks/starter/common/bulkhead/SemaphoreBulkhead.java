@@ -0,0 +1,69 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import lombok.Getter;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Bulkhead} running calls on the calling thread, at most a fixed number at a time.
+ */
+public class SemaphoreBulkhead implements Bulkhead {
+
+    @Getter
+    private final String name;
+
+    private final Semaphore semaphore;
+
+    private final long maxWaitMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a bulkhead.
+     *
+     * @param name               the bulkhead name
+     * @param maxConcurrentCalls calls admitted at the same time
+     * @param maxWaitMillis      time to wait for a free slot, 0 to fail immediately
+     * @throws IllegalArgumentException if maxConcurrentCalls is not positive or maxWaitMillis is negative
+     */
+    public SemaphoreBulkhead(String name, int maxConcurrentCalls, long maxWaitMillis) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("Maximum concurrent calls must be positive");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Maximum wait must be non-negative");
+        }
+        this.name = name;
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public <T> T call(Callable<T> task) throws Exception {
+        boolean acquired = maxWaitMillis == 0L
+                ? semaphore.tryAcquire()
+                : semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        if (!acquired) {
+            rejectedCount.increment();
+            throw new BulkheadFullException(name);
+        }
+        try {
+            return task.call();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    @Override
+    public int getAvailableConcurrentCalls() {
+        return semaphore.availablePermits();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
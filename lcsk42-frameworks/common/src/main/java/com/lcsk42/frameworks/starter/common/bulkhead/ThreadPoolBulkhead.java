@@ -0,0 +1,108 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import lombok.Getter;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Bulkhead} running calls on a dedicated thread pool, so callers can give up on a hanging
+ * dependency after a timeout. The pool is registered as "bulkhead-&lt;name&gt;" and therefore shows up
+ * in the thread pool metrics and can be resized like the other framework pools.
+ */
+public class ThreadPoolBulkhead implements Bulkhead, AutoCloseable {
+
+    @Getter
+    private final String name;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a bulkhead.
+     *
+     * @param name               the bulkhead name
+     * @param maxConcurrentCalls threads of the pool
+     * @param queueCapacity      calls queued while all threads are busy, 0 for none
+     * @param timeoutMillis      time a caller waits for a call, 0 to wait indefinitely
+     * @throws IllegalArgumentException if a size is out of range or timeoutMillis is negative
+     */
+    public ThreadPoolBulkhead(String name, int maxConcurrentCalls, int queueCapacity, long timeoutMillis) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("Maximum concurrent calls must be positive");
+        }
+        if (queueCapacity < 0 || timeoutMillis < 0) {
+            throw new IllegalArgumentException("Queue capacity and timeout must be non-negative");
+        }
+        this.name = name;
+        this.timeoutMillis = timeoutMillis;
+        ThreadPoolBuilder builder = ThreadPoolBuilder.builder()
+                .threadFactory("bulkhead-" + name + "-", true)
+                .poolName("bulkhead-" + name)
+                .corePoolSize(maxConcurrentCalls)
+                .maximumPoolSize(maxConcurrentCalls)
+                .rejected(new ThreadPoolExecutor.AbortPolicy());
+        if (queueCapacity == 0) {
+            builder.workQueue(new SynchronousQueue<>());
+        } else {
+            builder.queueCapacity(queueCapacity);
+        }
+        this.executor = builder.build();
+    }
+
+    @Override
+    public <T> T call(Callable<T> task) throws Exception {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejectedCount.increment();
+            throw new BulkheadFullException(name);
+        }
+        try {
+            return timeoutMillis == 0L ? future.get() : future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new BulkheadTimeoutException(name, timeoutMillis);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            throw ex;
+        }
+    }
+
+    @Override
+    public int getAvailableConcurrentCalls() {
+        return Math.max(0, executor.getMaximumPoolSize() - executor.getActiveCount())
+                + executor.getQueue().remainingCapacity();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,33 @@
+package com.lcsk42.frameworks.starter.common.codec;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Writes a {@code Long} ID property as a compact {@link IdCodec} string instead of a decimal string.
+ * <p>
+ * Opt in per property, clients of the annotated field must decode the same encoding:
+ * <pre>{@code
+ * @CompactId
+ * private Long id;
+ * }</pre>
+ * Reading also accepts plain JSON numbers.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = CompactIdSerializer.class)
+@JsonDeserialize(using = CompactIdDeserializer.class)
+public @interface CompactId {
+
+    /**
+     * Encoding of the ID.
+     */
+    IdCodec value() default IdCodec.BASE62;
+}
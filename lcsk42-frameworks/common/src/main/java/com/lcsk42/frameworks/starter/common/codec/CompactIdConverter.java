@@ -0,0 +1,22 @@
+package com.lcsk42.frameworks.starter.common.codec;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+
+/**
+ * Converts a compact {@link IdCodec} string, e.g. a path variable, to a {@code Long} ID.
+ * <p>
+ * Not registered by default: adding it to the global conversion service changes how every
+ * {@code Long} request parameter is parsed, so applications only register it where all such
+ * parameters are compact IDs.
+ */
+@RequiredArgsConstructor
+public class CompactIdConverter implements Converter<String, Long> {
+
+    private final IdCodec codec;
+
+    @Override
+    public Long convert(String source) {
+        return codec.decode(source.strip());
+    }
+}
@@ -0,0 +1,54 @@
+package com.lcsk42.frameworks.starter.common.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Deserializes a {@code Long} ID encoded with the {@link IdCodec} selected by {@link CompactId}.
+ * The encoded text is read from the parser's buffer without creating a {@link String}.
+ */
+public class CompactIdDeserializer extends StdDeserializer<Long> implements ContextualDeserializer {
+
+    private final IdCodec codec;
+
+    public CompactIdDeserializer() {
+        this(IdCodec.BASE62);
+    }
+
+    public CompactIdDeserializer(IdCodec codec) {
+        super(Long.class);
+        this.codec = codec;
+    }
+
+    @Override
+    public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+        }
+        try {
+            return codec.decode(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        } catch (IllegalArgumentException ex) {
+            throw ctxt.weirdStringException(p.getText(), Long.class, ex.getMessage());
+        }
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        CompactId compactId = Objects.isNull(property) ? null : property.getAnnotation(CompactId.class);
+        if (Objects.isNull(compactId) || compactId.value() == codec) {
+            return this;
+        }
+        return new CompactIdDeserializer(compactId.value());
+    }
+}
@@ -0,0 +1,43 @@
+package com.lcsk42.frameworks.starter.common.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Serializes a {@code Long} ID with the {@link IdCodec} selected by {@link CompactId}.
+ */
+public class CompactIdSerializer extends StdSerializer<Long> implements ContextualSerializer {
+
+    private final IdCodec codec;
+
+    public CompactIdSerializer() {
+        this(IdCodec.BASE62);
+    }
+
+    public CompactIdSerializer(IdCodec codec) {
+        super(Long.class);
+        this.codec = codec;
+    }
+
+    @Override
+    public void serialize(Long value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[codec.getMaxLength()];
+        gen.writeString(buffer, 0, codec.encode(value, buffer, 0));
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        CompactId compactId = Objects.isNull(property) ? null : property.getAnnotation(CompactId.class);
+        if (Objects.isNull(compactId) || compactId.value() == codec) {
+            return this;
+        }
+        return new CompactIdSerializer(compactId.value());
+    }
+}
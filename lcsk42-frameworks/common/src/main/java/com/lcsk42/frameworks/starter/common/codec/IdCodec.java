@@ -0,0 +1,255 @@
+package com.lcsk42.frameworks.starter.common.codec;
+
+import java.util.Arrays;
+
+/**
+ * Compact text encodings for 64-bit IDs.
+ * <p>
+ * IDs are treated as unsigned and encoded without leading zeros. Encoding writes straight into a
+ * caller-provided {@code char[]} or {@code byte[]} and allocates nothing, decoding reads from one
+ * without creating a {@link String}. A Snowflake ID takes 11 characters in {@link #BASE62} and 13 in
+ * {@link #CROCKFORD_BASE32} instead of 19 decimal digits.
+ */
+public enum IdCodec {
+
+    /**
+     * Digits, upper case and lower case letters. Encoded values of the same length sort like the IDs
+     * in ASCII order.
+     */
+    BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", false),
+
+    /**
+     * Crockford's base32: digits and upper case letters without I, L, O and U. Decoding ignores case
+     * and reads I and L as 1 and O as 0, so values survive being read aloud or typed by hand.
+     */
+    CROCKFORD_BASE32("0123456789ABCDEFGHJKMNPQRSTVWXYZ", true);
+
+    private final char[] alphabet;
+
+    private final int radix;
+
+    /**
+     * Bits per digit for power-of-two radixes, 0 otherwise.
+     */
+    private final int shift;
+
+    /**
+     * Maximum number of characters of an encoded ID.
+     */
+    private final int maxLength;
+
+    /**
+     * Largest unsigned value that can be multiplied by the radix without overflow.
+     */
+    private final long overflowLimit;
+
+    /**
+     * {@code powers[i]} is the smallest unsigned value with {@code i + 1} digits.
+     */
+    private final long[] powers;
+
+    /**
+     * Digit value per ASCII character, -1 for characters outside the alphabet.
+     */
+    private final byte[] digits = new byte[128];
+
+    IdCodec(String alphabet, boolean crockfordAliases) {
+        this.alphabet = alphabet.toCharArray();
+        this.radix = alphabet.length();
+        this.shift = Integer.bitCount(radix) == 1 ? Integer.numberOfTrailingZeros(radix) : 0;
+
+        this.overflowLimit = Long.divideUnsigned(-1L, radix);
+        long[] values = new long[64];
+        int length = 1;
+        long power = 1;
+        // Stop once the next power no longer fits into 64 unsigned bits
+        while (Long.compareUnsigned(power, overflowLimit) <= 0) {
+            power *= radix;
+            values[length++] = power;
+        }
+        this.maxLength = length;
+        this.powers = Arrays.copyOf(values, length);
+
+        Arrays.fill(digits, (byte) -1);
+        for (int i = 0; i < radix; i++) {
+            char c = this.alphabet[i];
+            digits[c] = (byte) i;
+            if (crockfordAliases) {
+                digits[Character.toLowerCase(c)] = (byte) i;
+            }
+        }
+        if (crockfordAliases) {
+            digits['I'] = digits['i'] = digits['L'] = digits['l'] = 1;
+            digits['O'] = digits['o'] = 0;
+        }
+    }
+
+    /**
+     * Maximum number of characters of an encoded ID, the buffer size that fits any ID.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Number of characters the given ID encodes to.
+     *
+     * @param id the ID
+     * @return encoded length
+     */
+    public int encodedLength(long id) {
+        int length = 1;
+        while (length < maxLength && Long.compareUnsigned(id, powers[length]) >= 0) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Encodes an ID into a char buffer.
+     *
+     * @param id     the ID
+     * @param dst    destination buffer
+     * @param offset position of the first character
+     * @return number of characters written
+     * @throws IndexOutOfBoundsException if the buffer is too small, see {@link #encodedLength(long)}
+     */
+    public int encode(long id, char[] dst, int offset) {
+        int length = encodedLength(id);
+        int pos = offset + length;
+        if (shift > 0) {
+            long mask = radix - 1;
+            do {
+                dst[--pos] = alphabet[(int) (id & mask)];
+                id >>>= shift;
+            } while (id != 0);
+        } else {
+            if (id < 0) {
+                long quotient = Long.divideUnsigned(id, radix);
+                dst[--pos] = alphabet[(int) (id - quotient * radix)];
+                id = quotient;
+            }
+            do {
+                dst[--pos] = alphabet[(int) (id % radix)];
+                id /= radix;
+            } while (id != 0);
+        }
+        return length;
+    }
+
+    /**
+     * Encodes an ID into a byte buffer as ASCII.
+     *
+     * @param id     the ID
+     * @param dst    destination buffer
+     * @param offset position of the first byte
+     * @return number of bytes written
+     * @throws IndexOutOfBoundsException if the buffer is too small, see {@link #encodedLength(long)}
+     */
+    public int encode(long id, byte[] dst, int offset) {
+        int length = encodedLength(id);
+        int pos = offset + length;
+        if (shift > 0) {
+            long mask = radix - 1;
+            do {
+                dst[--pos] = (byte) alphabet[(int) (id & mask)];
+                id >>>= shift;
+            } while (id != 0);
+        } else {
+            if (id < 0) {
+                long quotient = Long.divideUnsigned(id, radix);
+                dst[--pos] = (byte) alphabet[(int) (id - quotient * radix)];
+                id = quotient;
+            }
+            do {
+                dst[--pos] = (byte) alphabet[(int) (id % radix)];
+                id /= radix;
+            } while (id != 0);
+        }
+        return length;
+    }
+
+    /**
+     * Encodes an ID into a new string.
+     *
+     * @param id the ID
+     * @return encoded ID
+     */
+    public String encode(long id) {
+        char[] buffer = new char[maxLength];
+        return new String(buffer, 0, encode(id, buffer, 0));
+    }
+
+    /**
+     * Decodes an ID.
+     *
+     * @param src encoded ID
+     * @return the ID
+     * @throws IllegalArgumentException if the text is not a valid encoded ID
+     */
+    public long decode(CharSequence src) {
+        int length = src.length();
+        checkLength(length);
+        long id = 0;
+        for (int i = 0; i < length; i++) {
+            id = accumulate(id, src.charAt(i));
+        }
+        return id;
+    }
+
+    /**
+     * Decodes an ID from a char buffer.
+     *
+     * @param src    source buffer
+     * @param offset position of the first character
+     * @param length number of characters
+     * @return the ID
+     * @throws IllegalArgumentException if the characters are not a valid encoded ID
+     */
+    public long decode(char[] src, int offset, int length) {
+        checkLength(length);
+        long id = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            id = accumulate(id, src[i]);
+        }
+        return id;
+    }
+
+    /**
+     * Decodes an ID from an ASCII byte buffer.
+     *
+     * @param src    source buffer
+     * @param offset position of the first byte
+     * @param length number of bytes
+     * @return the ID
+     * @throws IllegalArgumentException if the bytes are not a valid encoded ID
+     */
+    public long decode(byte[] src, int offset, int length) {
+        checkLength(length);
+        long id = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            id = accumulate(id, (char) (src[i] & 0xFF));
+        }
+        return id;
+    }
+
+    private void checkLength(int length) {
+        if (length == 0 || length > maxLength) {
+            throw new IllegalArgumentException(
+                    String.format("Encoded id must have 1 to %d characters, got %d", maxLength, length));
+        }
+    }
+
+    private long accumulate(long id, char c) {
+        int digit = c < 128 ? digits[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException(String.format("Illegal character '%c' in %s id", c, name()));
+        }
+        long shifted = id * radix;
+        long next = shifted + digit;
+        if (Long.compareUnsigned(id, overflowLimit) > 0 || Long.compareUnsigned(next, shifted) < 0) {
+            throw new IllegalArgumentException(String.format("Encoded %s id exceeds 64 bits", name()));
+        }
+        return next;
+    }
+}
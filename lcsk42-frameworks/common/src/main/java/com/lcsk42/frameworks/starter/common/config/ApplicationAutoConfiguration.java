@@ -1,19 +1,54 @@
 package com.lcsk42.frameworks.starter.common.config;
 
 import com.lcsk42.frameworks.starter.base.ApplicationContextHolder;
+import com.lcsk42.frameworks.starter.base.Singleton;
 import com.lcsk42.frameworks.starter.base.init.ApplicationContentPostProcessor;
+import com.lcsk42.frameworks.starter.base.time.CachedTimeSource;
+import com.lcsk42.frameworks.starter.base.time.TimeSource;
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
+import com.lcsk42.frameworks.starter.common.context.RequestContextTaskDecorator;
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import com.lcsk42.frameworks.starter.common.snowflake.DriftTolerantSnowflake;
+import com.lcsk42.frameworks.starter.common.snowflake.LockFreeSnowflake;
+import com.lcsk42.frameworks.starter.common.snowflake.Snowflake;
+import com.lcsk42.frameworks.starter.common.snowflake.WorkerIdLease;
+import com.lcsk42.frameworks.starter.common.snowflake.WorkerIdLeaseManager;
+import com.lcsk42.frameworks.starter.common.threadpool.build.SpillRetryPolicyBuilder;
 import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.ThreadPoolAlarmMonitor;
+import com.lcsk42.frameworks.starter.common.threadpool.spill.SpillRetryPolicy;
+import com.lcsk42.frameworks.starter.common.threadpool.tuning.ThreadPoolAutoTuner;
+import com.lcsk42.frameworks.starter.common.threadpool.virtual.VirtualThreadExecutor;
+import com.lcsk42.frameworks.starter.common.util.GlobalThreadPool;
+import com.lcsk42.frameworks.starter.common.util.IdUtil;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
+import java.nio.file.Path;
+import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Spring Boot auto-configuration class for application-level beans.
  * Provides default implementations for core application components.
  */
+@EnableConfigurationProperties({
+        SnowflakeProperties.class,
+        ThreadPoolProperties.class,
+        ThreadPoolAlarmProperties.class,
+        ThreadPoolSpillProperties.class,
+        ThreadPoolTuningProperties.class,
+        TimeSourceProperties.class
+})
 public class ApplicationAutoConfiguration {
     /**
      * Creates an ApplicationContextHolder bean if none exists.
@@ -38,19 +73,168 @@ public class ApplicationAutoConfiguration {
         return new ApplicationContentPostProcessor(applicationContext);
     }
 
+    /**
+     * Creates the clock used for timestamps and installs it in the {@link TimeSourceHolder}.
+     * A cached clock is closed with the context, timestamps then read the system clock.
+     *
+     * @param timeSourceProperties clock settings
+     * @return the installed TimeSource
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TimeSource timeSource(TimeSourceProperties timeSourceProperties) {
+        TimeSource timeSource = Boolean.TRUE.equals(timeSourceProperties.getPrecise())
+                ? TimeSource.PRECISE
+                : new CachedTimeSource(timeSourceProperties.getTickMillis(), "time-source");
+        TimeSourceHolder.install(timeSource);
+        return timeSource;
+    }
+
+    /**
+     * Creates the decorator carrying the bound request context into tasks of the framework pools
+     * and fan-out helpers, and registers it.
+     *
+     * @return the registered RequestContextTaskDecorator
+     */
+    @Bean
+    public RequestContextTaskDecorator requestContextTaskDecorator() {
+        RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+        TaskDecoratorRegistry.register(decorator);
+        return decorator;
+    }
+
     /**
      * Creates the primary task executor bean.
      * Configures a default thread pool with:
      * - Thread name prefix "default-pool-"
      * - Non-daemon threads
+     * With virtual threads enabled, both this executor and the {@link GlobalThreadPool} run every
+     * task on a new virtual thread instead.
+     * Otherwise it is registered as "task-executor" in the {@link ThreadPoolRegistry}, which also
+     * receives the configured per-pool settings here, and both pools retry rejected tasks if a
+     * {@link SpillRetryPolicy} is configured. Tasks the policy journaled in a previous run are resumed
+     * once both pools exist.
      *
-     * @return configured ThreadPoolExecutor instance
+     * @param threadPoolProperties thread pool settings
+     * @param spillRetryPolicies   optional rejection policy retrying rejected tasks
+     * @return configured ThreadPoolExecutor or VirtualThreadExecutor instance
      */
     @Bean
     @Primary
-    public Executor taskExecutor() {
-        return ThreadPoolBuilder.builder()
+    public Executor taskExecutor(ThreadPoolProperties threadPoolProperties,
+                                 ObjectProvider<SpillRetryPolicy> spillRetryPolicies) {
+        ThreadPoolRegistry.configure(threadPoolProperties.getPools());
+        if (Boolean.TRUE.equals(threadPoolProperties.getVirtual())) {
+            GlobalThreadPool.configure(() -> virtualThreadPool("global-", threadPoolProperties));
+            return virtualThreadPool("default-pool-", threadPoolProperties);
+        }
+        ThreadPoolBuilder builder = ThreadPoolBuilder.builder()
                 .threadFactory("default-pool-", false)
+                .poolName("task-executor");
+        SpillRetryPolicy spillRetryPolicy = spillRetryPolicies.getIfAvailable();
+        if (Objects.isNull(spillRetryPolicy)) {
+            return builder.build();
+        }
+        GlobalThreadPool.configure(spillRetryPolicy);
+        ThreadPoolExecutor executor = builder.rejected(spillRetryPolicy).build();
+        if (spillRetryPolicy.getJournalSize() > 0) {
+            // The global pool is created on first use, journaled tasks may be waiting for it
+            GlobalThreadPool.getExecutor();
+        }
+        spillRetryPolicy.resumeJournal();
+        return executor;
+    }
+
+    /**
+     * Creates the rejection policy retrying rejected tasks of the framework pools.
+     *
+     * @param threadPoolSpillProperties spill and retry settings
+     * @return started SpillRetryPolicy instance
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = ThreadPoolSpillProperties.PREFIX, name = "enabled", havingValue = "true")
+    public SpillRetryPolicy spillRetryPolicy(ThreadPoolSpillProperties threadPoolSpillProperties) {
+        SpillRetryPolicyBuilder builder = SpillRetryPolicyBuilder.builder()
+                .capacity(threadPoolSpillProperties.getCapacity())
+                .backoff(threadPoolSpillProperties.getInitialBackoff(), threadPoolSpillProperties.getMaxBackoff())
+                .maxRetries(threadPoolSpillProperties.getMaxRetries());
+        if (StringUtils.isNotBlank(threadPoolSpillProperties.getJournalDirectory())) {
+            builder.journal(Path.of(threadPoolSpillProperties.getJournalDirectory()),
+                    threadPoolSpillProperties.getJournalAllowedClasses().toArray(String[]::new));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the monitor publishing alarm events for saturated thread pools.
+     *
+     * @param threadPoolAlarmProperties alarm thresholds
+     * @param applicationEventPublisher receives the alarm events
+     * @return started ThreadPoolAlarmMonitor instance
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = ThreadPoolAlarmProperties.PREFIX, name = "enabled", havingValue = "true")
+    public ThreadPoolAlarmMonitor threadPoolAlarmMonitor(ThreadPoolAlarmProperties threadPoolAlarmProperties,
+                                                         ApplicationEventPublisher applicationEventPublisher) {
+        ThreadPoolAlarmMonitor monitor = new ThreadPoolAlarmMonitor(applicationEventPublisher,
+                threadPoolAlarmProperties.getActiveThreshold(),
+                threadPoolAlarmProperties.getQueueThreshold(),
+                threadPoolAlarmProperties.getSustainedChecks());
+        monitor.start(threadPoolAlarmProperties.getInterval());
+        return monitor;
+    }
+
+    /**
+     * Creates the tuner sizing the configured pools from their measured load.
+     *
+     * @param threadPoolTuningProperties pools to tune and their bounds
+     * @return started ThreadPoolAutoTuner instance
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = ThreadPoolTuningProperties.PREFIX, name = "enabled", havingValue = "true")
+    public ThreadPoolAutoTuner threadPoolAutoTuner(ThreadPoolTuningProperties threadPoolTuningProperties) {
+        ThreadPoolAutoTuner tuner = new ThreadPoolAutoTuner(threadPoolTuningProperties.getPools(),
+                threadPoolTuningProperties.getCooldownSamples());
+        tuner.start(threadPoolTuningProperties.getInterval());
+        return tuner;
+    }
+
+    private static VirtualThreadExecutor virtualThreadPool(String threadNamePrefix, ThreadPoolProperties threadPoolProperties) {
+        return ThreadPoolBuilder.virtual()
+                .threadFactory(threadNamePrefix)
+                .maxConcurrency(threadPoolProperties.getMaxConcurrency())
+                .maxPending(threadPoolProperties.getMaxPending())
                 .build();
     }
+
+    /**
+     * Creates the Snowflake generator and installs it as the one used by {@link IdUtil}.
+     * Uses the leased worker ID if a {@link WorkerIdLeaseManager} is present, and tolerates clock drift
+     * if a borrowing bound is configured.
+     *
+     * @param snowflakeProperties   Snowflake settings
+     * @param workerIdLeaseManagers optional worker ID lease manager
+     * @param timeSource            the clock of the generator, installed before any id is generated
+     * @return the generator used by {@link IdUtil}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public Snowflake snowflake(SnowflakeProperties snowflakeProperties,
+                               ObjectProvider<WorkerIdLeaseManager> workerIdLeaseManagers,
+                               TimeSource timeSource) {
+        WorkerIdLeaseManager workerIdLeaseManager = workerIdLeaseManagers.getIfAvailable();
+        long maxBorrow = snowflakeProperties.getMaxBorrow();
+        if (Objects.isNull(workerIdLeaseManager) && maxBorrow == 0) {
+            return IdUtil.getSnowflake();
+        }
+        Snowflake snowflake;
+        if (Objects.nonNull(workerIdLeaseManager)) {
+            WorkerIdLease lease = workerIdLeaseManager.getLease();
+            snowflake = maxBorrow > 0 ? new DriftTolerantSnowflake(lease, maxBorrow) : new LockFreeSnowflake(lease);
+        } else {
+            snowflake = new DriftTolerantSnowflake(maxBorrow);
+        }
+        Singleton.put(Snowflake.class.getName(), snowflake);
+        return snowflake;
+    }
 }
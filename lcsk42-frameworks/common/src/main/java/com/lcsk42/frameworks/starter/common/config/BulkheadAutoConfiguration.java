@@ -0,0 +1,30 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.bulkhead.BulkheadBeanPostProcessor;
+import com.lcsk42.frameworks.starter.common.bulkhead.BulkheadRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Bulkheads isolating downstream dependencies from each other.
+ * Both beans are static and bind their settings directly, since the post-processor is created
+ * before configuration properties beans are.
+ */
+@ConditionalOnProperty(prefix = BulkheadProperties.PREFIX, name = "enabled", havingValue = "true")
+public class BulkheadAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public static BulkheadRegistry bulkheadRegistry(Environment environment) {
+        BulkheadProperties bulkheadProperties = Binder.get(environment)
+                .bind(BulkheadProperties.PREFIX, BulkheadProperties.class)
+                .orElseGet(BulkheadProperties::new);
+        return new BulkheadRegistry(bulkheadProperties.getInstances());
+    }
+
+    @Bean
+    public static BulkheadBeanPostProcessor bulkheadBeanPostProcessor(BulkheadRegistry bulkheadRegistry) {
+        return new BulkheadBeanPostProcessor(bulkheadRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.bulkhead.BulkheadSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = BulkheadProperties.PREFIX)
+public class BulkheadProperties {
+
+    public static final String PREFIX = "framework.common.bulkhead";
+
+    /**
+     * Whether to provide the bulkhead registry and wrap the configured beans
+     */
+    private Boolean enabled = Boolean.FALSE;
+
+    /**
+     * Bulkheads by name, usually one per downstream dependency such as "file", "cache" or "mq"
+     */
+    private Map<String, BulkheadSettings> instances = new LinkedHashMap<>();
+}
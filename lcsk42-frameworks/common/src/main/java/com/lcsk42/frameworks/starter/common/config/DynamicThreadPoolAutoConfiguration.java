@@ -0,0 +1,18 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Runtime thread pool resizing, active only when Spring Cloud Context publishes environment changes.
+ */
+@ConditionalOnClass(EnvironmentChangeEvent.class)
+public class DynamicThreadPoolAutoConfiguration {
+
+    @Bean
+    public ThreadPoolRefreshListener threadPoolRefreshListener(Environment environment) {
+        return new ThreadPoolRefreshListener(environment);
+    }
+}
@@ -0,0 +1,19 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.jwt.VerifiedTokenCacheMeterBinder;
+import com.lcsk42.frameworks.starter.common.util.JwtUtil;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * JWT verified-token cache metrics, active only when Micrometer is on the classpath.
+ */
+@ConditionalOnClass(MeterBinder.class)
+public class JwtMetricsAutoConfiguration {
+
+    @Bean
+    public VerifiedTokenCacheMeterBinder verifiedTokenCacheMeterBinder() {
+        return new VerifiedTokenCacheMeterBinder(JwtUtil.getTokenCache());
+    }
+}
@@ -0,0 +1,19 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.snowflake.Snowflake;
+import com.lcsk42.frameworks.starter.common.snowflake.SnowflakeMeterBinder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Snowflake metrics, active only when Micrometer is on the classpath.
+ */
+@ConditionalOnClass(MeterBinder.class)
+public class SnowflakeMetricsAutoConfiguration {
+
+    @Bean
+    public SnowflakeMeterBinder snowflakeMeterBinder(Snowflake snowflake) {
+        return new SnowflakeMeterBinder(snowflake);
+    }
+}
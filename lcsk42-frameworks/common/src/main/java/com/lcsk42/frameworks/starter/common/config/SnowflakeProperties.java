@@ -0,0 +1,17 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = SnowflakeProperties.PREFIX)
+public class SnowflakeProperties {
+
+    public static final String PREFIX = "framework.common.snowflake";
+
+    /**
+     * Maximum time (milliseconds) IDs may be issued ahead of the clock to ride out clock steps backwards
+     * and bursts above 4096 IDs per millisecond, 0 keeps the strict lock-free generator
+     */
+    private Long maxBorrow = 0L;
+}
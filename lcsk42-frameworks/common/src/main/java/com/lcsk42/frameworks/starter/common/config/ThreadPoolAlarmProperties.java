@@ -0,0 +1,36 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = ThreadPoolAlarmProperties.PREFIX)
+public class ThreadPoolAlarmProperties {
+
+    public static final String PREFIX = "framework.common.thread-pool.alarm";
+
+    /**
+     * Whether to publish alarm events when thread pools stay saturated
+     */
+    private Boolean enabled = Boolean.FALSE;
+
+    /**
+     * Active threads in percent of the maximum pool size that raises an alarm, 0 to disable
+     */
+    private Integer activeThreshold = 80;
+
+    /**
+     * Queued tasks in percent of the queue capacity that raises an alarm, 0 to disable
+     */
+    private Integer queueThreshold = 80;
+
+    /**
+     * Consecutive checks above a threshold before the alarm fires
+     */
+    private Integer sustainedChecks = 3;
+
+    /**
+     * Time between checks in milliseconds
+     */
+    private Long interval = 5_000L;
+}
@@ -0,0 +1,20 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Thread pool actuator endpoint, active only when Spring Boot Actuator is on the classpath.
+ */
+@ConditionalOnClass(Endpoint.class)
+public class ThreadPoolEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public ThreadPoolEndpoint threadPoolEndpoint() {
+        return new ThreadPoolEndpoint();
+    }
+}
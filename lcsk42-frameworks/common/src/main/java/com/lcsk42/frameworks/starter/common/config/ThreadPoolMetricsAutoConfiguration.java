@@ -0,0 +1,27 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.ThreadPoolMeterBinder;
+import com.lcsk42.frameworks.starter.common.threadpool.spill.SpillRetryMeterBinder;
+import com.lcsk42.frameworks.starter.common.threadpool.spill.SpillRetryPolicy;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Thread pool metrics, active only when Micrometer is on the classpath.
+ */
+@ConditionalOnClass(MeterBinder.class)
+public class ThreadPoolMetricsAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ThreadPoolMeterBinder threadPoolMeterBinder() {
+        return new ThreadPoolMeterBinder();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = ThreadPoolSpillProperties.PREFIX, name = "enabled", havingValue = "true")
+    public SpillRetryMeterBinder spillRetryMeterBinder(SpillRetryPolicy spillRetryPolicy) {
+        return new SpillRetryMeterBinder(spillRetryPolicy);
+    }
+}
@@ -0,0 +1,36 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = ThreadPoolProperties.PREFIX)
+public class ThreadPoolProperties {
+
+    public static final String PREFIX = "framework.common.thread-pool";
+
+    /**
+     * Whether the taskExecutor bean and the global thread pool run tasks on virtual threads
+     */
+    private Boolean virtual = Boolean.FALSE;
+
+    /**
+     * Maximum number of tasks running at once on virtual threads, 0 for no limit
+     */
+    private Integer maxConcurrency = 0;
+
+    /**
+     * Maximum number of tasks accepted but not finished on virtual threads, 0 for no limit
+     */
+    private Integer maxPending = 0;
+
+    /**
+     * Settings of framework-built thread pools by registry name, e.g. "global" or "task-executor".
+     * Changes are applied at runtime when the environment is refreshed.
+     */
+    private Map<String, ThreadPoolSettings> pools = new LinkedHashMap<>();
+}
@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+/**
+ * Re-applies the thread pool settings to the {@link ThreadPoolRegistry} when the environment
+ * changes, e.g. after a configuration refresh.
+ */
+@RequiredArgsConstructor
+public class ThreadPoolRefreshListener implements ApplicationListener<EnvironmentChangeEvent> {
+
+    private final Environment environment;
+
+    @Override
+    public void onApplicationEvent(@NonNull EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(ThreadPoolProperties.PREFIX))) {
+            return;
+        }
+        // Bind afresh instead of reading the properties bean, which may not be rebound yet
+        ThreadPoolProperties threadPoolProperties = Binder.get(environment)
+                .bind(ThreadPoolProperties.PREFIX, ThreadPoolProperties.class)
+                .orElseGet(ThreadPoolProperties::new);
+        ThreadPoolRegistry.configure(threadPoolProperties.getPools());
+    }
+}
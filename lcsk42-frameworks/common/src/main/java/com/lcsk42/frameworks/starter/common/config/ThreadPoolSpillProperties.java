@@ -0,0 +1,50 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = ThreadPoolSpillProperties.PREFIX)
+public class ThreadPoolSpillProperties {
+
+    public static final String PREFIX = "framework.common.thread-pool.spill";
+
+    /**
+     * Whether the taskExecutor bean and the global thread pool retry rejected tasks instead of aborting them
+     */
+    private Boolean enabled = Boolean.FALSE;
+
+    /**
+     * Maximum number of rejected tasks held in memory for retry
+     */
+    private Integer capacity = 1024;
+
+    /**
+     * Delay before the first retry in milliseconds, doubled on every further retry
+     */
+    private Long initialBackoff = 50L;
+
+    /**
+     * Upper bound of the retry delay in milliseconds
+     */
+    private Long maxBackoff = 5_000L;
+
+    /**
+     * Number of retries before a task is dropped
+     */
+    private Integer maxRetries = 10;
+
+    /**
+     * Directory journaling serializable tasks when the in-memory queue is full, none if empty
+     */
+    private String journalDirectory;
+
+    /**
+     * Task classes the journal may read back, as ObjectInputFilter patterns such as com.example.tasks.**,
+     * required with a journal directory
+     */
+    private List<String> journalAllowedClasses = new ArrayList<>();
+}
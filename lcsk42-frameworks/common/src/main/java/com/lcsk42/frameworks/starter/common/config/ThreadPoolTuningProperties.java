@@ -0,0 +1,35 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import com.lcsk42.frameworks.starter.common.threadpool.tuning.TuningBounds;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = ThreadPoolTuningProperties.PREFIX)
+public class ThreadPoolTuningProperties {
+
+    public static final String PREFIX = "framework.common.thread-pool.tuning";
+
+    /**
+     * Whether to size the configured pools from their measured load
+     */
+    private Boolean enabled = Boolean.FALSE;
+
+    /**
+     * Time between samples in milliseconds
+     */
+    private Long interval = 10_000L;
+
+    /**
+     * Samples without a change after each change, damps oscillation
+     */
+    private Integer cooldownSamples = 3;
+
+    /**
+     * Pools to tune by registry name, e.g. "task-executor" or "global", with their size limits
+     */
+    private Map<String, TuningBounds> pools = new LinkedHashMap<>();
+}
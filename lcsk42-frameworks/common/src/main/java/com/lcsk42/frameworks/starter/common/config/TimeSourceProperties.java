@@ -0,0 +1,21 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = TimeSourceProperties.PREFIX)
+public class TimeSourceProperties {
+
+    public static final String PREFIX = "framework.common.time-source";
+
+    /**
+     * Whether timestamps read the system clock on every call instead of a cached ticking clock
+     */
+    private Boolean precise = Boolean.FALSE;
+
+    /**
+     * Refresh interval of the cached clock in milliseconds, the most a timestamp can lag
+     */
+    private Long tickMillis = 1L;
+}
@@ -0,0 +1,91 @@
+package com.lcsk42.frameworks.starter.common.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Binds a {@link RequestContext} to the current thread for the duration of an operation, with the
+ * semantics of {@code ScopedValue.runWhere}/{@code callWhere}, which are still a preview API in Java 21.
+ * <p>
+ * Bindings are strictly nested and undone when the operation returns, and the bound context is
+ * immutable; {@link #replace} swaps it for a modified copy within the innermost binding. Handing a context to another thread is therefore a single reference captured at
+ * submission and one binding around the task, done by {@link RequestContextTaskDecorator}, instead of
+ * TransmittableThreadLocal's copy and restore of every transmittable value. This keeps the cost flat
+ * for millions of short-lived virtual threads. Once ScopedValue is final the binding can move to it
+ * without changing callers.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContextCarrier {
+
+    // A plain ThreadLocal, deliberately not inheritable: contexts only travel by explicit binding
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Returns the context bound to the current thread.
+     *
+     * @return the context, empty outside a binding
+     */
+    public static Optional<RequestContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Runs an operation with the context bound to the current thread.
+     *
+     * @param context   the context, null to run without one
+     * @param operation the operation
+     */
+    public static void runWhere(RequestContext context, @NonNull Runnable operation) {
+        RequestContext previous = CURRENT.get();
+        bind(context);
+        try {
+            operation.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Calls an operation with the context bound to the current thread.
+     *
+     * @param context   the context, null to call without one
+     * @param operation the operation
+     * @param <T>       the result type
+     * @return the result of the operation
+     * @throws Exception if the operation failed
+     */
+    public static <T> T callWhere(RequestContext context, @NonNull Callable<T> operation) throws Exception {
+        RequestContext previous = CURRENT.get();
+        bind(context);
+        try {
+            return operation.call();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Replaces the context bound to the current thread until the innermost binding ends, when the
+     * context it replaced is bound again. Tasks decorated before keep the context they captured.
+     *
+     * @param context the new context
+     * @throws IllegalStateException if no context is bound
+     */
+    public static void replace(@NonNull RequestContext context) {
+        Assert.state(CURRENT.get() != null, "No request context is bound to the current thread");
+        CURRENT.set(context);
+    }
+
+    private static void bind(RequestContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.lcsk42.frameworks.starter.common.context;
+
+import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * What a request carries across threads and services: the calling user, the request id and the
+ * deadline by which the caller stops waiting. Immutable, so one instance is shared by every thread
+ * working on the request instead of being copied per task; the user must be treated as read-only.
+ */
+@Value
+@Builder(toBuilder = true)
+public class RequestContext {
+
+    /**
+     * The calling user, null if anonymous
+     */
+    UserInfoDTO user;
+
+    /**
+     * The request id, null if none
+     */
+    String requestId;
+
+    /**
+     * The time after which the result is of no use to the caller, null if none
+     */
+    Instant deadline;
+
+    /**
+     * Returns the time left until the deadline.
+     *
+     * @return time left, negative once the deadline has passed, null without a deadline
+     */
+    public Duration remaining() {
+        return Objects.isNull(deadline) ? null : Duration.between(Instant.now(), deadline);
+    }
+
+    /**
+     * Returns whether the deadline has passed.
+     *
+     * @return true if there is a deadline and it has passed
+     */
+    public boolean isExpired() {
+        return Objects.nonNull(deadline) && !Instant.now().isBefore(deadline);
+    }
+}
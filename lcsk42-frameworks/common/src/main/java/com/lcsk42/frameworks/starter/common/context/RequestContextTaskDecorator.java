@@ -0,0 +1,23 @@
+package com.lcsk42.frameworks.starter.common.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Carries the {@link RequestContext} bound by the {@link ContextCarrier} from the submitting thread to the task.
+ * Tasks submitted outside a binding are returned as they are.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public @NonNull Runnable decorate(@NonNull Runnable runnable) {
+        Optional<RequestContext> context = ContextCarrier.current();
+        if (context.isEmpty()) {
+            return runnable;
+        }
+        RequestContext captured = context.get();
+        return () -> ContextCarrier.runWhere(captured, runnable);
+    }
+}
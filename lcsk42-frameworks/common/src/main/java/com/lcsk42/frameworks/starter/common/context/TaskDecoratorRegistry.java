@@ -0,0 +1,105 @@
+package com.lcsk42.frameworks.starter.common.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decorators applied to tasks handed to other threads by the framework, typically to carry
+ * thread-bound context such as the current user from the submitting thread to the task.
+ * <p>
+ * Decorators run on the submitting thread when the task is decorated, in registration order, so a
+ * decorator registered later wraps the ones registered before it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TaskDecoratorRegistry {
+
+    private static final CopyOnWriteArrayList<TaskDecorator> DECORATORS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a decorator, unless it is registered already.
+     *
+     * @param decorator the decorator
+     */
+    public static void register(@NonNull TaskDecorator decorator) {
+        DECORATORS.addIfAbsent(decorator);
+    }
+
+    /**
+     * Removes a decorator.
+     *
+     * @param decorator the decorator
+     */
+    public static void unregister(@NonNull TaskDecorator decorator) {
+        DECORATORS.remove(decorator);
+    }
+
+    /**
+     * Applies all registered decorators to a task. Call on the thread whose context the task should see.
+     *
+     * @param runnable the task
+     * @return the decorated task, the task itself if no decorator is registered
+     */
+    public static Runnable decorate(@NonNull Runnable runnable) {
+        Runnable decorated = runnable;
+        for (TaskDecorator decorator : DECORATORS) {
+            decorated = decorator.decorate(decorated);
+        }
+        return decorated;
+    }
+
+    /**
+     * Applies all registered decorators to a task returning a result. The decorated task may be called once.
+     *
+     * @param callable the task
+     * @param <T>      the result type
+     * @return the decorated task, the task itself if no decorator is registered
+     */
+    public static <T> Callable<T> decorate(@NonNull Callable<T> callable) {
+        if (DECORATORS.isEmpty()) {
+            return callable;
+        }
+        CallableRunner<T> runner = new CallableRunner<>(callable);
+        Runnable decorated = decorate(runner);
+        return () -> {
+            decorated.run();
+            return runner.result();
+        };
+    }
+
+    /**
+     * Runs a callable as a runnable, keeping its result or exception for the caller.
+     */
+    private static final class CallableRunner<T> implements Runnable {
+
+        private final Callable<T> callable;
+
+        private T value;
+
+        private Exception exception;
+
+        private CallableRunner(Callable<T> callable) {
+            this.callable = callable;
+        }
+
+        @Override
+        public void run() {
+            try {
+                value = callable.call();
+            } catch (Exception ex) {
+                exception = ex;
+            }
+        }
+
+        private T result() throws Exception {
+            if (exception != null) {
+                throw exception;
+            }
+            return value;
+        }
+    }
+}
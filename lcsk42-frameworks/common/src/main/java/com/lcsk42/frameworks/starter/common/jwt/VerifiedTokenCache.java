@@ -0,0 +1,156 @@
+package com.lcsk42.frameworks.starter.common.jwt;
+
+import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Direct-mapped cache of tokens whose signature has already been verified, keyed by the SHA-256 digest
+ * of the token so raw bearer tokens are not kept in memory.
+ * <p>
+ * Each digest maps to exactly one slot and a colliding put replaces the previous entry, so the cache
+ * is bounded by its capacity and lookups take no lock. An entry is dropped on the first lookup after
+ * its token expires. Entries are never handed out directly, callers get copies.
+ */
+public class VerifiedTokenCache {
+
+    private final AtomicReferenceArray<Entry> table;
+
+    private final int mask;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder expiredCount = new LongAdder();
+
+    /**
+     * Constructs a cache with at least the specified number of slots.
+     *
+     * @param capacity the minimum number of slots, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive or too large
+     */
+    public VerifiedTokenCache(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Cache capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the SHA-256 digest of a token, the key of its entry.
+     *
+     * @param token the compact token without prefix
+     * @return 32-byte digest
+     */
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Returns a copy of the user of a cached, unexpired token.
+     *
+     * @param digest the token digest
+     * @param now    current time in milliseconds
+     * @return the user, or null on a miss
+     */
+    public UserInfoDTO get(byte[] digest, long now) {
+        int index = index(digest);
+        Entry entry = table.get(index);
+        if (entry == null || !Arrays.equals(entry.digest(), digest)) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.expireAt() <= now) {
+            if (table.compareAndSet(index, entry, null)) {
+                expiredCount.increment();
+            }
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return copy(entry.user());
+    }
+
+    /**
+     * Caches the user of a verified token until the token expires.
+     *
+     * @param digest   the token digest
+     * @param user     the user parsed from the token, copied
+     * @param expireAt expiration time of the token in milliseconds
+     */
+    public void put(byte[] digest, UserInfoDTO user, long expireAt) {
+        table.set(index(digest), new Entry(digest, copy(user), expireAt));
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    /**
+     * Returns the number of slots after rounding.
+     *
+     * @return the maximum number of cached tokens
+     */
+    public int getCapacity() {
+        return table.length();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return cache hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to verify the token, including expired entries.
+     *
+     * @return cache misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries dropped because their token expired.
+     *
+     * @return expired entries
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /**
+     * The digest is uniformly distributed already, its leading bytes pick the slot.
+     */
+    private int index(byte[] digest) {
+        return ByteBuffer.wrap(digest).getInt() & mask;
+    }
+
+    private static UserInfoDTO copy(UserInfoDTO user) {
+        return new UserInfoDTO(user.getUserId(), user.getUsername(), user.getToken());
+    }
+
+    private record Entry(byte[] digest, UserInfoDTO user, long expireAt) {
+    }
+}
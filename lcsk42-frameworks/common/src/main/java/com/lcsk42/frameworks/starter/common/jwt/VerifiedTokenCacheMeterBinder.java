@@ -0,0 +1,35 @@
+package com.lcsk42.frameworks.starter.common.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exposes the hit rate of the {@link VerifiedTokenCache} used by
+ * {@link com.lcsk42.frameworks.starter.common.util.JwtUtil}.
+ */
+@RequiredArgsConstructor
+public class VerifiedTokenCacheMeterBinder implements MeterBinder {
+
+    private final VerifiedTokenCache cache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.gets", cache, VerifiedTokenCache::getHitCount)
+                .description("Lookups in the verified-token cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.gets", cache, VerifiedTokenCache::getMissCount)
+                .description("Lookups in the verified-token cache")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.expired", cache, VerifiedTokenCache::getExpiredCount)
+                .description("Cached tokens dropped at expiry")
+                .register(registry);
+        Gauge.builder("jwt.cache.capacity", cache, VerifiedTokenCache::getCapacity)
+                .description("Number of cache slots")
+                .register(registry);
+    }
+}
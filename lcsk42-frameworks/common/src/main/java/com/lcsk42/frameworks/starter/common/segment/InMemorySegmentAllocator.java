@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-local {@link SegmentAllocator}, intended for tests and single-node setups.
+ */
+public class InMemorySegmentAllocator implements SegmentAllocator {
+
+    private final Map<String, AtomicLong> maxIds = new ConcurrentHashMap<>();
+
+    private final long initialValue;
+
+    public InMemorySegmentAllocator() {
+        this(0L);
+    }
+
+    /**
+     * @param initialValue value every business tag starts from
+     */
+    public InMemorySegmentAllocator(long initialValue) {
+        this.initialValue = initialValue;
+    }
+
+    @Override
+    public long allocate(String bizTag, long step) {
+        return maxIds.computeIfAbsent(bizTag, each -> new AtomicLong(initialValue)).addAndGet(step);
+    }
+}
@@ -0,0 +1,93 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import com.lcsk42.frameworks.starter.convention.errorcode.impl.BaseErrorCode;
+import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
+import org.apache.commons.lang3.Validate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link SegmentAllocator} backed by a database table, one row per business tag:
+ *
+ * <pre>{@code
+ * CREATE TABLE id_segment (
+ *     biz_tag     VARCHAR(128) NOT NULL PRIMARY KEY,
+ *     max_id      BIGINT       NOT NULL DEFAULT 0,
+ *     update_time DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+ * );
+ * INSERT INTO id_segment (biz_tag, max_id) VALUES ('order', 0);
+ * }</pre>
+ * <p>
+ * The increment and the read run in one transaction, the row lock taken by the update serializes
+ * concurrent allocations from all nodes.
+ */
+public class JdbcSegmentAllocator implements SegmentAllocator {
+
+    private static final String DEFAULT_TABLE_NAME = "id_segment";
+
+    private final DataSource dataSource;
+
+    private final String updateSql;
+
+    private final String selectSql;
+
+    public JdbcSegmentAllocator(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    /**
+     * @param dataSource data source holding the segment table
+     * @param tableName  name of the segment table
+     */
+    public JdbcSegmentAllocator(DataSource dataSource, String tableName) {
+        Validate.notNull(dataSource, "The data source must not be null");
+        Validate.matchesPattern(tableName, "\\w+", "Invalid segment table name: %s", tableName);
+        this.dataSource = dataSource;
+        this.updateSql = "UPDATE " + tableName + " SET max_id = max_id + ? WHERE biz_tag = ?";
+        this.selectSql = "SELECT max_id FROM " + tableName + " WHERE biz_tag = ?";
+    }
+
+    @Override
+    public long allocate(String bizTag, long step) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long maxId = allocate(connection, bizTag, step);
+                connection.commit();
+                return maxId;
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new ServiceException(String.format("Failed to allocate id segment for [%s]", bizTag), ex,
+                    BaseErrorCode.SERVICE_ERROR);
+        }
+    }
+
+    private long allocate(Connection connection, String bizTag, long step) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+            update.setLong(1, step);
+            update.setString(2, bizTag);
+            if (update.executeUpdate() == 0) {
+                throw new ServiceException(String.format("Id segment [%s] is not initialized", bizTag));
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+            select.setString(1, bizTag);
+            try (ResultSet resultSet = select.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new ServiceException(String.format("Id segment [%s] is not initialized", bizTag));
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
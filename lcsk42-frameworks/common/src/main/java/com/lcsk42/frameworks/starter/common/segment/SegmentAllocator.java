@@ -0,0 +1,20 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+/**
+ * Backing store that hands out id segments for {@link SegmentIdGenerator}.
+ * <p>
+ * Every call atomically advances the stored maximum of a business tag by {@code step} and returns the
+ * new maximum, the caller then owns the range {@code [max - step, max)}. Implementations must be safe
+ * across processes, as every node draws from the same counter.
+ */
+public interface SegmentAllocator {
+
+    /**
+     * Reserve the next segment of a business tag.
+     *
+     * @param bizTag business tag identifying the id sequence
+     * @param step   size of the segment to reserve
+     * @return the new maximum, exclusive end of the reserved segment
+     */
+    long allocate(String bizTag, long step);
+}
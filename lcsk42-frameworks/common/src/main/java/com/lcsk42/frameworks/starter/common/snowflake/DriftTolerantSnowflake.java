@@ -0,0 +1,149 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Snowflake} variant that tolerates small clock steps backwards and sequence exhaustion.
+ * <p>
+ * The generator keeps a logical timestamp that never goes backwards. When the wall clock falls behind
+ * it, either because the clock stepped back or because more than 4096 IDs were requested within one
+ * millisecond, IDs are issued with the logical timestamp, borrowing at most {@code maxBorrowMillis}
+ * ahead of the wall clock. Only when the borrowing bound is reached does the caller wait, with the
+ * backoff of {@link #tilNextMillis(long)}; a clock step back beyond the bound still fails.
+ */
+public class DriftTolerantSnowflake extends Snowflake {
+
+    private final long maxBorrowMillis;
+
+    private long sequence = 0L;
+
+    private long lastTimestamp = -1L;
+
+    private final LongAdder borrowedIdCount = new LongAdder();
+
+    private final AtomicLong maxBorrowedMillis = new AtomicLong();
+
+    /**
+     * Constructs a generator with automatically generated worker and datacenter IDs.
+     *
+     * @param maxBorrowMillis Maximum number of milliseconds the logical time may run ahead of the clock
+     */
+    public DriftTolerantSnowflake(long maxBorrowMillis) {
+        super();
+        this.maxBorrowMillis = validateMaxBorrow(maxBorrowMillis);
+    }
+
+    /**
+     * Constructs a generator with the given worker and datacenter IDs.
+     *
+     * @param workerId        Worker machine ID (0 ≤ workerId ≤ 31)
+     * @param datacenterId    Datacenter ID (0 ≤ datacenterId ≤ 31)
+     * @param maxBorrowMillis Maximum number of milliseconds the logical time may run ahead of the clock
+     * @throws IllegalArgumentException if IDs are out of valid range
+     */
+    public DriftTolerantSnowflake(long workerId, long datacenterId, long maxBorrowMillis) {
+        super(workerId, datacenterId);
+        this.maxBorrowMillis = validateMaxBorrow(maxBorrowMillis);
+    }
+
+    /**
+     * Constructs a generator whose worker and datacenter IDs come from a lease.
+     *
+     * @param lease           Worker ID lease, see {@link WorkerIdLeaseManager}
+     * @param maxBorrowMillis Maximum number of milliseconds the logical time may run ahead of the clock
+     */
+    public DriftTolerantSnowflake(WorkerIdLease lease, long maxBorrowMillis) {
+        super(lease);
+        this.maxBorrowMillis = validateMaxBorrow(maxBorrowMillis);
+    }
+
+    /**
+     * Generates the next unique ID, borrowing logical time if the clock is behind.
+     *
+     * @return 64-bit Snowflake ID
+     * @throws RuntimeException if system clock moves backwards further than the borrowing bound
+     */
+    @Override
+    public synchronized long nextId() {
+        checkLease();
+        return nextIdInternal();
+    }
+
+    /**
+     * Generates the given number of IDs while holding the lock once.
+     *
+     * @param n number of IDs to generate
+     * @return generated IDs in ascending order
+     * @throws RuntimeException if system clock moves backwards further than the borrowing bound
+     */
+    @Override
+    public synchronized long[] nextIds(int n) {
+        Validate.isTrue(n >= 0, "The number of ids must not be negative: %d", n);
+        checkLease();
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = nextIdInternal();
+        }
+        return ids;
+    }
+
+    /**
+     * Number of IDs issued with a timestamp ahead of the wall clock.
+     */
+    public long getBorrowedIdCount() {
+        return borrowedIdCount.sum();
+    }
+
+    /**
+     * Largest distance in milliseconds the logical time has run ahead of the wall clock.
+     */
+    public long getMaxBorrowedMillis() {
+        return maxBorrowedMillis.get();
+    }
+
+    public long getMaxBorrowMillis() {
+        return maxBorrowMillis;
+    }
+
+    private long nextIdInternal() {
+        long timestamp = timeGen();
+        if (timestamp > lastTimestamp) {
+            // Initialize sequence with random value to avoid predictable IDs
+            sequence = ThreadLocalRandom.current().nextLong(1, 3);
+            lastTimestamp = timestamp;
+            recordIssued(timestamp);
+            return compose(timestamp, sequence);
+        }
+        if (lastTimestamp - timestamp > maxBorrowMillis) {
+            throw new RuntimeException(
+                    String.format("Clock moved backwards. Refusing to generate id for %d milliseconds",
+                            lastTimestamp - timestamp));
+        }
+        if (sequence < SEQUENCE_MASK) {
+            sequence++;
+        } else {
+            // Sequence exhausted, move on to the next logical millisecond and wait only past the bound
+            long next = lastTimestamp + 1;
+            if (next - timestamp > maxBorrowMillis) {
+                timestamp = tilNextMillis(next - maxBorrowMillis - 1);
+            }
+            sequence = ThreadLocalRandom.current().nextLong(1, 3);
+            lastTimestamp = Math.max(next, timestamp);
+            recordIssued(lastTimestamp);
+        }
+        if (lastTimestamp > timestamp) {
+            borrowedIdCount.increment();
+            maxBorrowedMillis.accumulateAndGet(lastTimestamp - timestamp, Math::max);
+        }
+        return compose(lastTimestamp, sequence);
+    }
+
+    private static long validateMaxBorrow(long maxBorrowMillis) {
+        Validate.isTrue(maxBorrowMillis >= 0, "The max borrow must not be negative: %d", maxBorrowMillis);
+        return maxBorrowMillis;
+    }
+}
@@ -1,6 +1,7 @@
 package com.lcsk42.frameworks.starter.common.snowflake;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Interface for generating unique identifiers.
@@ -27,4 +28,22 @@ public interface IdGenerator {
     default String nextIdString() {
         return StringUtils.EMPTY;
     }
-}
\ No newline at end of file
+
+    /**
+     * Generates the given number of unique numeric IDs in one call.
+     * Default implementation calls {@link #nextId()} repeatedly; implementations backed by shared state
+     * should override it to reserve the whole range at once.
+     *
+     * @param n number of IDs to generate
+     * @return generated IDs in ascending generation order
+     * @throws IllegalArgumentException if n is negative
+     */
+    default long[] nextIds(int n) {
+        Validate.isTrue(n >= 0, "The number of ids must not be negative: %d", n);
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,71 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import com.lcsk42.frameworks.starter.common.util.IdUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local {@link WorkerIdRegistry}, a stand-in for the shared store in tests.
+ */
+public class InMemoryWorkerIdRegistry implements WorkerIdRegistry {
+
+    private final Map<Integer, Holder> holders = new ConcurrentHashMap<>();
+
+    // Last timestamp issued under each ID, kept after its lease ends
+    private final Map<Integer, Long> issued = new ConcurrentHashMap<>();
+
+    @Override
+    public WorkerIdLease acquire(long ttlMillis) {
+        long acquiredNanos = System.nanoTime();
+        String owner = IdUtil.generateCompactUuid();
+        for (int leaseId = 0; leaseId < WorkerIdLease.MAX_LEASE_IDS; leaseId++) {
+            if (tryHold(leaseId, owner, ttlMillis)) {
+                return new WorkerIdLease(leaseId, owner, ttlMillis, acquiredNanos, issued.getOrDefault(leaseId, 0L));
+            }
+        }
+        throw new IllegalStateException("No free worker id left");
+    }
+
+    @Override
+    public boolean renew(WorkerIdLease lease) {
+        long bound = lease.issuedBoundMillis();
+        if (!tryHold(lease.getLeaseId(), lease.getOwner(), lease.getTtlMillis())) {
+            return false;
+        }
+        issued.merge(lease.getLeaseId(), bound, Math::max);
+        return true;
+    }
+
+    @Override
+    public void release(WorkerIdLease lease) {
+        holders.computeIfPresent(lease.getLeaseId(), (id, holder) -> {
+            if (!holder.owner().equals(lease.getOwner())) {
+                return holder;
+            }
+            issued.put(id, lease.getIssuedMillis());
+            return null;
+        });
+    }
+
+    /**
+     * Hand a leased ID to another owner, simulating an expiry that went unnoticed by the current owner.
+     *
+     * @param leaseId the ID to take over
+     */
+    public void takeOver(int leaseId) {
+        holders.put(leaseId, new Holder(IdUtil.generateCompactUuid(), Long.MAX_VALUE));
+    }
+
+    private boolean tryHold(int leaseId, String owner, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        Holder result = holders.compute(leaseId, (id, holder) ->
+                holder == null || holder.expireAt() <= now || holder.owner().equals(owner)
+                        ? new Holder(owner, now + ttlMillis)
+                        : holder);
+        return result.owner().equals(owner);
+    }
+
+    private record Holder(String owner, long expireAt) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free variant of {@link Snowflake}.
+ * <p>
+ * The last timestamp and the sequence are packed into a single {@link AtomicLong}
+ * ({@code timestamp << 12 | sequence}) and advanced with compare-and-set, so concurrent callers
+ * never block on a monitor. IDs use the same bit layout as {@link Snowflake} and can be decomposed
+ * with {@link #parseId(long)}.
+ */
+public class LockFreeSnowflake extends Snowflake {
+
+    /**
+     * Packed generator state: last timestamp in the high bits, last issued sequence in the low {@value #SEQUENCE_BITS} bits.
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Default constructor that initializes with automatically generated worker and datacenter IDs.
+     */
+    public LockFreeSnowflake() {
+        super();
+    }
+
+    /**
+     * Constructs a lock-free Snowflake ID generator instance.
+     *
+     * @param workerId     Worker machine ID (0 ≤ workerId ≤ 31)
+     * @param datacenterId Datacenter ID (0 ≤ datacenterId ≤ 31)
+     * @throws IllegalArgumentException if IDs are out of valid range
+     */
+    public LockFreeSnowflake(long workerId, long datacenterId) {
+        super(workerId, datacenterId);
+    }
+
+    /**
+     * Constructs a lock-free Snowflake ID generator instance whose worker and datacenter IDs come from a lease.
+     *
+     * @param lease Worker ID lease, see {@link WorkerIdLeaseManager}
+     */
+    public LockFreeSnowflake(WorkerIdLease lease) {
+        super(lease);
+    }
+
+    /**
+     * Generates the next unique ID without locking.
+     *
+     * @return 64-bit Snowflake ID
+     * @throws RuntimeException if system clock moves backwards
+     */
+    @Override
+    public long nextId() {
+        long first = reserve(1);
+        return compose(first >>> SEQUENCE_BITS, first & SEQUENCE_MASK);
+    }
+
+    /**
+     * Generates the given number of IDs with one compare-and-set per millisecond touched.
+     * The IDs issued within one millisecond form a contiguous range.
+     *
+     * @param n number of IDs to generate
+     * @return generated IDs in ascending order
+     * @throws RuntimeException if system clock moves backwards
+     */
+    @Override
+    public long[] nextIds(int n) {
+        Validate.isTrue(n >= 0, "The number of ids must not be negative: %d", n);
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            long first = reserve(n - filled);
+            int count = (int) reservedCount(first, n - filled);
+            long base = compose(first >>> SEQUENCE_BITS, first & SEQUENCE_MASK);
+            for (int i = 0; i < count; i++) {
+                ids[filled++] = base + i;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Generates the next unique ID as a string without locking.
+     *
+     * @return String representation of the Snowflake ID
+     */
+    @Override
+    public String nextIdString() {
+        return Long.toString(nextId());
+    }
+
+    /**
+     * Reserves up to {@code maxCount} consecutive sequences within a single millisecond.
+     *
+     * @param maxCount maximum number of sequences to reserve
+     * @return packed state of the first reserved sequence, see {@link #reservedCount(long, long)} for the size
+     */
+    private long reserve(long maxCount) {
+        checkLease();
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long timestamp = timeGen();
+            if (timestamp < lastTimestamp) {
+                throw new RuntimeException(
+                        String.format("Clock moved backwards. Refusing to generate id for %d milliseconds",
+                                lastTimestamp - timestamp));
+            }
+            long first;
+            if (timestamp == lastTimestamp) {
+                if ((current & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    // Sequence exhausted, wait for the next millisecond and retry
+                    tilNextMillis(lastTimestamp);
+                    continue;
+                }
+                first = current + 1;
+            } else {
+                // Initialize sequence with random value to avoid predictable IDs
+                first = (timestamp << SEQUENCE_BITS) | ThreadLocalRandom.current().nextLong(1, 3);
+            }
+            if (state.compareAndSet(current, first + reservedCount(first, maxCount) - 1)) {
+                if (timestamp != lastTimestamp) {
+                    recordIssued(timestamp);
+                }
+                return first;
+            }
+        }
+    }
+
+    private static long reservedCount(long first, long maxCount) {
+        return Math.min(maxCount, SEQUENCE_MASK - (first & SEQUENCE_MASK) + 1);
+    }
+}
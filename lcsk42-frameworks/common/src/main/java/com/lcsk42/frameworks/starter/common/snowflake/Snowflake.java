@@ -1,10 +1,12 @@
 package com.lcsk42.frameworks.starter.common.snowflake;
 
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
 import com.lcsk42.frameworks.starter.common.util.IdUtil;
 import org.apache.commons.lang3.Validate;
 
 import java.io.Serializable;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Twitter Snowflake ID generator implementation.
@@ -25,11 +27,11 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class Snowflake implements Serializable, IdGenerator {
     // Custom epoch (2020-01-01 00:00:00 UTC)
-    private final static long START_TIMESTAMP = 1577808000000L;
+    final static long START_TIMESTAMP = 1577808000000L;
     // Bit allocation configuration
-    private final static long WORKER_ID_BITS = 5L;      // Bits allocated for worker ID
-    private final static long DATACENTER_ID_BITS = 5L;  // Bits allocated for datacenter ID
-    private final static long SEQUENCE_BITS = 12L;      // Bits allocated for sequence number
+    final static long WORKER_ID_BITS = 5L;      // Bits allocated for worker ID
+    final static long DATACENTER_ID_BITS = 5L;  // Bits allocated for datacenter ID
+    final static long SEQUENCE_BITS = 12L;      // Bits allocated for sequence number
     // Maximum allowable values
     private final static long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);          // Maximum worker ID (31)
     private final static long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);  // Maximum datacenter ID (31)
@@ -38,12 +40,18 @@ public class Snowflake implements Serializable, IdGenerator {
     private final static long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
     private final static long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
     // Sequence mask (0b111111111111=0xfff=4095)
-    private final static long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    final static long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    // Backoff while waiting for the next millisecond: busy spins, then yields, then parks of 50 µs
+    private final static int SPIN_ATTEMPTS = 64;
+    private final static int YIELD_ATTEMPTS = 16;
+    private final static long PARK_NANOS = 50_000L;
     // Instance configuration
     private final long workerId;       // Worker identifier (0-31)
     private final long datacenterId;   // Datacenter identifier (0-31)
     private long sequence = 0L;        // Sequence number (0-4095)
     private long lastTimestamp = -1L;  // Last timestamp used for ID generation
+    // Lease backing the worker and datacenter IDs, null when they were assigned statically
+    private final transient WorkerIdLease lease;
 
     /**
      * Default constructor that initializes with automatically generated worker and datacenter IDs.
@@ -61,12 +69,27 @@ public class Snowflake implements Serializable, IdGenerator {
      * @throws IllegalArgumentException if IDs are out of valid range
      */
     public Snowflake(long workerId, long datacenterId) {
+        this(workerId, datacenterId, null);
+    }
+
+    /**
+     * Constructs a Snowflake ID generator instance whose worker and datacenter IDs come from a lease.
+     * ID generation fails while the lease is not valid.
+     *
+     * @param lease Worker ID lease, see {@link WorkerIdLeaseManager}
+     */
+    public Snowflake(WorkerIdLease lease) {
+        this(lease.getWorkerId(), lease.getDatacenterId(), lease);
+    }
+
+    private Snowflake(long workerId, long datacenterId, WorkerIdLease lease) {
         Validate.isTrue(workerId >= 0 && workerId <= MAX_WORKER_ID,
                 "worker Id can't be greater than %d or less than 0", MAX_WORKER_ID);
         Validate.isTrue(datacenterId >= 0 && datacenterId <= MAX_DATACENTER_ID,
                 "datacenter Id can't be greater than %d or less than 0", MAX_DATACENTER_ID);
         this.workerId = workerId;
         this.datacenterId = datacenterId;
+        this.lease = lease;
     }
 
     /**
@@ -77,6 +100,7 @@ public class Snowflake implements Serializable, IdGenerator {
      */
     @Override
     public synchronized long nextId() {
+        checkLease();
         long timestamp = timeGen();
         // Detect clock drift backwards
         if (timestamp < lastTimestamp) {
@@ -94,12 +118,56 @@ public class Snowflake implements Serializable, IdGenerator {
             // Initialize sequence with random value to avoid predictable IDs
             sequence = ThreadLocalRandom.current().nextLong(1, 3);
         }
+        if (timestamp != lastTimestamp) {
+            recordIssued(timestamp);
+        }
         lastTimestamp = timestamp;
-        // Compose ID from components
-        return ((timestamp - START_TIMESTAMP) << TIMESTAMP_SHIFT)
-                | (datacenterId << DATACENTER_ID_SHIFT)
-                | (workerId << WORKER_ID_SHIFT)
-                | sequence;
+        return compose(timestamp, sequence);
+    }
+
+    /**
+     * Generates the given number of IDs while holding the lock once.
+     * The IDs issued within one millisecond form a contiguous range, a request larger than the
+     * remaining sequence space continues in the following millisecond.
+     *
+     * @param n number of IDs to generate
+     * @return generated IDs in ascending order
+     * @throws RuntimeException if system clock moves backwards
+     */
+    @Override
+    public synchronized long[] nextIds(int n) {
+        Validate.isTrue(n >= 0, "The number of ids must not be negative: %d", n);
+        checkLease();
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            long timestamp = timeGen();
+            if (timestamp < lastTimestamp) {
+                throw new RuntimeException(
+                        String.format("Clock moved backwards. Refusing to generate id for %d milliseconds",
+                                lastTimestamp - timestamp));
+            }
+            long first;
+            if (lastTimestamp == timestamp && sequence < SEQUENCE_MASK) {
+                first = sequence + 1;
+            } else {
+                if (lastTimestamp == timestamp) {
+                    timestamp = tilNextMillis(lastTimestamp);
+                }
+                first = ThreadLocalRandom.current().nextLong(1, 3);
+            }
+            int count = (int) Math.min(n - filled, SEQUENCE_MASK - first + 1);
+            long base = compose(timestamp, first);
+            for (int i = 0; i < count; i++) {
+                ids[filled++] = base + i;
+            }
+            sequence = first + count - 1;
+            if (timestamp != lastTimestamp) {
+                recordIssued(timestamp);
+            }
+            lastTimestamp = timestamp;
+        }
+        return ids;
     }
 
     /**
@@ -112,27 +180,87 @@ public class Snowflake implements Serializable, IdGenerator {
         return Long.toString(nextId());
     }
 
+    /**
+     * Composes an ID from its timestamp and sequence using this instance's datacenter and worker IDs.
+     *
+     * @param timestamp Timestamp in milliseconds
+     * @param sequence  Sequence number within the millisecond
+     * @return 64-bit Snowflake ID
+     */
+    protected long compose(long timestamp, long sequence) {
+        return ((timestamp - START_TIMESTAMP) << TIMESTAMP_SHIFT)
+                | (datacenterId << DATACENTER_ID_SHIFT)
+                | (workerId << WORKER_ID_SHIFT)
+                | sequence;
+    }
+
+    /**
+     * Ensures the worker ID lease, if any, is still held.
+     *
+     * @throws IllegalStateException if the lease has expired, was taken over or was released, or the clock
+     *                               has not passed the last timestamp issued by the previous holder
+     */
+    protected void checkLease() {
+        if (lease != null && !lease.isValid()) {
+            throw new IllegalStateException(
+                    String.format("Worker id lease %d is not valid. Refusing to generate id", lease.getLeaseId()));
+        }
+    }
+
+    /**
+     * Worker ID lease backing this generator.
+     *
+     * @return the lease, null when the worker and datacenter IDs were assigned statically
+     */
+    WorkerIdLease getLease() {
+        return lease;
+    }
+
+    /**
+     * Records a newly used timestamp in the worker ID lease, if any, so the next holder of the ID does not
+     * reuse it. Call whenever the timestamp advances.
+     *
+     * @param timestamp Timestamp in milliseconds
+     */
+    protected void recordIssued(long timestamp) {
+        if (lease != null) {
+            lease.recordIssued(timestamp);
+        }
+    }
+
     /**
      * Blocks until next millisecond when sequence exhausted.
+     * Spins briefly, then yields, then parks in short intervals, so a long wait does not burn a core.
      *
      * @param lastTimestamp The last timestamp used
      * @return Current timestamp in milliseconds
      */
     protected long tilNextMillis(long lastTimestamp) {
         long timestamp = timeGen();
-        while (timestamp <= lastTimestamp) {
+        for (int attempts = 0; timestamp <= lastTimestamp; attempts++) {
+            if (attempts < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else if (attempts < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
             timestamp = timeGen();
         }
         return timestamp;
     }
 
     /**
-     * Gets current time in milliseconds.
+     * Gets current time in milliseconds from the {@link TimeSourceHolder process time source}.
+     * A cached clock lags by up to one tick, which only delays the next millisecond after a
+     * sequence overflow. Switching time sources can move the clock backwards, which fails like a system
+     * clock going backwards; {@link TimeSourceHolder#install} prevents that for a cached source installed
+     * over another one, and the auto-configured generator is only created once the configured source is installed.
      *
      * @return Current timestamp in milliseconds
      */
     protected long timeGen() {
-        return System.currentTimeMillis();
+        return TimeSourceHolder.currentTimeMillis();
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exposes how far a {@link DriftTolerantSnowflake} had to borrow ahead of the clock.
+ * Other generators have nothing to report and are ignored.
+ */
+@RequiredArgsConstructor
+public class SnowflakeMeterBinder implements MeterBinder {
+
+    private final Snowflake snowflake;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(snowflake instanceof DriftTolerantSnowflake driftTolerantSnowflake)) {
+            return;
+        }
+        FunctionCounter.builder("snowflake.ids.borrowed", driftTolerantSnowflake, DriftTolerantSnowflake::getBorrowedIdCount)
+                .description("IDs issued with a timestamp ahead of the clock")
+                .register(registry);
+        Gauge.builder("snowflake.borrow.max", driftTolerantSnowflake, DriftTolerantSnowflake::getMaxBorrowedMillis)
+                .description("Largest distance the generator has run ahead of the clock")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("snowflake.borrow.limit", driftTolerantSnowflake, DriftTolerantSnowflake::getMaxBorrowMillis)
+                .description("Configured bound for running ahead of the clock")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,189 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A worker ID leased from a {@link WorkerIdRegistry}.
+ * <p>
+ * The 10-bit lease ID is split into the 5-bit datacenter ID (high bits) and the 5-bit worker ID
+ * (low bits) of the Snowflake layout. Validity is tracked locally on the monotonic clock and ends
+ * slightly before the lease expires in the shared store, so a generator stops issuing IDs before
+ * another node can take over the same worker ID.
+ * <p>
+ * That only guards against the previous holder issuing IDs concurrently, not against it having issued
+ * IDs with timestamps the new holder's clock has not reached yet. Generators therefore record the
+ * timestamps they issue, the registry stores a bound of them with every renewal and the exact value on
+ * release, and a new holder refuses to generate until its clock has passed what the previous holder stored.
+ */
+public class WorkerIdLease {
+
+    /**
+     * Number of distinct lease IDs, covering all datacenter and worker ID combinations.
+     */
+    public static final int MAX_LEASE_IDS = 1 << (Snowflake.DATACENTER_ID_BITS + Snowflake.WORKER_ID_BITS);
+
+    /**
+     * Share of the TTL kept as safety margin against clock rate differences and store latency.
+     */
+    private static final double SAFETY_MARGIN_RATIO = 0.1D;
+
+    /**
+     * Leased ID in {@code [0, MAX_LEASE_IDS)}.
+     */
+    @Getter
+    private final int leaseId;
+
+    /**
+     * Token identifying the owner in the shared store.
+     */
+    @Getter
+    private final String owner;
+
+    /**
+     * Time-to-live of the lease in milliseconds.
+     */
+    @Getter
+    private final long ttlMillis;
+
+    /**
+     * Last timestamp issued by the previous holder of the ID, IDs are refused until the clock passes it.
+     */
+    @Getter
+    private final long notBeforeMillis;
+
+    // Highest timestamp issued under this lease
+    private final AtomicLong issuedMillis = new AtomicLong();
+
+    // Set once the clock has passed notBeforeMillis, so the check stops reading the clock
+    private volatile boolean caughtUp;
+
+    private volatile long validUntilNanos;
+
+    private volatile boolean released;
+
+    // Incremented whenever the lease is revoked or released
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * @param leaseId       leased ID
+     * @param owner         owner token stored in the registry
+     * @param ttlMillis     time-to-live of the lease in milliseconds
+     * @param acquiredNanos {@link System#nanoTime()} taken before the acquiring request was sent
+     */
+    public WorkerIdLease(int leaseId, String owner, long ttlMillis, long acquiredNanos) {
+        this(leaseId, owner, ttlMillis, acquiredNanos, 0L);
+    }
+
+    /**
+     * @param leaseId         leased ID
+     * @param owner           owner token stored in the registry
+     * @param ttlMillis       time-to-live of the lease in milliseconds
+     * @param acquiredNanos   {@link System#nanoTime()} taken before the acquiring request was sent
+     * @param notBeforeMillis last timestamp issued by the previous holder, 0 if none
+     */
+    public WorkerIdLease(int leaseId, String owner, long ttlMillis, long acquiredNanos, long notBeforeMillis) {
+        this.leaseId = leaseId;
+        this.owner = owner;
+        this.ttlMillis = ttlMillis;
+        this.notBeforeMillis = notBeforeMillis;
+        this.issuedMillis.set(notBeforeMillis);
+        extend(acquiredNanos);
+    }
+
+    public long getWorkerId() {
+        return leaseId & ((1L << Snowflake.WORKER_ID_BITS) - 1);
+    }
+
+    public long getDatacenterId() {
+        return leaseId >>> Snowflake.WORKER_ID_BITS;
+    }
+
+    /**
+     * Whether IDs may still be generated under this lease, which also requires the clock to have passed
+     * the last timestamp issued by the previous holder.
+     */
+    public boolean isValid() {
+        return !released && System.nanoTime() - validUntilNanos < 0 && hasCaughtUp();
+    }
+
+    private boolean hasCaughtUp() {
+        if (!caughtUp) {
+            if (TimeSourceHolder.currentTimeMillis() <= notBeforeMillis) {
+                return false;
+            }
+            caughtUp = true;
+        }
+        return true;
+    }
+
+    /**
+     * Generation of the lease, which changes whenever it is revoked or released, so IDs reserved under an
+     * earlier generation can be told apart even after the lease was reclaimed.
+     *
+     * @return the current generation
+     */
+    public int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Record a timestamp an ID was issued with, called by generators whenever their timestamp advances.
+     *
+     * @param timestamp timestamp in milliseconds
+     */
+    public void recordIssued(long timestamp) {
+        if (timestamp > issuedMillis.get()) {
+            issuedMillis.accumulateAndGet(timestamp, Math::max);
+        }
+    }
+
+    /**
+     * Highest timestamp issued under this lease, exact once the lease has been released.
+     *
+     * @return timestamp in milliseconds, {@link #getNotBeforeMillis()} if none was issued
+     */
+    public long getIssuedMillis() {
+        return issuedMillis.get();
+    }
+
+    /**
+     * Bound of the timestamps issued under this lease until it lapses, stored by the registry on renewal.
+     * Taken before renewing, the renewed lease stays valid for less than a TTL of this node's clock from now;
+     * a generator borrowing time ahead of the clock must keep its bound below a tenth of the TTL.
+     *
+     * @return timestamp in milliseconds
+     */
+    public long issuedBoundMillis() {
+        return Math.max(issuedMillis.get(), TimeSourceHolder.currentTimeMillis()) + ttlMillis;
+    }
+
+    /**
+     * Extend the local validity after a successful renewal.
+     *
+     * @param renewedNanos {@link System#nanoTime()} taken before the renewing request was sent
+     */
+    public void extend(long renewedNanos) {
+        long validMillis = (long) (ttlMillis * (1 - SAFETY_MARGIN_RATIO));
+        this.validUntilNanos = renewedNanos + validMillis * 1_000_000L;
+    }
+
+    /**
+     * Invalidate the lease immediately, e.g. after the registry reported another owner.
+     */
+    public void revoke() {
+        this.validUntilNanos = System.nanoTime();
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * Permanently invalidate the lease once it has been returned to the registry.
+     */
+    public void release() {
+        this.released = true;
+        this.generation.incrementAndGet();
+    }
+}
@@ -0,0 +1,94 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acquires a worker ID lease and keeps it alive with a heartbeat.
+ * <p>
+ * The lease is renewed three times per TTL. If renewals keep failing or the registry reports another
+ * owner, the lease becomes invalid and a {@link Snowflake} built from it refuses to generate IDs until
+ * a later renewal succeeds.
+ */
+@Slf4j
+public class WorkerIdLeaseManager implements AutoCloseable {
+
+    private final WorkerIdRegistry registry;
+
+    private final long ttlMillis;
+
+    private ScheduledExecutorService scheduler;
+
+    @Getter
+    private volatile WorkerIdLease lease;
+
+    /**
+     * @param registry  shared store of the worker IDs
+     * @param ttlMillis time-to-live of the lease in milliseconds
+     */
+    public WorkerIdLeaseManager(WorkerIdRegistry registry, long ttlMillis) {
+        Validate.notNull(registry, "The worker id registry must not be null");
+        Validate.isTrue(ttlMillis >= 300, "The lease ttl must be at least 300 ms: %d", ttlMillis);
+        this.registry = registry;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Acquire the lease and start the heartbeat.
+     *
+     * @return the acquired lease
+     */
+    public synchronized WorkerIdLease start() {
+        Validate.validState(lease == null, "The worker id lease has already been acquired");
+        lease = registry.acquire(ttlMillis);
+        log.info("Acquired worker id lease {} (datacenter id {}, worker id {}).",
+                lease.getLeaseId(), lease.getDatacenterId(), lease.getWorkerId());
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder().prefix("worker-id-lease").daemon(true).build());
+        long period = ttlMillis / 3;
+        scheduler.scheduleWithFixedDelay(this::heartbeat, period, period, TimeUnit.MILLISECONDS);
+        return lease;
+    }
+
+    /**
+     * Renew the lease once, also invoked by the heartbeat.
+     */
+    void heartbeat() {
+        WorkerIdLease current = lease;
+        long renewedNanos = System.nanoTime();
+        try {
+            if (registry.renew(current)) {
+                current.extend(renewedNanos);
+            } else {
+                current.revoke();
+                log.error("Worker id lease {} is held by another owner, id generation is suspended.", current.getLeaseId());
+            }
+        } catch (Exception ex) {
+            // Keep the current validity, the lease only lapses if renewals keep failing until it runs out
+            log.warn("Failed to renew worker id lease {}.", current.getLeaseId(), ex);
+        }
+    }
+
+    /**
+     * Stop the heartbeat and return the lease.
+     */
+    @Override
+    public synchronized void close() {
+        if (lease == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        lease.release();
+        try {
+            registry.release(lease);
+        } catch (Exception ex) {
+            log.warn("Failed to release worker id lease {}, it will expire on its own.", lease.getLeaseId(), ex);
+        }
+    }
+}
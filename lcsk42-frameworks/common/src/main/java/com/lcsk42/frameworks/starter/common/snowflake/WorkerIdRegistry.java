@@ -0,0 +1,38 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+/**
+ * Shared store handing out unique Snowflake worker IDs as renewable leases.
+ * <p>
+ * Besides the owner, the store keeps the last timestamp issued under each ID beyond the lease itself:
+ * {@link WorkerIdLease#issuedBoundMillis()} on renewal and {@link WorkerIdLease#getIssuedMillis()} on
+ * release. A new lease of the ID starts with that value as {@link WorkerIdLease#getNotBeforeMillis()}.
+ *
+ * @see WorkerIdLeaseManager
+ */
+public interface WorkerIdRegistry {
+
+    /**
+     * Lease any free ID.
+     *
+     * @param ttlMillis time-to-live of the lease in milliseconds
+     * @return the acquired lease, carrying the last timestamp stored for its ID
+     * @throws IllegalStateException if all IDs are taken
+     */
+    WorkerIdLease acquire(long ttlMillis);
+
+    /**
+     * Extend a lease by its TTL and store its issued timestamp bound. A lease that has expired in the store may be reclaimed as long as no
+     * other owner took it in the meantime.
+     *
+     * @param lease the lease to renew
+     * @return {@code true} if the caller still owns the ID, {@code false} if another owner holds it
+     */
+    boolean renew(WorkerIdLease lease);
+
+    /**
+     * Return a lease so its ID can be handed out again, storing the last timestamp issued under it.
+     *
+     * @param lease the lease to release
+     */
+    void release(WorkerIdLease lease);
+}
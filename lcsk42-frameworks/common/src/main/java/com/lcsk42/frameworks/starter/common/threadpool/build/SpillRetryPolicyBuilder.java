@@ -0,0 +1,153 @@
+package com.lcsk42.frameworks.starter.common.threadpool.build;
+
+import com.lcsk42.frameworks.starter.common.threadpool.spill.FileSpillJournal;
+import com.lcsk42.frameworks.starter.common.threadpool.spill.SpillJournal;
+import com.lcsk42.frameworks.starter.common.threadpool.spill.SpillRetryPolicy;
+import com.lcsk42.frameworks.starter.designpattern.builder.Builder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Builder for {@link SpillRetryPolicy}, a rejection policy that retries rejected tasks with backoff.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRetryPolicyBuilder implements Builder<SpillRetryPolicy> {
+
+    // Default spill queue capacity is 1024 tasks
+    private int capacity = 1024;
+
+    // Default first retry after 50 milliseconds
+    private long initialBackoffMillis = 50L;
+
+    // Default backoff doubles up to 5 seconds
+    private long maxBackoffMillis = 5_000L;
+
+    // Default number of resubmissions before a task is dropped
+    private int maxRetries = 10;
+
+    // Default policy when both the spill queue and the journal are full is AbortPolicy
+    private RejectedExecutionHandler fallback = new ThreadPoolExecutor.AbortPolicy();
+
+    // Optional durable overflow
+    private SpillJournal journal;
+
+    // Name of the resubmitting thread
+    private String threadName = "spill-retry";
+
+    /**
+     * Factory method to create a SpillRetryPolicyBuilder instance.
+     *
+     * @return new SpillRetryPolicyBuilder instance
+     */
+    public static SpillRetryPolicyBuilder builder() {
+        return new SpillRetryPolicyBuilder();
+    }
+
+    /**
+     * Sets the maximum number of tasks held in memory for retry.
+     *
+     * @param capacity spill queue capacity
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public SpillRetryPolicyBuilder capacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Spill capacity must be positive");
+        }
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Sets the exponential backoff between resubmissions.
+     *
+     * @param initialBackoffMillis delay before the first retry in milliseconds
+     * @param maxBackoffMillis     upper bound of the delay in milliseconds
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if a delay is negative or the bounds are reversed
+     */
+    public SpillRetryPolicyBuilder backoff(long initialBackoffMillis, long maxBackoffMillis) {
+        if (initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("Backoff must be non-negative and the maximum at least the initial delay");
+        }
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        return this;
+    }
+
+    /**
+     * Sets the number of resubmissions before a task is dropped.
+     *
+     * @param maxRetries maximum number of retries
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if maxRetries is not positive
+     */
+    public SpillRetryPolicyBuilder maxRetries(int maxRetries) {
+        if (maxRetries <= 0) {
+            throw new IllegalArgumentException("Max retries must be positive");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Sets the policy applied when a task can be neither spilled nor journaled.
+     *
+     * @param fallback fallback rejection policy
+     * @return current builder instance (for method chaining)
+     */
+    public SpillRetryPolicyBuilder fallback(RejectedExecutionHandler fallback) {
+        this.fallback = fallback;
+        return this;
+    }
+
+    /**
+     * Sets the journal receiving tasks when the spill queue is full.
+     *
+     * @param journal the journal
+     * @return current builder instance (for method chaining)
+     */
+    public SpillRetryPolicyBuilder journal(SpillJournal journal) {
+        this.journal = journal;
+        return this;
+    }
+
+    /**
+     * Journals tasks to files in the directory when the spill queue is full.
+     *
+     * @param directory      journal directory
+     * @param allowedClasses task classes the journal may read back, see {@link FileSpillJournal}
+     * @return current builder instance (for method chaining)
+     */
+    public SpillRetryPolicyBuilder journal(Path directory, String... allowedClasses) {
+        this.journal = new FileSpillJournal(directory, List.of(allowedClasses));
+        return this;
+    }
+
+    /**
+     * Sets the name of the resubmitting thread.
+     *
+     * @param threadName thread name prefix
+     * @return current builder instance (for method chaining)
+     */
+    public SpillRetryPolicyBuilder threadName(String threadName) {
+        this.threadName = threadName;
+        return this;
+    }
+
+    /**
+     * Builds the policy and starts its resubmitting thread.
+     *
+     * @return configured SpillRetryPolicy instance
+     */
+    @Override
+    public SpillRetryPolicy build() {
+        return new SpillRetryPolicy(capacity, initialBackoffMillis, maxBackoffMillis, maxRetries,
+                fallback, journal, threadName);
+    }
+}
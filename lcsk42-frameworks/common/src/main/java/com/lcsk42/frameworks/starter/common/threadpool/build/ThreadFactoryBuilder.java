@@ -16,6 +16,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * Thread factory builder that provides flexible thread configuration options.
  * <p>
  * Supports setting thread name prefix, daemon status, priority, and uncaught exception handler.
+ * Can also create virtual threads, see {@link #virtual()}.
  * Uses builder pattern to enable method chaining.
  * </p>
  */
@@ -35,6 +36,8 @@ public final class ThreadFactoryBuilder implements Builder<ThreadFactory> {
     private Integer priority;
     // Handler for uncaught exceptions
     private Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+    // Whether virtual threads should be created
+    private boolean virtual;
 
     /**
      * Creates a new ThreadFactoryBuilder instance.
@@ -112,6 +115,18 @@ public final class ThreadFactoryBuilder implements Builder<ThreadFactory> {
         return this;
     }
 
+    /**
+     * Creates virtual threads instead of platform threads.
+     * Virtual threads are always daemon threads with normal priority, so the backing thread factory,
+     * daemon and priority settings do not apply; name prefix and uncaught exception handler do.
+     *
+     * @return current builder instance
+     */
+    public ThreadFactoryBuilder virtual() {
+        this.virtual = true;
+        return this;
+    }
+
     /**
      * Builds the configured ThreadFactory instance.
      *
@@ -129,6 +144,17 @@ public final class ThreadFactoryBuilder implements Builder<ThreadFactory> {
      * @return configured ThreadFactory
      */
     private static ThreadFactory build(ThreadFactoryBuilder builder) {
+        if (builder.virtual) {
+            Thread.Builder.OfVirtual virtualBuilder = Thread.ofVirtual();
+            if (null != builder.namePrefix) {
+                virtualBuilder.name(builder.namePrefix + "-", 0);
+            }
+            if (null != builder.uncaughtExceptionHandler) {
+                virtualBuilder.uncaughtExceptionHandler(builder.uncaughtExceptionHandler);
+            }
+            return virtualBuilder.factory();
+        }
+
         // Use configured factory or default if none specified
         final ThreadFactory backingThreadFactory = (null != builder.backingThreadFactory)
                 ? builder.backingThreadFactory
@@ -1,6 +1,14 @@
 package com.lcsk42.frameworks.starter.common.threadpool.build;
 
 
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ResizableLinkedBlockingQueue;
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.EagerTaskQueue;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.EagerThreadPoolExecutor;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.TaskQueue;
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.MonitoredThreadPoolExecutor;
+import com.lcsk42.frameworks.starter.common.threadpool.priority.PriorityTaskQueue;
+import com.lcsk42.frameworks.starter.common.threadpool.priority.PriorityThreadPoolExecutor;
 import com.lcsk42.frameworks.starter.designpattern.builder.Builder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -9,7 +17,6 @@ import org.springframework.util.Assert;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -18,6 +25,8 @@ import java.util.concurrent.TimeUnit;
 /**
  * Thread pool builder that provides a fluent API for configuring and creating ThreadPoolExecutor instances.
  * This is an immutable builder and is thread-safe.
+ * Built pools are registered in the {@link ThreadPoolRegistry} so they can be resized at runtime,
+ * and are {@link MonitoredThreadPoolExecutor}s recording task timings and rejections.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
@@ -34,8 +43,20 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
     // Default time unit is milliseconds
     private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
 
-    // Default work queue is unbounded with capacity 4096
-    private BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<>(4096);
+    // Default work queue capacity is 4096
+    private int queueCapacity = 4096;
+
+    // Work queue, a resizable queue of queueCapacity if not set
+    private BlockingQueue<Runnable> workQueue;
+
+    // Whether to start non-core threads before queueing
+    private boolean eager = false;
+
+    // Waiting time worth one priority level, 0 for a FIFO pool
+    private long agingMillis = 0L;
+
+    // Registry name, the thread name prefix without the trailing '-' if not set
+    private String poolName;
 
     // Default rejection policy is AbortPolicy
     private RejectedExecutionHandler rejectedExecutionHandler = new ThreadPoolExecutor.AbortPolicy();
@@ -58,8 +79,20 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
         return new ThreadPoolBuilder();
     }
 
+    /**
+     * Factory method for an executor running every task on its own virtual thread.
+     * Concurrency and backlog are limited with semaphores instead of pool and queue sizes.
+     *
+     * @return new VirtualThreadPoolBuilder instance
+     */
+    public static VirtualThreadPoolBuilder virtual() {
+        return VirtualThreadPoolBuilder.builder();
+    }
+
     /**
      * Calculates default core thread count based on CPU cores and 20% utilization.
+     * This is only a starting point, the {@link com.lcsk42.frameworks.starter.common.threadpool.tuning.ThreadPoolAutoTuner}
+     * can size registered pools from their measured load.
      *
      * @return calculated core thread count
      */
@@ -172,6 +205,69 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
         return this;
     }
 
+    /**
+     * Sets the capacity of the default work queue. Ignored if a work queue is set.
+     *
+     * @param queueCapacity maximum number of queued tasks
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if queueCapacity is not positive
+     */
+    public ThreadPoolBuilder queueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Builds an {@link EagerThreadPoolExecutor}, which grows to the maximum pool size before queueing.
+     * A work queue, if set, must be an {@link EagerTaskQueue}.
+     *
+     * @return current builder instance (for method chaining)
+     */
+    public ThreadPoolBuilder eager() {
+        this.eager = true;
+        return this;
+    }
+
+    /**
+     * Builds a {@link PriorityThreadPoolExecutor}, which runs queued tasks by priority and drops tasks
+     * past their deadline. A waiting task gains one priority level per second.
+     *
+     * @return current builder instance (for method chaining)
+     */
+    public ThreadPoolBuilder priority() {
+        return priority(1_000L);
+    }
+
+    /**
+     * Builds a {@link PriorityThreadPoolExecutor} with the given aging interval. A work queue, if set,
+     * must be a {@link PriorityTaskQueue}.
+     *
+     * @param agingMillis waiting time in milliseconds worth one priority level
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if agingMillis is not positive
+     */
+    public ThreadPoolBuilder priority(long agingMillis) {
+        if (agingMillis <= 0) {
+            throw new IllegalArgumentException("Aging interval must be positive");
+        }
+        this.agingMillis = agingMillis;
+        return this;
+    }
+
+    /**
+     * Sets the name the pool is registered under in the {@link ThreadPoolRegistry}.
+     *
+     * @param poolName pool name
+     * @return current builder instance (for method chaining)
+     */
+    public ThreadPoolBuilder poolName(String poolName) {
+        this.poolName = poolName;
+        return this;
+    }
+
     /**
      * Builds the ThreadPoolExecutor instance.
      *
@@ -184,9 +280,40 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
             Assert.hasLength(threadNamePrefix, "The thread name prefix cannot be empty or an empty string.");
             threadFactory = ThreadFactoryBuilder.builder().prefix(threadNamePrefix).daemon(isDaemon).build();
         }
+        boolean priority = agingMillis > 0;
+        Assert.isTrue(!(eager && priority), "A thread pool cannot be both eager and priority ordered.");
+        if (workQueue == null) {
+            if (eager) {
+                workQueue = new TaskQueue(queueCapacity);
+            } else if (priority) {
+                workQueue = new PriorityTaskQueue(queueCapacity, agingMillis);
+            } else {
+                workQueue = new ResizableLinkedBlockingQueue<>(queueCapacity);
+            }
+        } else if (eager) {
+            Assert.isInstanceOf(EagerTaskQueue.class, workQueue, "The work queue of an eager thread pool must be an EagerTaskQueue.");
+        } else if (priority) {
+            Assert.isInstanceOf(PriorityTaskQueue.class, workQueue, "The work queue of a priority thread pool must be a PriorityTaskQueue.");
+        }
         ThreadPoolExecutor executorService;
         try {
-            executorService = new ThreadPoolExecutor(corePoolSize,
+            executorService = priority
+                    ? new PriorityThreadPoolExecutor(corePoolSize,
+                    maximumPoolSize,
+                    keepAliveTime,
+                    timeUnit,
+                    (PriorityTaskQueue) workQueue,
+                    threadFactory,
+                    rejectedExecutionHandler)
+                    : eager
+                    ? new EagerThreadPoolExecutor(corePoolSize,
+                    maximumPoolSize,
+                    keepAliveTime,
+                    timeUnit,
+                    workQueue,
+                    threadFactory,
+                    rejectedExecutionHandler)
+                    : new MonitoredThreadPoolExecutor(corePoolSize,
                     maximumPoolSize,
                     keepAliveTime,
                     timeUnit,
@@ -196,6 +323,19 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
         } catch (IllegalArgumentException ex) {
             throw new IllegalArgumentException("Error creating thread pool parameter.", ex);
         }
+        ThreadPoolRegistry.register(resolvePoolName(), executorService);
         return executorService;
     }
+
+    private String resolvePoolName() {
+        if (poolName != null && !poolName.isEmpty()) {
+            return poolName;
+        }
+        if (threadNamePrefix != null && !threadNamePrefix.isEmpty()) {
+            return threadNamePrefix.endsWith("-")
+                    ? threadNamePrefix.substring(0, threadNamePrefix.length() - 1)
+                    : threadNamePrefix;
+        }
+        return "pool";
+    }
 }
@@ -0,0 +1,108 @@
+package com.lcsk42.frameworks.starter.common.threadpool.build;
+
+import com.lcsk42.frameworks.starter.common.threadpool.virtual.VirtualThreadExecutor;
+import com.lcsk42.frameworks.starter.designpattern.builder.Builder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.Assert;
+
+/**
+ * Builder for {@link VirtualThreadExecutor}, created through {@link ThreadPoolBuilder#virtual()}.
+ * <p>
+ * There are no core or maximum pool sizes to tune: every task gets a new virtual thread. The number
+ * of tasks running at once and the number of tasks accepted but not finished can be capped instead.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadPoolBuilder implements Builder<VirtualThreadExecutor> {
+
+    // Maximum number of tasks running at once, 0 for no limit
+    private int maxConcurrency;
+
+    // Maximum number of tasks accepted but not finished, 0 for no limit
+    private int maxPending;
+
+    // Thread name prefix
+    private String threadNamePrefix;
+
+    // Handler for uncaught exceptions
+    private Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+
+    /**
+     * Factory method to create a VirtualThreadPoolBuilder instance.
+     *
+     * @return new VirtualThreadPoolBuilder instance
+     */
+    public static VirtualThreadPoolBuilder builder() {
+        return new VirtualThreadPoolBuilder();
+    }
+
+    /**
+     * Sets the thread name prefix.
+     *
+     * @param threadNamePrefix prefix for thread names
+     * @return current builder instance (for method chaining)
+     */
+    public VirtualThreadPoolBuilder threadFactory(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of tasks running at once. Further tasks wait on their own virtual thread
+     * for a permit, so the caller is never blocked.
+     *
+     * @param maxConcurrency maximum number of running tasks, 0 for no limit
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if maxConcurrency is negative
+     */
+    public VirtualThreadPoolBuilder maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Max concurrency must be non-negative");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of tasks accepted but not finished, the counterpart of a bounded work
+     * queue. Submissions beyond it are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param maxPending maximum number of unfinished tasks, 0 for no limit
+     * @return current builder instance (for method chaining)
+     * @throws IllegalArgumentException if maxPending is negative
+     */
+    public VirtualThreadPoolBuilder maxPending(int maxPending) {
+        if (maxPending < 0) {
+            throw new IllegalArgumentException("Max pending must be non-negative");
+        }
+        this.maxPending = maxPending;
+        return this;
+    }
+
+    /**
+     * Sets the uncaught exception handler for threads.
+     *
+     * @param uncaughtExceptionHandler the exception handler
+     * @return current builder instance (for method chaining)
+     */
+    public VirtualThreadPoolBuilder uncaughtExceptionHandler(Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+        this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+        return this;
+    }
+
+    /**
+     * Builds the VirtualThreadExecutor instance.
+     *
+     * @return configured VirtualThreadExecutor instance
+     * @throws IllegalArgumentException if thread name prefix is empty
+     */
+    @Override
+    public VirtualThreadExecutor build() {
+        Assert.hasLength(threadNamePrefix, "The thread name prefix cannot be empty or an empty string.");
+        ThreadFactoryBuilder threadFactoryBuilder = ThreadFactoryBuilder.builder().prefix(threadNamePrefix).virtual();
+        if (uncaughtExceptionHandler != null) {
+            threadFactoryBuilder.uncaughtExceptionHandler(uncaughtExceptionHandler);
+        }
+        return new VirtualThreadExecutor(threadFactoryBuilder.build(), maxConcurrency, maxPending);
+    }
+}
@@ -0,0 +1,284 @@
+package com.lcsk42.frameworks.starter.common.threadpool.dynamic;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * A {@link LinkedBlockingQueue} whose capacity can be changed after creation.
+ * The underlying queue is unbounded; the capacity is enforced by the insertion methods, so
+ * shrinking below the current size only stops new elements until the backlog drains.
+ * <p>
+ * Insertions reserve a slot on an atomic counter before linking the element, so {@link #offer(Object)}
+ * costs one CAS on top of the queue's own put lock. Only producers that have to wait take
+ * {@code waitLock}, and removals signal them only while some are waiting.
+ *
+ * @param <E> the type of elements held in this queue
+ */
+public class ResizableLinkedBlockingQueue<E> extends LinkedBlockingQueue<E> {
+
+    // Elements in the queue plus slots reserved by insertions in flight
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final ReentrantLock waitLock = new ReentrantLock();
+
+    private final Condition notFull = waitLock.newCondition();
+
+    // Producers blocked in put/offer, removals only take the lock when there are some
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    private volatile int capacity;
+
+    /**
+     * Constructs a queue with the given initial capacity.
+     *
+     * @param capacity the maximum number of elements
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public ResizableLinkedBlockingQueue(int capacity) {
+        super();
+        checkCapacity(capacity);
+        this.capacity = capacity;
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+    }
+
+    /**
+     * Returns the current capacity.
+     *
+     * @return the maximum number of elements
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the capacity. Blocked producers are woken up when the capacity grows.
+     *
+     * @param capacity the new maximum number of elements
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public void setCapacity(int capacity) {
+        checkCapacity(capacity);
+        int previous = this.capacity;
+        this.capacity = capacity;
+        if (capacity > previous) {
+            signalNotFull(true);
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - count.get());
+    }
+
+    @Override
+    public boolean offer(@NonNull E e) {
+        if (!tryReserve()) {
+            return false;
+        }
+        super.offer(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(@NonNull E e, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        if (!tryReserve() && !awaitReserve(unit.toNanos(timeout))) {
+            return false;
+        }
+        super.offer(e);
+        return true;
+    }
+
+    @Override
+    public void put(@NonNull E e) throws InterruptedException {
+        if (!tryReserve()) {
+            awaitReserve(Long.MAX_VALUE);
+        }
+        super.offer(e);
+    }
+
+    private boolean tryReserve() {
+        for (; ; ) {
+            int current = count.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits for a slot, forever when {@code nanos} is {@link Long#MAX_VALUE}.
+     * <p>
+     * The waiter is counted before re-checking the slots and removals release their slot before reading
+     * that count, so either the re-check sees the free slot or the removal sees the waiter and signals it
+     * under the lock, after the waiter started waiting.
+     */
+    private boolean awaitReserve(long nanos) throws InterruptedException {
+        boolean reserved = false;
+        waitLock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+        try {
+            while (!(reserved = tryReserve())) {
+                if (nanos == Long.MAX_VALUE) {
+                    notFull.await();
+                } else if (nanos > 0L) {
+                    nanos = notFull.awaitNanos(nanos);
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            waitingProducers.decrementAndGet();
+            // A signal consumed by a producer that timed out or was interrupted goes to the next one
+            if (!reserved && count.get() < capacity) {
+                notFull.signal();
+            }
+            waitLock.unlock();
+        }
+    }
+
+    private void release(int slots) {
+        count.addAndGet(-slots);
+        signalNotFull(slots > 1);
+    }
+
+    private void signalNotFull(boolean all) {
+        if (waitingProducers.get() == 0) {
+            return;
+        }
+        waitLock.lock();
+        try {
+            if (all) {
+                notFull.signalAll();
+            } else {
+                notFull.signal();
+            }
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e = super.take();
+        release(1);
+        return e;
+    }
+
+    @Override
+    public E poll() {
+        E e = super.poll();
+        if (e != null) {
+            release(1);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        E e = super.poll(timeout, unit);
+        if (e != null) {
+            release(1);
+        }
+        return e;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = super.remove(o);
+        if (removed) {
+            release(1);
+        }
+        return removed;
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c, int maxElements) {
+        int drained = super.drainTo(c, maxElements);
+        if (drained > 0) {
+            release(drained);
+        }
+        return drained;
+    }
+
+    // The bulk removals below would bypass the slot count, route them through remove(Object) and drainTo
+
+    @Override
+    public boolean removeIf(@NonNull Predicate<? super E> filter) {
+        boolean removed = false;
+        Iterator<E> iterator = super.iterator();
+        while (iterator.hasNext()) {
+            E e = iterator.next();
+            if (filter.test(e) && remove(e)) {
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(@NonNull Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(@NonNull Collection<?> c) {
+        return removeIf(e -> !c.contains(e));
+    }
+
+    @Override
+    public void clear() {
+        drainTo(new ArrayList<>());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> iterator = super.iterator();
+        return new Iterator<>() {
+
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                ResizableLinkedBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.lcsk42.frameworks.starter.common.threadpool.dynamic;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the settings and load of the registered thread pools.
+ */
+@Endpoint(id = "threadpools")
+public class ThreadPoolEndpoint {
+
+    @ReadOperation
+    public Map<String, ThreadPoolSnapshot> threadPools() {
+        Map<String, ThreadPoolSnapshot> snapshots = new LinkedHashMap<>();
+        ThreadPoolRegistry.getAll().forEach((name, executor) -> snapshots.put(name, ThreadPoolRegistry.snapshot(executor)));
+        return snapshots;
+    }
+
+    @Nullable
+    @ReadOperation
+    public ThreadPoolSnapshot threadPool(@Selector String name) {
+        return ThreadPoolRegistry.get(name).map(ThreadPoolRegistry::snapshot).orElse(null);
+    }
+}
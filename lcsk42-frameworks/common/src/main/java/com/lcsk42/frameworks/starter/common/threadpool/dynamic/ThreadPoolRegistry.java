@@ -0,0 +1,248 @@
+package com.lcsk42.frameworks.starter.common.threadpool.dynamic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Registry of the thread pools built by the framework, by name.
+ * Settings configured for a name are applied to the pool registered under it, both when it
+ * registers and whenever the settings change, so pools can be resized without a restart.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ThreadPoolRegistry {
+
+    private static final Map<String, ThreadPoolExecutor> POOLS = new ConcurrentHashMap<>();
+
+    private static final List<BiConsumer<String, ThreadPoolExecutor>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile Map<String, ThreadPoolSettings> settings = Collections.emptyMap();
+
+    /**
+     * Registers a pool. A name taken by a live pool gets a numeric suffix, a name taken by a pool
+     * that has been shut down is reused.
+     *
+     * @param name     preferred pool name
+     * @param executor the pool
+     * @return the name the pool was registered under
+     */
+    public static synchronized String register(@NonNull String name, @NonNull ThreadPoolExecutor executor) {
+        String registeredName = name;
+        int suffix = 2;
+        ThreadPoolExecutor existing;
+        while ((existing = POOLS.get(registeredName)) != null && existing != executor && !existing.isShutdown()) {
+            registeredName = name + "-" + suffix++;
+        }
+        POOLS.put(registeredName, executor);
+        ThreadPoolSettings poolSettings = settings.get(registeredName);
+        if (poolSettings != null) {
+            apply(registeredName, executor, poolSettings);
+        }
+        for (BiConsumer<String, ThreadPoolExecutor> listener : LISTENERS) {
+            notify(listener, registeredName, executor);
+        }
+        return registeredName;
+    }
+
+    /**
+     * Adds a listener called for every pool registered from now on and, right away, for the running ones.
+     *
+     * @param listener receives the pool name and the pool
+     */
+    public static synchronized void addListener(@NonNull BiConsumer<String, ThreadPoolExecutor> listener) {
+        LISTENERS.add(listener);
+        getAll().forEach((name, executor) -> notify(listener, name, executor));
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(BiConsumer)}.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(@NonNull BiConsumer<String, ThreadPoolExecutor> listener) {
+        LISTENERS.remove(listener);
+    }
+
+    private static void notify(BiConsumer<String, ThreadPoolExecutor> listener, String name, ThreadPoolExecutor executor) {
+        try {
+            listener.accept(name, executor);
+        } catch (RuntimeException ex) {
+            log.warn("Thread pool registry listener failed for pool {}.", name, ex);
+        }
+    }
+
+    /**
+     * Removes a pool from the registry.
+     *
+     * @param name the pool name
+     */
+    public static void unregister(@NonNull String name) {
+        POOLS.remove(name);
+    }
+
+    /**
+     * Returns the pool registered under the name, if it is still running.
+     *
+     * @param name the pool name
+     * @return the pool, or empty if none or shut down
+     */
+    public static Optional<ThreadPoolExecutor> get(@NonNull String name) {
+        return Optional.ofNullable(POOLS.get(name)).filter(executor -> !executor.isShutdown());
+    }
+
+    /**
+     * Returns the name a pool is registered under.
+     *
+     * @param executor the pool
+     * @return the name, or empty if the pool is not registered
+     */
+    public static Optional<String> nameOf(@NonNull ThreadPoolExecutor executor) {
+        return POOLS.entrySet().stream()
+                .filter(entry -> entry.getValue() == executor)
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    /**
+     * Returns all running pools, sorted by name. Pools that have been shut down are dropped.
+     *
+     * @return unmodifiable name-to-pool map
+     */
+    public static Map<String, ThreadPoolExecutor> getAll() {
+        POOLS.values().removeIf(ThreadPoolExecutor::isShutdown);
+        return Collections.unmodifiableMap(new TreeMap<>(POOLS));
+    }
+
+    /**
+     * Replaces the configured settings and applies them to the registered pools.
+     * Pools whose settings are removed keep their current values.
+     *
+     * @param poolSettings name-to-settings map
+     */
+    public static synchronized void configure(Map<String, ThreadPoolSettings> poolSettings) {
+        settings = Objects.isNull(poolSettings) ? Collections.emptyMap() : Map.copyOf(poolSettings);
+        settings.forEach((name, value) -> get(name).ifPresent(executor -> apply(name, executor, value)));
+    }
+
+    /**
+     * Applies settings to a registered pool.
+     *
+     * @param name         the pool name
+     * @param poolSettings settings to apply, unset fields are left unchanged
+     * @return false if no running pool is registered under the name
+     * @throws IllegalArgumentException if the settings are invalid for the pool
+     */
+    public static boolean update(@NonNull String name, @NonNull ThreadPoolSettings poolSettings) {
+        Optional<ThreadPoolExecutor> executor = get(name);
+        executor.ifPresent(value -> {
+            validate(name, value, poolSettings);
+            apply(name, value, poolSettings);
+        });
+        return executor.isPresent();
+    }
+
+    /**
+     * Returns the current settings and load of a pool.
+     *
+     * @param executor the pool
+     * @return a snapshot of the pool
+     */
+    public static ThreadPoolSnapshot snapshot(@NonNull ThreadPoolExecutor executor) {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        int queueSize = queue.size();
+        int queueCapacity;
+        if (queue instanceof ResizableLinkedBlockingQueue<Runnable> resizable) {
+            queueCapacity = resizable.getCapacity();
+        } else {
+            int remaining = queue.remainingCapacity();
+            queueCapacity = remaining == Integer.MAX_VALUE ? -1 : queueSize + remaining;
+        }
+        return ThreadPoolSnapshot.builder()
+                .type(executor.getClass().getName())
+                .corePoolSize(executor.getCorePoolSize())
+                .maximumPoolSize(executor.getMaximumPoolSize())
+                .keepAliveTime(executor.getKeepAliveTime(TimeUnit.MILLISECONDS))
+                .queueCapacity(queueCapacity)
+                .queueSize(queueSize)
+                .poolSize(executor.getPoolSize())
+                .activeCount(executor.getActiveCount())
+                .largestPoolSize(executor.getLargestPoolSize())
+                .completedTaskCount(executor.getCompletedTaskCount())
+                .build();
+    }
+
+    private static void validate(String name, ThreadPoolExecutor executor, ThreadPoolSettings poolSettings) {
+        int corePoolSize = Objects.requireNonNullElse(poolSettings.getCorePoolSize(), executor.getCorePoolSize());
+        int maximumPoolSize = Objects.requireNonNullElse(poolSettings.getMaximumPoolSize(), executor.getMaximumPoolSize());
+        if (corePoolSize < 0 || maximumPoolSize <= 0 || maximumPoolSize < corePoolSize) {
+            throw new IllegalArgumentException("Invalid pool sizes for thread pool " + name
+                    + ": core " + corePoolSize + ", maximum " + maximumPoolSize);
+        }
+        Long keepAliveTime = poolSettings.getKeepAliveTime();
+        if (keepAliveTime != null && (keepAliveTime < 0
+                || (keepAliveTime == 0 && executor.allowsCoreThreadTimeOut()))) {
+            throw new IllegalArgumentException("Invalid keep-alive time for thread pool " + name + ": " + keepAliveTime);
+        }
+        Integer queueCapacity = poolSettings.getQueueCapacity();
+        if (queueCapacity != null && queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid queue capacity for thread pool " + name + ": " + queueCapacity);
+        }
+    }
+
+    /**
+     * Applies settings, logging instead of throwing so one bad entry does not stop the others.
+     */
+    private static void apply(String name, ThreadPoolExecutor executor, ThreadPoolSettings poolSettings) {
+        try {
+            validate(name, executor, poolSettings);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring settings of thread pool {}: {}", name, ex.getMessage());
+            return;
+        }
+        int corePoolSize = Objects.requireNonNullElse(poolSettings.getCorePoolSize(), executor.getCorePoolSize());
+        int maximumPoolSize = Objects.requireNonNullElse(poolSettings.getMaximumPoolSize(), executor.getMaximumPoolSize());
+        if (corePoolSize != executor.getCorePoolSize() || maximumPoolSize != executor.getMaximumPoolSize()) {
+            log.info("Resizing thread pool {}: core {} -> {}, maximum {} -> {}.", name,
+                    executor.getCorePoolSize(), corePoolSize, executor.getMaximumPoolSize(), maximumPoolSize);
+            // Keep core <= maximum at every step
+            if (corePoolSize > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(maximumPoolSize);
+                executor.setCorePoolSize(corePoolSize);
+            } else {
+                executor.setCorePoolSize(corePoolSize);
+                executor.setMaximumPoolSize(maximumPoolSize);
+            }
+        }
+        Long keepAliveTime = poolSettings.getKeepAliveTime();
+        if (keepAliveTime != null && keepAliveTime != executor.getKeepAliveTime(TimeUnit.MILLISECONDS)) {
+            log.info("Changing keep-alive time of thread pool {} to {} ms.", name, keepAliveTime);
+            executor.setKeepAliveTime(keepAliveTime, TimeUnit.MILLISECONDS);
+        }
+        Integer queueCapacity = poolSettings.getQueueCapacity();
+        if (queueCapacity != null) {
+            if (executor.getQueue() instanceof ResizableLinkedBlockingQueue<Runnable> queue) {
+                if (queue.getCapacity() != queueCapacity) {
+                    log.info("Changing queue capacity of thread pool {}: {} -> {}.", name, queue.getCapacity(), queueCapacity);
+                    queue.setCapacity(queueCapacity);
+                }
+            } else {
+                log.warn("Queue of thread pool {} ({}) cannot be resized.", name, executor.getQueue().getClass().getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lcsk42.frameworks.starter.common.threadpool.dynamic;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Runtime settings of a registered thread pool. Unset fields keep the pool's current value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadPoolSettings {
+    /**
+     * Number of threads kept in the pool even when idle
+     */
+    private Integer corePoolSize;
+
+    /**
+     * Maximum number of threads in the pool
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * Time in milliseconds excess idle threads wait for new tasks
+     */
+    private Long keepAliveTime;
+
+    /**
+     * Capacity of the work queue, only applied to resizable queues
+     */
+    private Integer queueCapacity;
+}
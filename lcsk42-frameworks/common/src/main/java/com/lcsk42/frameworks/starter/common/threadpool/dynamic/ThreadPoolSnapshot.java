@@ -0,0 +1,44 @@
+package com.lcsk42.frameworks.starter.common.threadpool.dynamic;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Point-in-time view of a registered thread pool's settings and load.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadPoolSnapshot {
+    /**
+     * Executor class name
+     */
+    private String type;
+
+    private int corePoolSize;
+
+    private int maximumPoolSize;
+
+    /**
+     * Keep-alive time in milliseconds
+     */
+    private long keepAliveTime;
+
+    /**
+     * Queue capacity, -1 if the queue reports no bound
+     */
+    private int queueCapacity;
+
+    private int queueSize;
+
+    private int poolSize;
+
+    private int activeCount;
+
+    private int largestPoolSize;
+
+    private long completedTaskCount;
+}
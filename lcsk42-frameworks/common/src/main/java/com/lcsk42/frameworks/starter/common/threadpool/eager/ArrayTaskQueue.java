@@ -0,0 +1,311 @@
+package com.lcsk42.frameworks.starter.common.threadpool.eager;
+
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An array-backed, bounded, multi-producer multi-consumer work queue for {@link EagerThreadPoolExecutor}.
+ * <p>
+ * Unlike {@link TaskQueue} it allocates nothing per task and takes no lock to insert or remove:
+ * producers and consumers claim slots by CAS on padded head and tail counters, and every slot carries
+ * a sequence number telling whether it is ready to be written or read (D. Vyukov's bounded queue).
+ * Only idle workers waiting for a task use a lock, and producers take it only when a worker is waiting.
+ * <p>
+ * The capacity is rounded up to a power of two. Queued tasks cannot be removed individually, so
+ * {@link #remove(Object)} always returns false, and iteration sees a weakly consistent snapshot.
+ */
+public class ArrayTaskQueue extends AbstractQueue<Runnable> implements EagerTaskQueue {
+
+    // Upper bound for a producer waiting for room, blocking inserts only happen on the retry path
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Runnable[] buffer;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    // Next position to write, claimed by producers
+    private final PaddedAtomicLong tail = new PaddedAtomicLong();
+
+    // Next position to read, claimed by consumers
+    private final PaddedAtomicLong head = new PaddedAtomicLong();
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+
+    private final Condition notEmpty = takeLock.newCondition();
+
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+    // Reference to the associated thread pool executor
+    @Setter
+    private EagerThreadPoolExecutor executor;
+
+    /**
+     * Constructs an ArrayTaskQueue with at least the specified capacity.
+     *
+     * @param capacity the minimum capacity of the queue, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive or too large
+     */
+    public ArrayTaskQueue(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Queue capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Runnable[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.setPlain(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the capacity after rounding.
+     *
+     * @return the maximum number of queued tasks
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Offers a task with the same eager policy as {@link TaskQueue#offer(Runnable)}:
+     * queue when threads are idle, refuse to force a new thread below the maximum pool size,
+     * otherwise queue if there is room.
+     *
+     * @param runnable the task to be executed
+     * @return true if the task was queued successfully, false otherwise
+     */
+    @Override
+    public boolean offer(@NonNull Runnable runnable) {
+        int currentPoolThreadSize = executor.getLivePoolSize();
+        if (executor.getSubmittedTaskCount() < currentPoolThreadSize) {
+            return enqueue(runnable);
+        }
+        if (currentPoolThreadSize < executor.getMaximumPoolSize()) {
+            return false;
+        }
+        return enqueue(runnable);
+    }
+
+    @Override
+    public boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor is shutdown!");
+        }
+        return offerWaiting(o, unit.toNanos(timeout));
+    }
+
+    private boolean enqueue(Runnable runnable) {
+        long position = tail.get();
+        for (; ; ) {
+            int slot = (int) position & mask;
+            long difference = sequences.getAcquire(slot) - position;
+            if (difference == 0L) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[slot] = runnable;
+                    sequences.setRelease(slot, position + 1);
+                    signalNotEmpty();
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0L) {
+                // The slot still holds the task from one lap ago, the queue is full
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private Runnable dequeue() {
+        long position = head.get();
+        for (; ; ) {
+            int slot = (int) position & mask;
+            long difference = sequences.getAcquire(slot) - (position + 1);
+            if (difference == 0L) {
+                if (head.compareAndSet(position, position + 1)) {
+                    Runnable runnable = buffer[slot];
+                    buffer[slot] = null;
+                    sequences.setRelease(slot, position + mask + 1);
+                    return runnable;
+                }
+                position = head.get();
+            } else if (difference < 0L) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    private void signalNotEmpty() {
+        // Pairs with the increment in awaitNotEmpty: either the consumer sees the task on its
+        // re-check, or the producer sees the consumer waiting
+        VarHandle.fullFence();
+        if (waitingConsumers.get() == 0) {
+            return;
+        }
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private boolean offerWaiting(Runnable runnable, long nanos) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        while (!enqueue(runnable)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return false;
+            }
+            LockSupport.parkNanos(this, Math.min(remaining, MAX_PARK_NANOS));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void put(@NonNull Runnable runnable) throws InterruptedException {
+        offerWaiting(runnable, Long.MAX_VALUE >> 1);
+    }
+
+    @Override
+    public boolean offer(@NonNull Runnable runnable, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return offerWaiting(runnable, unit.toNanos(timeout));
+    }
+
+    @Override
+    public Runnable poll() {
+        return dequeue();
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        Runnable runnable;
+        while ((runnable = dequeue()) == null) {
+            awaitNotEmpty(Long.MAX_VALUE);
+        }
+        return runnable;
+    }
+
+    @Override
+    public Runnable poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + nanos;
+        Runnable runnable;
+        while ((runnable = dequeue()) == null) {
+            if (nanos <= 0L) {
+                return null;
+            }
+            awaitNotEmpty(nanos);
+            nanos = deadline - System.nanoTime();
+        }
+        return runnable;
+    }
+
+    private void awaitNotEmpty(long nanos) throws InterruptedException {
+        takeLock.lockInterruptibly();
+        try {
+            waitingConsumers.incrementAndGet();
+            try {
+                // A claimed but unpublished slot counts as empty, its producer signals after publishing
+                if (peek() == null) {
+                    if (nanos == Long.MAX_VALUE) {
+                        notEmpty.await();
+                    } else {
+                        notEmpty.awaitNanos(nanos);
+                    }
+                }
+            } finally {
+                waitingConsumers.decrementAndGet();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        long position = head.get();
+        int slot = (int) position & mask;
+        return sequences.getAcquire(slot) == position + 1 ? buffer[slot] : null;
+    }
+
+    @Override
+    public int size() {
+        // Read head first so the difference is never negative
+        long headPosition = head.get();
+        long tailPosition = tail.get();
+        return (int) Math.max(0L, Math.min(tailPosition - headPosition, buffer.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return buffer.length - size();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return false;
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Runnable> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        Runnable runnable;
+        while (drained < maxElements && (runnable = dequeue()) != null) {
+            c.add(runnable);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public @NonNull Iterator<Runnable> iterator() {
+        List<Runnable> snapshot = new ArrayList<>();
+        long end = tail.get();
+        for (long position = head.get(); position < end; position++) {
+            int slot = (int) position & mask;
+            if (sequences.getAcquire(slot) == position + 1) {
+                Runnable runnable = buffer[slot];
+                if (runnable != null) {
+                    snapshot.add(runnable);
+                }
+            }
+        }
+        return snapshot.iterator();
+    }
+}
@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.common.threadpool.eager;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work queue of an {@link EagerThreadPoolExecutor}. Its {@code offer} refuses tasks while the pool
+ * can still grow, so the executor starts a new thread instead of queueing.
+ */
+public interface EagerTaskQueue extends BlockingQueue<Runnable> {
+
+    /**
+     * Binds the queue to its executor, called by the executor's constructor.
+     *
+     * @param executor the executor consuming this queue
+     */
+    void setExecutor(EagerThreadPoolExecutor executor);
+
+    /**
+     * Queues a task the executor has rejected, bypassing the eager check.
+     *
+     * @param o       the task to be executed
+     * @param timeout how long to wait before giving up
+     * @param unit    the time unit of the timeout argument
+     * @return true if successful, false if the specified waiting time elapses
+     * @throws InterruptedException       if interrupted while waiting
+     * @throws RejectedExecutionException if the executor is shutdown
+     */
+    boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -1,23 +1,25 @@
 package com.lcsk42.frameworks.starter.common.threadpool.eager;
 
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.MonitoredThreadPoolExecutor;
 import org.springframework.lang.NonNull;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A thread pool executor designed for fast task consumption.
  * Tracks the number of submitted tasks and provides enhanced rejection handling.
  */
-public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
+public class EagerThreadPoolExecutor extends MonitoredThreadPoolExecutor {
 
-    // Atomic counter to track the number of submitted tasks
-    private final AtomicInteger submittedTaskCount = new AtomicInteger(0);
+    // Atomic counter to track the number of submitted tasks, updated on every submit and completion
+    private final PaddedAtomicLong submittedTaskCount = new PaddedAtomicLong();
+
+    // Number of live worker threads, read by the queue instead of getPoolSize(), which takes the main lock
+    private final PaddedAtomicLong livePoolSize = new PaddedAtomicLong();
 
     /**
      * Constructs a new EagerThreadPoolExecutor with the given parameters.
@@ -38,19 +40,45 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
                                    ThreadFactory threadFactory,
                                    RejectedExecutionHandler handler) {
         super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        setThreadFactory(threadFactory);
 
-        if (workQueue instanceof TaskQueue taskQueue) {
+        if (workQueue instanceof EagerTaskQueue taskQueue) {
             taskQueue.setExecutor(this);
         }
     }
 
+    /**
+     * Sets the thread factory, counting the threads it creates for {@link #getLivePoolSize()}.
+     *
+     * @param threadFactory the new thread factory
+     */
+    @Override
+    public void setThreadFactory(@NonNull ThreadFactory threadFactory) {
+        if (threadFactory instanceof CountingThreadFactory) {
+            super.setThreadFactory(threadFactory);
+            return;
+        }
+        super.setThreadFactory(new CountingThreadFactory(threadFactory));
+    }
+
+    /**
+     * Returns the number of worker threads without taking the pool's main lock.
+     * A thread counts from its creation until its worker loop exits, so the value may briefly
+     * exceed {@link #getPoolSize()}.
+     *
+     * @return the approximate number of threads in the pool
+     */
+    public int getLivePoolSize() {
+        return (int) livePoolSize.get();
+    }
+
     /**
      * Returns the current number of submitted tasks.
      *
      * @return the count of submitted tasks
      */
     public int getSubmittedTaskCount() {
-        return submittedTaskCount.get();
+        return (int) submittedTaskCount.get();
     }
 
     /**
@@ -59,6 +87,7 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
      */
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
         submittedTaskCount.decrementAndGet();
     }
 
@@ -73,17 +102,22 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
     @Override
     public void execute(@NonNull Runnable command) {
         submittedTaskCount.incrementAndGet();
+        // Decorate once so a retried task keeps its context
+        Runnable task = decorate(command);
         try {
-            super.execute(command);
+            super.execute(task);
         } catch (RejectedExecutionException ex) {
-            // Special handling for TaskQueue: try to offer the task again
-            TaskQueue taskQueue = (TaskQueue) super.getQueue();
+            // Special handling for EagerTaskQueue: try to offer the task again
+            EagerTaskQueue taskQueue = (EagerTaskQueue) super.getQueue();
+            trackQueued(task);
             try {
-                if (!taskQueue.retryOffer(command, 0, TimeUnit.MILLISECONDS)) {
+                if (!taskQueue.retryOffer(task, 0, TimeUnit.MILLISECONDS)) {
+                    untrackQueued(task);
                     submittedTaskCount.decrementAndGet();
                     throw new RejectedExecutionException("Queue capacity is full.", ex);
                 }
             } catch (InterruptedException iex) {
+                untrackQueued(task);
                 submittedTaskCount.decrementAndGet();
                 Thread.currentThread().interrupt();
                 throw new RejectedExecutionException(iex);
@@ -93,4 +127,32 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
             throw ex;
         }
     }
+
+    /**
+     * Thread factory counting the threads alive, a thread that fails to start is never decremented,
+     * which only happens while the pool shuts down.
+     */
+    private final class CountingThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory delegate;
+
+        private CountingThreadFactory(ThreadFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = delegate.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    livePoolSize.decrementAndGet();
+                }
+            });
+            if (thread != null) {
+                livePoolSize.incrementAndGet();
+            }
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.lcsk42.frameworks.starter.common.threadpool.eager;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Left padding, superclass fields are laid out before subclass fields.
+ */
+@SuppressWarnings("unused")
+abstract class PaddedAtomicLongLhs {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * The value, kept away from neighbours by the padding on both sides.
+ */
+abstract class PaddedAtomicLongValue extends PaddedAtomicLongLhs {
+    volatile long value;
+}
+
+/**
+ * An atomic long occupying a cache line of its own, for counters updated by many threads at once.
+ * Without padding a hot counter shares its line with unrelated fields, and every update invalidates
+ * them in the other cores' caches.
+ */
+@SuppressWarnings("unused")
+public final class PaddedAtomicLong extends PaddedAtomicLongValue {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(PaddedAtomicLongValue.class, "value", long.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    public PaddedAtomicLong() {
+    }
+
+    public PaddedAtomicLong(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    public long get() {
+        return value;
+    }
+
+    public long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    public boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    public long incrementAndGet() {
+        return (long) VALUE.getAndAdd(this, 1L) + 1L;
+    }
+
+    public long decrementAndGet() {
+        return (long) VALUE.getAndAdd(this, -1L) - 1L;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
@@ -1,18 +1,19 @@
 package com.lcsk42.frameworks.starter.common.threadpool.eager;
 
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ResizableLinkedBlockingQueue;
 import lombok.NonNull;
 import lombok.Setter;
 
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A specialized blocking queue for fast task consumption in thread pools.
  * Works in conjunction with EagerThreadPoolExecutor to optimize thread creation.
+ * The capacity can be changed at runtime.
  */
 @Setter
-public class TaskQueue extends LinkedBlockingQueue<Runnable> {
+public class TaskQueue extends ResizableLinkedBlockingQueue<Runnable> implements EagerTaskQueue {
     // Reference to the associated thread pool executor
     private EagerThreadPoolExecutor executor;
 
@@ -38,7 +39,7 @@ public class TaskQueue extends LinkedBlockingQueue<Runnable> {
      */
     @Override
     public boolean offer(@NonNull Runnable runnable) {
-        int currentPoolThreadSize = executor.getPoolSize();
+        int currentPoolThreadSize = executor.getLivePoolSize();
 
         // When there are idle core threads available,
         // add the task directly to the queue for core threads to process
@@ -67,6 +68,7 @@ public class TaskQueue extends LinkedBlockingQueue<Runnable> {
      * @throws InterruptedException       if interrupted while waiting
      * @throws RejectedExecutionException if the executor is shutdown
      */
+    @Override
     public boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException {
         if (executor.isShutdown()) {
             throw new RejectedExecutionException("Executor is shutdown!");
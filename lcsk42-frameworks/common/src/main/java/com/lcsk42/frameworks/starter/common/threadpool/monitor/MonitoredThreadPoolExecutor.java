@@ -0,0 +1,254 @@
+package com.lcsk42.frameworks.starter.common.threadpool.monitor;
+
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import com.lcsk42.frameworks.starter.common.threadpool.proxy.RejectedProxyInvocationHandler;
+import com.lcsk42.frameworks.starter.common.threadpool.proxy.RejectedProxyUtil;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread pool executor recording how long tasks wait in the queue and run, and how many are
+ * rejected by each policy. Timings are taken in {@link #beforeExecute} and {@link #afterExecute},
+ * keyed on the queued task itself, so the queue holds the tasks as submitted: {@link #purge()} still
+ * finds cancelled futures and rejection policies get the caller's task.
+ * <p>
+ * Tasks are also decorated through the {@link TaskDecoratorRegistry} on submission, so they run
+ * with the context of the submitting thread. Futures created by {@code submit} decorate the task
+ * they run; a plain task is only wrapped when a decorator actually changes it, and the wrapper is
+ * hidden again from rejection policies, {@link #remove(Runnable)} and {@link #shutdownNow()}.
+ * A task retried by a rejection policy is decorated again on the retrying thread.
+ */
+public class MonitoredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    @Getter
+    private final ThreadPoolStats stats = new ThreadPoolStats();
+
+    // Queued tasks with the time they were handed to the queue, removed once they leave it
+    private final Map<Runnable, Long> queuedNanos = new ConcurrentHashMap<>();
+
+    // Start of the task running on a worker, set in beforeExecute and read in afterExecute on the same thread
+    private final ThreadLocal<long[]> startedNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Constructs a new MonitoredThreadPoolExecutor with the given parameters.
+     *
+     * @param corePoolSize    the number of threads to keep in the pool
+     * @param maximumPoolSize the maximum number of threads in the pool
+     * @param keepAliveTime   the time excess idle threads will wait for new tasks
+     * @param unit            the time unit for keepAliveTime
+     * @param workQueue       the queue to hold tasks before they are executed
+     * @param threadFactory   the factory to use when creating new threads
+     * @param handler         the handler to use when execution is blocked
+     */
+    public MonitoredThreadPoolExecutor(int corePoolSize,
+                                       int maximumPoolSize,
+                                       long keepAliveTime,
+                                       TimeUnit unit,
+                                       BlockingQueue<Runnable> workQueue,
+                                       ThreadFactory threadFactory,
+                                       RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        setRejectedExecutionHandler(handler);
+    }
+
+    /**
+     * Sets the rejection policy, counting its rejections under the policy's class name.
+     *
+     * @param handler the new rejection policy
+     */
+    @Override
+    public void setRejectedExecutionHandler(@NonNull RejectedExecutionHandler handler) {
+        if (handler instanceof UnwrappingRejectionHandler unwrapping && unwrapping.executor() == this) {
+            super.setRejectedExecutionHandler(handler);
+            return;
+        }
+        RejectedExecutionHandler counted = handler;
+        if (!Proxy.isProxyClass(handler.getClass())
+                || !(Proxy.getInvocationHandler(handler) instanceof RejectedProxyInvocationHandler)) {
+            String policy = handler.getClass().getSimpleName();
+            counted = RejectedProxyUtil.createProxy(handler, stats.rejectedCounter(policy));
+        }
+        super.setRejectedExecutionHandler(new UnwrappingRejectionHandler(this, counted));
+    }
+
+    /**
+     * Returns the rejection policy as counted, without the wrapper handing it the caller's tasks.
+     *
+     * @return the current rejection policy
+     */
+    @Override
+    public @NonNull RejectedExecutionHandler getRejectedExecutionHandler() {
+        RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+        return handler instanceof UnwrappingRejectionHandler unwrapping ? unwrapping.delegate() : handler;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Runnable task = decorate(command);
+        trackQueued(task);
+        super.execute(task);
+    }
+
+    /**
+     * Decorates a task through the {@link TaskDecoratorRegistry}, unless it is decorated already,
+     * e.g. when resubmitted or created by {@code submit}.
+     *
+     * @param command the task as submitted
+     * @return the task to queue, the command itself if no decorator changed it
+     */
+    protected Runnable decorate(Runnable command) {
+        if (command instanceof DecoratedTask || command instanceof DecoratedFutureTask<?>) {
+            return command;
+        }
+        Runnable decorated = TaskDecoratorRegistry.decorate(command);
+        return decorated == command ? command : new DecoratedTask(command, decorated);
+    }
+
+    /**
+     * Records the time a task is handed to the queue, call before queueing it.
+     *
+     * @param task the task as queued
+     */
+    protected void trackQueued(Runnable task) {
+        queuedNanos.put(task, System.nanoTime());
+    }
+
+    /**
+     * Forgets a task that left the queue without running, e.g. because it was removed or rejected.
+     *
+     * @param task the task as queued
+     */
+    protected void untrackQueued(Runnable task) {
+        queuedNanos.remove(task);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new DecoratedFutureTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new DecoratedFutureTask<>(callable);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        long now = System.nanoTime();
+        Long queued = queuedNanos.remove(r);
+        if (queued != null) {
+            stats.recordQueueWait(now - queued);
+        }
+        startedNanos.get()[0] = now;
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        long[] started = startedNanos.get();
+        if (started[0] != 0L) {
+            stats.recordExecution(System.nanoTime() - started[0]);
+            started[0] = 0L;
+        }
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        Runnable queued = task;
+        if (!super.remove(task)) {
+            queued = null;
+            for (Runnable each : getQueue()) {
+                if (each instanceof DecoratedTask decoratedTask && decoratedTask.delegate == task) {
+                    queued = super.remove(each) ? each : null;
+                    break;
+                }
+            }
+        }
+        if (queued == null) {
+            return false;
+        }
+        untrackQueued(queued);
+        return true;
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        queuedNanos.keySet().removeIf(task -> task instanceof Future<?> future && future.isCancelled());
+    }
+
+    @Override
+    public @NonNull List<Runnable> shutdownNow() {
+        List<Runnable> pending = super.shutdownNow();
+        pending.forEach(this::untrackQueued);
+        return pending.stream().map(MonitoredThreadPoolExecutor::unwrap).toList();
+    }
+
+    /**
+     * Returns the task submitted by the caller if the given one is a decoration wrapper.
+     *
+     * @param runnable a queued or rejected task
+     * @return the task as submitted
+     */
+    public static Runnable unwrap(Runnable runnable) {
+        return runnable instanceof DecoratedTask decoratedTask ? decoratedTask.delegate : runnable;
+    }
+
+    /**
+     * Hands the caller's task to the rejection policy after forgetting its queue time.
+     */
+    private record UnwrappingRejectionHandler(MonitoredThreadPoolExecutor executor,
+                                              RejectedExecutionHandler delegate) implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor e) {
+            executor.untrackQueued(r);
+            delegate.rejectedExecution(unwrap(r), e);
+        }
+    }
+
+    /**
+     * A plain task wrapped because a decorator changed it.
+     */
+    private record DecoratedTask(Runnable delegate, Runnable decorated) implements Runnable {
+
+        @Override
+        public void run() {
+            decorated.run();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    /**
+     * The future returned by {@code submit}, running its task as decorated on the submitting thread.
+     *
+     * @param <T> the result type
+     */
+    protected static class DecoratedFutureTask<T> extends FutureTask<T> {
+
+        protected DecoratedFutureTask(Callable<T> callable) {
+            super(TaskDecoratorRegistry.decorate(callable));
+        }
+
+        protected DecoratedFutureTask(Runnable runnable, T value) {
+            super(TaskDecoratorRegistry.decorate(runnable), value);
+        }
+    }
+}
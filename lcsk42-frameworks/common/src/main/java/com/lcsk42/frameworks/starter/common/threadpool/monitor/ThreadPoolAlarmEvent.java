@@ -0,0 +1,48 @@
+package com.lcsk42.frameworks.starter.common.threadpool.monitor;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a thread pool's utilization stays above its threshold.
+ */
+@Getter
+public class ThreadPoolAlarmEvent extends ApplicationEvent {
+
+    /**
+     * What is saturated.
+     */
+    public enum Type {
+        /**
+         * Active threads relative to the maximum pool size
+         */
+        ACTIVE_THREADS,
+
+        /**
+         * Queued tasks relative to the queue capacity
+         */
+        QUEUE
+    }
+
+    private final String poolName;
+
+    private final Type type;
+
+    /**
+     * Utilization in percent when the alarm fired
+     */
+    private final int utilization;
+
+    /**
+     * Threshold in percent that was exceeded
+     */
+    private final int threshold;
+
+    public ThreadPoolAlarmEvent(Object source, String poolName, Type type, int utilization, int threshold) {
+        super(source);
+        this.poolName = poolName;
+        this.type = type;
+        this.utilization = utilization;
+        this.threshold = threshold;
+    }
+}
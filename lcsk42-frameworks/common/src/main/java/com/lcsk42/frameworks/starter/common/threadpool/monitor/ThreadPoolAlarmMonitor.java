@@ -0,0 +1,119 @@
+package com.lcsk42.frameworks.starter.common.threadpool.monitor;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the utilization of the registered thread pools and publishes a {@link ThreadPoolAlarmEvent}
+ * once a pool has been above a threshold for a number of consecutive checks. The alarm fires again
+ * only after the pool has dropped below the threshold.
+ */
+@Slf4j
+public class ThreadPoolAlarmMonitor implements AutoCloseable {
+
+    private final ApplicationEventPublisher publisher;
+
+    private final int activeThreshold;
+
+    private final int queueThreshold;
+
+    private final int sustainedChecks;
+
+    // Consecutive checks above threshold, by pool name and alarm type
+    private final Map<String, int[]> streaks = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a monitor.
+     *
+     * @param publisher       receives the alarm events
+     * @param activeThreshold active threads in percent of the maximum pool size, 0 to disable
+     * @param queueThreshold  queued tasks in percent of the queue capacity, 0 to disable
+     * @param sustainedChecks consecutive checks above a threshold before the alarm fires
+     */
+    public ThreadPoolAlarmMonitor(ApplicationEventPublisher publisher,
+                                  int activeThreshold,
+                                  int queueThreshold,
+                                  int sustainedChecks) {
+        if (activeThreshold < 0 || activeThreshold > 100 || queueThreshold < 0 || queueThreshold > 100) {
+            throw new IllegalArgumentException("Alarm thresholds must be between 0 and 100");
+        }
+        if (sustainedChecks <= 0) {
+            throw new IllegalArgumentException("Sustained checks must be positive");
+        }
+        this.publisher = publisher;
+        this.activeThreshold = activeThreshold;
+        this.queueThreshold = queueThreshold;
+        this.sustainedChecks = sustainedChecks;
+    }
+
+    /**
+     * Starts checking the pools periodically on a daemon thread.
+     *
+     * @param intervalMillis time between checks in milliseconds
+     */
+    public synchronized void start(long intervalMillis) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = new ScheduledThreadPoolExecutor(1,
+                ThreadFactoryBuilder.builder().prefix("thread-pool-alarm-").daemon(true).build());
+        scheduler.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks every registered pool once.
+     */
+    void check() {
+        try {
+            Map<String, ThreadPoolExecutor> pools = ThreadPoolRegistry.getAll();
+            streaks.keySet().retainAll(pools.keySet());
+            pools.forEach(this::check);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to check thread pool utilization.", ex);
+        }
+    }
+
+    private void check(String name, ThreadPoolExecutor executor) {
+        int[] streak = streaks.computeIfAbsent(name, key -> new int[ThreadPoolAlarmEvent.Type.values().length]);
+        int active = percent(executor.getActiveCount(), executor.getMaximumPoolSize());
+        check(name, streak, ThreadPoolAlarmEvent.Type.ACTIVE_THREADS, active, activeThreshold);
+        int queued = executor.getQueue().size();
+        int queue = percent(queued, (long) queued + executor.getQueue().remainingCapacity());
+        check(name, streak, ThreadPoolAlarmEvent.Type.QUEUE, queue, queueThreshold);
+    }
+
+    private void check(String name, int[] streak, ThreadPoolAlarmEvent.Type type, int utilization, int threshold) {
+        int index = type.ordinal();
+        if (threshold == 0 || utilization < threshold) {
+            streak[index] = 0;
+            return;
+        }
+        if (++streak[index] == sustainedChecks) {
+            log.warn("Thread pool {} {} utilization at {}%, above the {}% threshold.", name, type, utilization, threshold);
+            publisher.publishEvent(new ThreadPoolAlarmEvent(this, name, type, utilization, threshold));
+        }
+    }
+
+    private static int percent(long value, long total) {
+        return total <= 0 ? 0 : (int) Math.min(100, value * 100 / total);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
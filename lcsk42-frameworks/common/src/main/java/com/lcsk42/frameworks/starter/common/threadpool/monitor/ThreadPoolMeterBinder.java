@@ -0,0 +1,110 @@
+package com.lcsk42.frameworks.starter.common.threadpool.monitor;
+
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Exposes every pool in the {@link ThreadPoolRegistry}, including pools registered later, tagged
+ * with the pool name. Timers and rejection counters are only available for
+ * {@link MonitoredThreadPoolExecutor}s; rejection counters cover the policies set at registration.
+ */
+public class ThreadPoolMeterBinder implements MeterBinder, AutoCloseable {
+
+    private final Map<String, List<Meter>> metersByPool = new ConcurrentHashMap<>();
+
+    private final BiConsumer<String, ThreadPoolExecutor> listener = this::bind;
+
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        ThreadPoolRegistry.addListener(listener);
+    }
+
+    private void bind(String name, ThreadPoolExecutor executor) {
+        MeterRegistry meterRegistry = registry;
+        // A pool replacing another under the same name gets fresh meters
+        List<Meter> previous = metersByPool.remove(name);
+        if (previous != null) {
+            previous.forEach(meterRegistry::remove);
+        }
+        Tags tags = Tags.of("name", name);
+        List<Meter> meters = new ArrayList<>();
+        meters.add(Gauge.builder("threadpool.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+                .description("Current number of threads in the pool")
+                .tags(tags)
+                .baseUnit("threads")
+                .register(meterRegistry));
+        meters.add(Gauge.builder("threadpool.pool.core", executor, ThreadPoolExecutor::getCorePoolSize)
+                .description("Core number of threads")
+                .tags(tags)
+                .baseUnit("threads")
+                .register(meterRegistry));
+        meters.add(Gauge.builder("threadpool.pool.max", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                .description("Maximum number of threads")
+                .tags(tags)
+                .baseUnit("threads")
+                .register(meterRegistry));
+        meters.add(Gauge.builder("threadpool.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Approximate number of threads running tasks")
+                .tags(tags)
+                .baseUnit("threads")
+                .register(meterRegistry));
+        meters.add(Gauge.builder("threadpool.queue.size", executor, value -> value.getQueue().size())
+                .description("Number of tasks waiting in the queue")
+                .tags(tags)
+                .baseUnit("tasks")
+                .register(meterRegistry));
+        meters.add(Gauge.builder("threadpool.queue.remaining", executor, value -> value.getQueue().remainingCapacity())
+                .description("Number of tasks the queue can still accept")
+                .tags(tags)
+                .baseUnit("tasks")
+                .register(meterRegistry));
+        meters.add(FunctionCounter.builder("threadpool.completed", executor, ThreadPoolExecutor::getCompletedTaskCount)
+                .description("Number of tasks that finished")
+                .tags(tags)
+                .baseUnit("tasks")
+                .register(meterRegistry));
+        if (executor instanceof MonitoredThreadPoolExecutor monitored) {
+            ThreadPoolStats stats = monitored.getStats();
+            meters.add(FunctionTimer.builder("threadpool.queue.wait", stats,
+                            ThreadPoolStats::getQueueWaitCount, ThreadPoolStats::getQueueWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("Time tasks spent in the queue before running")
+                    .tags(tags)
+                    .register(meterRegistry));
+            meters.add(FunctionTimer.builder("threadpool.execution", stats,
+                            ThreadPoolStats::getExecutionCount, ThreadPoolStats::getExecutionNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent running tasks")
+                    .tags(tags)
+                    .register(meterRegistry));
+            stats.getRejectedCounts().forEach((policy, counter) ->
+                    meters.add(FunctionCounter.builder("threadpool.rejected", counter, AtomicLong::get)
+                            .description("Number of tasks rejected")
+                            .tags(tags.and("policy", policy))
+                            .baseUnit("tasks")
+                            .register(meterRegistry)));
+        }
+        metersByPool.put(name, meters);
+    }
+
+    @Override
+    public void close() {
+        ThreadPoolRegistry.removeListener(listener);
+    }
+}
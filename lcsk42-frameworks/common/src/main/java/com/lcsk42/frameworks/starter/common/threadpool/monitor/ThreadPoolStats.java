@@ -0,0 +1,98 @@
+package com.lcsk42.frameworks.starter.common.threadpool.monitor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task timings and rejection counts of a {@link MonitoredThreadPoolExecutor}.
+ * Kept free of any metrics library so the executor works without one.
+ */
+public class ThreadPoolStats {
+
+    private final LongAdder queueWaitCount = new LongAdder();
+
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    private final LongAdder executionCount = new LongAdder();
+
+    private final LongAdder executionNanos = new LongAdder();
+
+    private final Map<String, AtomicLong> rejectedCounts = new ConcurrentHashMap<>();
+
+    void recordQueueWait(long nanos) {
+        queueWaitCount.increment();
+        queueWaitNanos.add(nanos);
+    }
+
+    void recordExecution(long nanos) {
+        executionCount.increment();
+        executionNanos.add(nanos);
+    }
+
+    /**
+     * Returns the rejection counter of a policy, creating it on first use.
+     *
+     * @param policy rejection policy name
+     * @return the counter
+     */
+    public AtomicLong rejectedCounter(String policy) {
+        return rejectedCounts.computeIfAbsent(policy, key -> new AtomicLong());
+    }
+
+    /**
+     * Returns the number of tasks that have left the queue.
+     *
+     * @return queue wait sample count
+     */
+    public long getQueueWaitCount() {
+        return queueWaitCount.sum();
+    }
+
+    /**
+     * Returns the total time tasks spent queued.
+     *
+     * @return total queue wait in nanoseconds
+     */
+    public double getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    /**
+     * Returns the number of tasks that have finished.
+     *
+     * @return execution sample count
+     */
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * Returns the total time spent running tasks.
+     *
+     * @return total execution time in nanoseconds
+     */
+    public double getExecutionNanos() {
+        return executionNanos.sum();
+    }
+
+    /**
+     * Returns the rejection counts by policy.
+     *
+     * @return unmodifiable policy-to-counter view
+     */
+    public Map<String, AtomicLong> getRejectedCounts() {
+        return Collections.unmodifiableMap(rejectedCounts);
+    }
+
+    /**
+     * Returns the number of rejected tasks over all policies.
+     *
+     * @return total rejections
+     */
+    public long getRejectedCount() {
+        return rejectedCounts.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+}
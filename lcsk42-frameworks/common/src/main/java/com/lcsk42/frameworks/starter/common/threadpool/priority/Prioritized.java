@@ -0,0 +1,33 @@
+package com.lcsk42.frameworks.starter.common.threadpool.priority;
+
+/**
+ * A task with a scheduling priority and an optional deadline, understood by {@link PriorityTaskQueue}.
+ */
+public interface Prioritized {
+
+    /**
+     * Priority of tasks that do not carry one.
+     */
+    int DEFAULT_PRIORITY = 0;
+
+    /**
+     * Deadline of tasks that never expire.
+     */
+    long NO_DEADLINE = Long.MAX_VALUE;
+
+    /**
+     * Returns the priority, higher values run first.
+     *
+     * @return task priority
+     */
+    int getPriority();
+
+    /**
+     * Returns the {@link System#nanoTime()} after which the task is dropped instead of run.
+     *
+     * @return deadline in nanoseconds, {@link #NO_DEADLINE} if none
+     */
+    default long getDeadlineNanos() {
+        return NO_DEADLINE;
+    }
+}
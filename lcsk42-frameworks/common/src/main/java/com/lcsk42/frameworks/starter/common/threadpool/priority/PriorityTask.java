@@ -0,0 +1,63 @@
+package com.lcsk42.frameworks.starter.common.threadpool.priority;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * A runnable with a priority and an optional deadline.
+ */
+public final class PriorityTask implements Runnable, Prioritized {
+
+    private final Runnable delegate;
+
+    @Getter
+    private final int priority;
+
+    @Getter
+    private final long deadlineNanos;
+
+    private PriorityTask(Runnable delegate, int priority, long deadlineNanos) {
+        this.delegate = delegate;
+        this.priority = priority;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a task that never expires.
+     *
+     * @param priority priority, higher values run first
+     * @param runnable the work
+     * @return the prioritized task
+     */
+    public static PriorityTask of(int priority, @NonNull Runnable runnable) {
+        return new PriorityTask(runnable, priority, NO_DEADLINE);
+    }
+
+    /**
+     * Creates a task that is dropped if it has not started within the timeout.
+     *
+     * @param priority priority, higher values run first
+     * @param timeout  time from now after which the task is not worth running
+     * @param runnable the work
+     * @return the prioritized task
+     */
+    public static PriorityTask of(int priority, @NonNull Duration timeout, @NonNull Runnable runnable) {
+        return new PriorityTask(runnable, priority, deadlineAfter(timeout));
+    }
+
+    static long deadlineAfter(Duration timeout) {
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    @Override
+    public void run() {
+        delegate.run();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
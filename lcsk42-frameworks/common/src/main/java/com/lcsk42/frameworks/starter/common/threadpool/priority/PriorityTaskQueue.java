@@ -0,0 +1,336 @@
+package com.lcsk42.frameworks.starter.common.threadpool.priority;
+
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.MonitoredThreadPoolExecutor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A bounded work queue handing out tasks by {@link Prioritized priority} instead of arrival order.
+ * <p>
+ * Waiting raises a task's effective priority by one per aging interval, so low-priority work is
+ * delayed at most (priority difference x aging interval) by later urgent work and never starves.
+ * This is implemented without re-sorting: a task is ordered by its enqueue time minus
+ * priority x aging interval, which ranks tasks exactly as their aged priorities do at any moment.
+ * Equal keys keep arrival order.
+ * <p>
+ * Tasks past their deadline are dropped when they reach the head of the queue instead of being
+ * handed to a worker; dropped futures are cancelled.
+ */
+@Slf4j
+public class PriorityTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>();
+
+    private final int capacity;
+
+    private final long agingNanos;
+
+    private final LongAdder expiredCount = new LongAdder();
+
+    // Arrival order among equal keys, guarded by lock
+    private long sequence;
+
+    // Told about every expired task, so the executor can forget it was queued
+    private volatile Consumer<Runnable> expiredListener = runnable -> {
+    };
+
+    /**
+     * Constructs a queue.
+     *
+     * @param capacity     the maximum number of queued tasks
+     * @param agingMillis  waiting time in milliseconds that is worth one priority level
+     * @throws IllegalArgumentException if capacity or agingMillis is not positive
+     */
+    public PriorityTaskQueue(int capacity, long agingMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (agingMillis <= 0) {
+            throw new IllegalArgumentException("Aging interval must be positive");
+        }
+        this.capacity = capacity;
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+    }
+
+    /**
+     * Returns the number of tasks dropped because their deadline passed while queued.
+     *
+     * @return expired tasks
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /**
+     * Sets the listener told about tasks dropped past their deadline, with the task as queued.
+     */
+    void onExpired(Consumer<Runnable> listener) {
+        this.expiredListener = listener;
+    }
+
+    private Entry entry(Runnable runnable) {
+        Runnable task = MonitoredThreadPoolExecutor.unwrap(runnable);
+        int priority = Prioritized.DEFAULT_PRIORITY;
+        long deadline = Prioritized.NO_DEADLINE;
+        if (task instanceof Prioritized prioritized) {
+            priority = prioritized.getPriority();
+            deadline = prioritized.getDeadlineNanos();
+        }
+        long now = System.nanoTime();
+        long boost = saturatedMultiply(priority, agingNanos);
+        long key = now - boost;
+        // Saturate instead of wrapping around for extreme priorities
+        if (boost > 0 && key > now) {
+            key = Long.MIN_VALUE;
+        } else if (boost < 0 && key < now) {
+            key = Long.MAX_VALUE;
+        }
+        return new Entry(runnable, key, sequence++, deadline);
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return low;
+        }
+        return high < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    /**
+     * Takes the next live task, moving expired ones to the given list. Caller holds the lock.
+     */
+    private Runnable dequeue(List<Runnable> expired) {
+        Entry entry;
+        long now = System.nanoTime();
+        while ((entry = heap.poll()) != null) {
+            notFull.signal();
+            if (entry.deadline != Prioritized.NO_DEADLINE && now - entry.deadline >= 0) {
+                expired.add(entry.task);
+                continue;
+            }
+            return entry.task;
+        }
+        return null;
+    }
+
+    /**
+     * Drops expired tasks outside the lock, cancelling futures may run arbitrary callbacks.
+     */
+    private void drop(List<Runnable> expired) {
+        for (Runnable runnable : expired) {
+            expiredCount.increment();
+            expiredListener.accept(runnable);
+            Runnable task = MonitoredThreadPoolExecutor.unwrap(runnable);
+            log.debug("Dropping task {} past its deadline.", task);
+            if (task instanceof Future<?> future) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public boolean offer(@NonNull Runnable runnable) {
+        lock.lock();
+        try {
+            if (heap.size() >= capacity) {
+                return false;
+            }
+            heap.add(entry(runnable));
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(@NonNull Runnable runnable, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            heap.add(entry(runnable));
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NonNull Runnable runnable) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() >= capacity) {
+                notFull.await();
+            }
+            heap.add(entry(runnable));
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        List<Runnable> expired = new ArrayList<>(0);
+        Runnable runnable;
+        lock.lock();
+        try {
+            runnable = dequeue(expired);
+        } finally {
+            lock.unlock();
+        }
+        drop(expired);
+        return runnable;
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        List<Runnable> expired = new ArrayList<>(0);
+        Runnable runnable;
+        lock.lockInterruptibly();
+        try {
+            while ((runnable = dequeue(expired)) == null) {
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
+            drop(expired);
+        }
+        return runnable;
+    }
+
+    @Override
+    public Runnable poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        List<Runnable> expired = new ArrayList<>(0);
+        long nanos = unit.toNanos(timeout);
+        Runnable runnable;
+        lock.lockInterruptibly();
+        try {
+            while ((runnable = dequeue(expired)) == null) {
+                if (nanos <= 0L) {
+                    break;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+            drop(expired);
+        }
+        return runnable;
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            Entry entry = heap.peek();
+            return entry == null ? null : entry.task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            boolean removed = heap.removeIf(entry -> entry.task == o);
+            if (removed) {
+                notFull.signal();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Runnable> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        List<Runnable> drained = new ArrayList<>();
+        lock.lock();
+        try {
+            Entry entry;
+            while (drained.size() < maxElements && (entry = heap.poll()) != null) {
+                drained.add(entry.task);
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        c.addAll(drained);
+        return drained.size();
+    }
+
+    /**
+     * Returns a snapshot of the queued tasks in no particular order.
+     */
+    @Override
+    public @NonNull Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            return heap.stream().map(entry -> entry.task).toList().iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(Runnable task, long key, long sequence, long deadline) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(@NonNull Entry other) {
+            int result = Long.compare(key, other.key);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
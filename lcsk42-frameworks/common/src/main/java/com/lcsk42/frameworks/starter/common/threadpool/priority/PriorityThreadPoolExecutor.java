@@ -0,0 +1,124 @@
+package com.lcsk42.frameworks.starter.common.threadpool.priority;
+
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.MonitoredThreadPoolExecutor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread pool executor running queued tasks by priority over a {@link PriorityTaskQueue}.
+ * Plain tasks get {@link Prioritized#DEFAULT_PRIORITY}; {@link PriorityTask}s and other
+ * {@link Prioritized} tasks keep their priority and deadline through {@code submit} as well.
+ * <p>
+ * Priorities only order the queue: a task arriving while a thread is free runs immediately.
+ */
+public class PriorityThreadPoolExecutor extends MonitoredThreadPoolExecutor {
+
+    @Getter
+    private final PriorityTaskQueue priorityQueue;
+
+    /**
+     * Constructs a new PriorityThreadPoolExecutor with the given parameters.
+     *
+     * @param corePoolSize    the number of threads to keep in the pool
+     * @param maximumPoolSize the maximum number of threads in the pool
+     * @param keepAliveTime   the time excess idle threads will wait for new tasks
+     * @param unit            the time unit for keepAliveTime
+     * @param workQueue       the priority queue to hold tasks before they are executed
+     * @param threadFactory   the factory to use when creating new threads
+     * @param handler         the handler to use when execution is blocked
+     */
+    public PriorityThreadPoolExecutor(int corePoolSize,
+                                      int maximumPoolSize,
+                                      long keepAliveTime,
+                                      TimeUnit unit,
+                                      PriorityTaskQueue workQueue,
+                                      ThreadFactory threadFactory,
+                                      RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        this.priorityQueue = workQueue;
+        workQueue.onExpired(this::untrackQueued);
+    }
+
+    /**
+     * Executes a task with the given priority.
+     *
+     * @param command  the task
+     * @param priority priority, higher values run first
+     */
+    public void execute(@NonNull Runnable command, int priority) {
+        execute(PriorityTask.of(priority, command));
+    }
+
+    /**
+     * Submits a task with the given priority.
+     *
+     * @param task     the task
+     * @param priority priority, higher values run first
+     * @param <T>      the type of the task's result
+     * @return a Future representing pending completion of the task
+     */
+    public <T> Future<T> submit(@NonNull Callable<T> task, int priority) {
+        return submit(task, priority, null);
+    }
+
+    /**
+     * Submits a task with the given priority that is cancelled if it has not started within the timeout.
+     *
+     * @param task     the task
+     * @param priority priority, higher values run first
+     * @param timeout  time from now after which the task is not worth running, null for none
+     * @param <T>      the type of the task's result
+     * @return a Future representing pending completion of the task
+     */
+    public <T> Future<T> submit(@NonNull Callable<T> task, int priority, Duration timeout) {
+        long deadline = timeout == null ? Prioritized.NO_DEADLINE : PriorityTask.deadlineAfter(timeout);
+        PriorityFutureTask<T> futureTask = new PriorityFutureTask<>(task, priority, deadline);
+        execute(futureTask);
+        return futureTask;
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Prioritized prioritized) {
+            return new PriorityFutureTask<>(runnable, value, prioritized.getPriority(), prioritized.getDeadlineNanos());
+        }
+        return super.newTaskFor(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Prioritized prioritized) {
+            return new PriorityFutureTask<>(callable, prioritized.getPriority(), prioritized.getDeadlineNanos());
+        }
+        return super.newTaskFor(callable);
+    }
+
+    private static final class PriorityFutureTask<T> extends DecoratedFutureTask<T> implements Prioritized {
+
+        @Getter
+        private final int priority;
+
+        @Getter
+        private final long deadlineNanos;
+
+        private PriorityFutureTask(Callable<T> callable, int priority, long deadlineNanos) {
+            super(callable);
+            this.priority = priority;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private PriorityFutureTask(Runnable runnable, T value, int priority, long deadlineNanos) {
+            super(runnable, value);
+            this.priority = priority;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -37,12 +37,18 @@ public class RejectedProxyInvocationHandler implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            // equals/hashCode/toString are not rejections
+            return method.invoke(target, args);
+        }
+
         // Increment rejection counter
-        rejectCount.incrementAndGet();
+        long rejected = rejectCount.incrementAndGet();
 
         try {
-            // Log error message about thread pool rejection
-            log.error("The thread pool executes the rejection strategy, and the alarm is simulated here...");
+            // Log warning about thread pool rejection, metrics and alarms are reported from the counter
+            log.warn("The thread pool executes the rejection strategy {}, {} rejections so far.",
+                    target.getClass().getSimpleName(), rejected);
 
             // Invoke the actual rejection policy method
             return method.invoke(target, args);
@@ -0,0 +1,152 @@
+package com.lcsk42.frameworks.starter.common.threadpool.spill;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SpillJournal} storing each task as a file of its own in a directory, named by a sequence
+ * number so tasks come back in the order they were written. Tasks left by a previous run are picked up.
+ * <p>
+ * Only tasks implementing {@link Serializable} can be journaled, which excludes the futures created by
+ * {@code submit}; submit serializable runnables through {@code execute} to make use of the journal.
+ * <p>
+ * Tasks are read back through an {@link ObjectInputFilter} that accepts the configured task classes
+ * and the {@code java.lang}, {@code java.util} and {@code java.time} types their fields commonly use,
+ * and rejects every other class, so a file planted in the directory cannot instantiate arbitrary
+ * classes. Tasks that fail the filter are dropped with a warning.
+ */
+@Slf4j
+public class FileSpillJournal implements SpillJournal {
+
+    private static final String SUFFIX = ".task";
+
+    private final Path directory;
+
+    private final ObjectInputFilter filter;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ConcurrentSkipListSet<Long> entries = new ConcurrentSkipListSet<>();
+
+    /**
+     * Opens or creates a journal in the directory.
+     *
+     * @param directory      where to store the tasks
+     * @param allowedClasses task classes accepted when reading tasks back, as {@link ObjectInputFilter}
+     *                       patterns, e.g. {@code com.example.Task} or {@code com.example.tasks.**}
+     * @throws IllegalArgumentException if no task classes are allowed
+     * @throws UncheckedIOException     if the directory cannot be created or read
+     */
+    public FileSpillJournal(Path directory, Collection<String> allowedClasses) {
+        Assert.notEmpty(allowedClasses, "The spill journal requires the task classes it may read back");
+        this.directory = directory;
+        this.filter = ObjectInputFilter.Config.createFilter(
+                String.join(";", allowedClasses) + ";java.lang.*;java.util.*;java.time.*;!*");
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(path -> path.getFileName().toString())
+                        .filter(name -> name.endsWith(SUFFIX))
+                        .map(name -> parseSequence(name.substring(0, name.length() - SUFFIX.length())))
+                        .filter(value -> value >= 0)
+                        .forEach(entries::add);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open spill journal " + directory, ex);
+        }
+        if (!entries.isEmpty()) {
+            sequence.set(entries.last() + 1);
+            log.info("Spill journal {} holds {} tasks from a previous run.", directory, entries.size());
+        }
+    }
+
+    private static long parseSequence(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return -1L;
+        }
+    }
+
+    private Path path(long entry) {
+        return directory.resolve(String.format("%019d", entry) + SUFFIX);
+    }
+
+    @Override
+    public boolean append(String pool, Runnable task) {
+        if (!(task instanceof Serializable)) {
+            return false;
+        }
+        long entry = sequence.getAndIncrement();
+        Path target = path(entry);
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporary);
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeUTF(pool);
+                objectOutputStream.writeObject(task);
+            }
+            // Readers never see a partly written task
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warn("Failed to journal task {}.", task, ex);
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // Left for the operator, it is never read back
+            }
+            return false;
+        }
+        entries.add(entry);
+        return true;
+    }
+
+    @Override
+    public List<Entry> poll(int maxTasks) {
+        List<Entry> tasks = new ArrayList<>();
+        while (tasks.size() < maxTasks) {
+            Long entry = entries.pollFirst();
+            if (entry == null) {
+                break;
+            }
+            Path path = path(entry);
+            try (InputStream inputStream = Files.newInputStream(path);
+                 ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)) {
+                objectInputStream.setObjectInputFilter(filter);
+                String pool = objectInputStream.readUTF();
+                tasks.add(new Entry(pool, (Runnable) objectInputStream.readObject()));
+            } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+                log.warn("Dropping unreadable journaled task {}.", path, ex);
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                log.warn("Failed to delete journaled task {}.", path, ex);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+}
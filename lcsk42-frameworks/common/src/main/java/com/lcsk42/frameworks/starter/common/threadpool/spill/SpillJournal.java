@@ -0,0 +1,43 @@
+package com.lcsk42.frameworks.starter.common.threadpool.spill;
+
+import java.util.List;
+
+/**
+ * Durable overflow for a {@link SpillRetryPolicy} whose in-memory spill queue is full.
+ */
+public interface SpillJournal {
+
+    /**
+     * Writes a task to the journal.
+     *
+     * @param pool name of the pool the task was rejected by, in the
+     *             {@link com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry}
+     * @param task the rejected task
+     * @return false if the task cannot be journaled, e.g. because it is not serializable
+     */
+    boolean append(String pool, Runnable task);
+
+    /**
+     * Removes and returns the oldest journaled tasks.
+     *
+     * @param maxTasks maximum number of tasks to return
+     * @return the tasks in journal order, empty if there are none
+     */
+    List<Entry> poll(int maxTasks);
+
+    /**
+     * Returns the number of journaled tasks.
+     *
+     * @return journal size
+     */
+    int size();
+
+    /**
+     * A journaled task and the pool it belongs to.
+     *
+     * @param pool name of the pool the task was rejected by
+     * @param task the task
+     */
+    record Entry(String pool, Runnable task) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.lcsk42.frameworks.starter.common.threadpool.spill;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exposes the spill depth, retries and drops of a {@link SpillRetryPolicy}.
+ */
+@RequiredArgsConstructor
+public class SpillRetryMeterBinder implements MeterBinder {
+
+    private final SpillRetryPolicy policy;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("threadpool.spill.depth", policy, SpillRetryPolicy::getSpillDepth)
+                .description("Rejected tasks waiting in memory for a retry")
+                .baseUnit("tasks")
+                .register(registry);
+        Gauge.builder("threadpool.spill.journal.size", policy, SpillRetryPolicy::getJournalSize)
+                .description("Rejected tasks waiting in the journal")
+                .baseUnit("tasks")
+                .register(registry);
+        FunctionCounter.builder("threadpool.spill.spilled", policy, SpillRetryPolicy::getSpilledCount)
+                .description("Rejected tasks taken in for a retry")
+                .baseUnit("tasks")
+                .register(registry);
+        FunctionCounter.builder("threadpool.spill.retries", policy, SpillRetryPolicy::getRetryCount)
+                .description("Resubmission attempts")
+                .register(registry);
+        FunctionCounter.builder("threadpool.spill.journaled", policy, SpillRetryPolicy::getJournaledCount)
+                .description("Rejected tasks written to the journal")
+                .baseUnit("tasks")
+                .register(registry);
+        FunctionCounter.builder("threadpool.spill.dropped", policy, SpillRetryPolicy::getDroppedCount)
+                .description("Rejected tasks given up on")
+                .baseUnit("tasks")
+                .register(registry);
+    }
+}
@@ -0,0 +1,315 @@
+package com.lcsk42.frameworks.starter.common.threadpool.spill;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.MonitoredThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejection policy that keeps rejected tasks instead of failing them: they are spilled into a bounded
+ * delay queue and resubmitted with exponential backoff by a daemon thread until the pool accepts them
+ * or the retries run out.
+ * <p>
+ * When the spill queue is full, tasks go to the optional {@link SpillJournal} together with the name their
+ * pool is registered under in the {@link ThreadPoolRegistry}, and are read back into that pool as the spill
+ * queue drains; otherwise the fallback policy decides, {@link ThreadPoolExecutor.AbortPolicy} by
+ * default. Tasks rejected because the pool is shut down are dropped, as are tasks out of retries;
+ * dropped futures are cancelled so nobody waits on them forever.
+ * <p>
+ * Created through {@link com.lcsk42.frameworks.starter.common.threadpool.build.SpillRetryPolicyBuilder}.
+ */
+@Slf4j
+public class SpillRetryPolicy implements RejectedExecutionHandler, AutoCloseable {
+
+    // How long the resubmitter waits for a due task before checking the journal
+    private static final long JOURNAL_CHECK_MILLIS = 100L;
+
+    private final int capacity;
+
+    private final long initialBackoffNanos;
+
+    private final long maxBackoffNanos;
+
+    private final int maxRetries;
+
+    private final RejectedExecutionHandler fallback;
+
+    private final SpillJournal journal;
+
+    private final DelayQueue<SpilledTask> spilled = new DelayQueue<>();
+
+    private final AtomicInteger spillDepth = new AtomicInteger();
+
+    private final LongAdder spilledCount = new LongAdder();
+
+    private final LongAdder retryCount = new LongAdder();
+
+    private final LongAdder journaledCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final Thread resubmitter;
+
+    // Journaled tasks are only read back once their pools can exist, see resumeJournal()
+    private volatile boolean journalResumed;
+
+    // Set after tasks of a missing pool went back to the journal, only touched by the resubmitter
+    private long journalPausedUntilNanos = System.nanoTime();
+
+    private volatile boolean closed;
+
+    public SpillRetryPolicy(int capacity,
+                            long initialBackoffMillis,
+                            long maxBackoffMillis,
+                            int maxRetries,
+                            @NonNull RejectedExecutionHandler fallback,
+                            SpillJournal journal,
+                            String threadName) {
+        this.capacity = capacity;
+        this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(initialBackoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMillis);
+        this.maxRetries = maxRetries;
+        this.fallback = fallback;
+        this.journal = journal;
+        this.resubmitter = ThreadFactoryBuilder.builder()
+                .prefix(threadName + "-")
+                .daemon(true)
+                .build()
+                .newThread(this::resubmitLoop);
+        this.resubmitter.start();
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (Thread.currentThread() == resubmitter) {
+            // Tell resubmit() the pool is still full, it reschedules the task itself
+            throw new RejectedExecutionException("Thread pool is still saturated.");
+        }
+        if (executor.isShutdown()) {
+            drop(r, "the pool is shut down");
+            return;
+        }
+        journalResumed = true;
+        if (spill(new SpilledTask(r, executor, 1, nextDelay(1)))) {
+            spilledCount.increment();
+            return;
+        }
+        if (journal(r, executor)) {
+            journaledCount.increment();
+            return;
+        }
+        droppedCount.increment();
+        fallback.rejectedExecution(r, executor);
+    }
+
+    private boolean journal(Runnable r, ThreadPoolExecutor executor) {
+        if (journal == null) {
+            return false;
+        }
+        // Without a registered name the task could not be routed back to its pool
+        return ThreadPoolRegistry.nameOf(executor)
+                .map(pool -> journal.append(pool, MonitoredThreadPoolExecutor.unwrap(r)))
+                .orElse(false);
+    }
+
+    private boolean spill(SpilledTask task) {
+        if (closed) {
+            return false;
+        }
+        int depth;
+        do {
+            depth = spillDepth.get();
+            if (depth >= capacity) {
+                return false;
+            }
+        } while (!spillDepth.compareAndSet(depth, depth + 1));
+        spilled.add(task);
+        return true;
+    }
+
+    private long nextDelay(int attempt) {
+        long delay = initialBackoffNanos << Math.min(attempt - 1, 30);
+        return delay <= 0L || delay > maxBackoffNanos ? maxBackoffNanos : delay;
+    }
+
+    private void resubmitLoop() {
+        while (!closed) {
+            try {
+                SpilledTask task = spilled.poll(JOURNAL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    spillDepth.decrementAndGet();
+                    resubmit(task);
+                } else {
+                    readJournal();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Spill resubmission failed.", ex);
+            }
+        }
+    }
+
+    private void resubmit(SpilledTask task) {
+        if (task.executor.isShutdown()) {
+            drop(task.runnable, "the pool is shut down");
+            return;
+        }
+        retryCount.increment();
+        try {
+            task.executor.execute(task.runnable);
+        } catch (RejectedExecutionException ex) {
+            int attempt = task.attempt + 1;
+            if (attempt > maxRetries || !spill(new SpilledTask(task.runnable, task.executor, attempt, nextDelay(attempt)))) {
+                drop(task.runnable, "it ran out of retries");
+            }
+        }
+    }
+
+    private void readJournal() {
+        if (journal == null || !journalResumed || journal.size() == 0
+                || System.nanoTime() - journalPausedUntilNanos < 0L) {
+            return;
+        }
+        int room = capacity - spillDepth.get();
+        for (SpillJournal.Entry entry : journal.poll(Math.max(0, room))) {
+            Optional<ThreadPoolExecutor> executor = ThreadPoolRegistry.get(entry.pool());
+            if (executor.isEmpty()) {
+                // The pool is not running (yet), keep the task for a pool registering under its name
+                journalPausedUntilNanos = System.nanoTime() + maxBackoffNanos;
+                if (!journal.append(entry.pool(), entry.task())) {
+                    drop(entry.task(), "its pool " + entry.pool() + " is not running");
+                }
+            } else if (!spill(new SpilledTask(entry.task(), executor.get(), 1, 0L))) {
+                drop(entry.task(), "the spill queue is full");
+            }
+        }
+    }
+
+    private void drop(Runnable runnable, String reason) {
+        droppedCount.increment();
+        Runnable task = MonitoredThreadPoolExecutor.unwrap(runnable);
+        log.warn("Dropping rejected task {} because {}.", task, reason);
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Starts reading the journal back, e.g. to pick up tasks journaled by a previous run once the pools
+     * using this policy are registered. Happens on the first rejection otherwise. Tasks of pools that are
+     * not running stay in the journal until a pool registers under their name.
+     */
+    public void resumeJournal() {
+        journalResumed = true;
+    }
+
+    /**
+     * Returns the number of tasks waiting in the spill queue.
+     *
+     * @return spill queue depth
+     */
+    public int getSpillDepth() {
+        return spillDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks waiting in the journal.
+     *
+     * @return journal size, 0 without a journal
+     */
+    public int getJournalSize() {
+        return journal == null ? 0 : journal.size();
+    }
+
+    /**
+     * Returns the number of rejected tasks taken into the spill queue.
+     *
+     * @return spilled tasks
+     */
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    /**
+     * Returns the number of resubmission attempts.
+     *
+     * @return retries
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Returns the number of tasks written to the journal.
+     *
+     * @return journaled tasks
+     */
+    public long getJournaledCount() {
+        return journaledCount.sum();
+    }
+
+    /**
+     * Returns the number of tasks given up on, including those passed to the fallback policy.
+     *
+     * @return dropped tasks
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Stops resubmitting. Tasks still spilled are dropped, journaled tasks stay in the journal.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        resubmitter.interrupt();
+        SpilledTask task;
+        while ((task = spilled.poll()) != null) {
+            spillDepth.decrementAndGet();
+            drop(task.runnable, "the spill policy is closed");
+        }
+    }
+
+    private static final class SpilledTask implements Delayed {
+
+        private final Runnable runnable;
+
+        private final ThreadPoolExecutor executor;
+
+        private final int attempt;
+
+        private final long dueNanos;
+
+        private SpilledTask(Runnable runnable, ThreadPoolExecutor executor, int attempt, long delayNanos) {
+            this.runnable = runnable;
+            this.executor = executor;
+            this.attempt = attempt;
+            this.dueNanos = System.nanoTime() + delayNanos;
+        }
+
+        @Override
+        public long getDelay(@NonNull TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@NonNull Delayed other) {
+            return Long.compare(dueNanos, ((SpilledTask) other).dueNanos);
+        }
+    }
+}
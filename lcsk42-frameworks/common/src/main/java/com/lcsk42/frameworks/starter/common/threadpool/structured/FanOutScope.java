@@ -0,0 +1,287 @@
+package com.lcsk42.frameworks.starter.common.threadpool.structured;
+
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs subtasks on virtual threads whose lifetime is bounded by the scope, in the manner of
+ * {@code StructuredTaskScope}, which is still a preview API in Java 21.
+ * <p>
+ * Depending on the {@link Policy}, the scope shuts down on the first failure or on the first success:
+ * the remaining subtasks are interrupted and their outcomes ignored. {@link #close()} shuts the scope
+ * down and waits for every subtask thread to end, so no work outlives a try-with-resources block.
+ * Subtasks are decorated through the {@link TaskDecoratorRegistry} and see the context of the thread forking them.
+ * <p>
+ * A scope is used by the thread that created it; subtasks only report back to it.
+ *
+ * @param <T> the result type of the subtasks
+ */
+public final class FanOutScope<T> implements AutoCloseable {
+
+    /**
+     * When the scope stops waiting for further subtasks.
+     */
+    public enum Policy {
+
+        /**
+         * All subtasks must succeed, the first failure cancels the others.
+         */
+        SHUTDOWN_ON_FAILURE,
+
+        /**
+         * One success is enough, it cancels the others.
+         */
+        SHUTDOWN_ON_SUCCESS
+    }
+
+    private final String name;
+
+    private final Policy policy;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition changed = lock.newCondition();
+
+    // All fields below are guarded by lock
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final List<T> results = new ArrayList<>();
+
+    private final List<Throwable> failures = new ArrayList<>();
+
+    private int running;
+
+    private boolean shutdown;
+
+    private boolean succeeded;
+
+    private T firstResult;
+
+    /**
+     * Creates a scope.
+     *
+     * @param name   prefix of the subtask thread names
+     * @param policy when to stop waiting for further subtasks
+     */
+    public FanOutScope(@NonNull String name, @NonNull Policy policy) {
+        this.name = name;
+        this.policy = policy;
+    }
+
+    /**
+     * Starts a subtask on a new virtual thread. Once the scope is shut down, e.g. by a subtask that
+     * finished while the caller was still forking, the subtask is not started and its result stays
+     * {@code null}, as with a cancelled {@code StructuredTaskScope} subtask.
+     *
+     * @param task the subtask
+     * @return the index of the subtask, its position in {@link #results()}
+     */
+    public int fork(@NonNull Callable<? extends T> task) {
+        Callable<? extends T> decorated = TaskDecoratorRegistry.decorate(task);
+        Thread thread;
+        int index;
+        lock.lock();
+        try {
+            index = results.size();
+            results.add(null);
+            if (shutdown) {
+                return index;
+            }
+            running++;
+            thread = Thread.ofVirtual().name(name + "-" + index).unstarted(() -> complete(index, decorated));
+            threads.add(thread);
+        } finally {
+            lock.unlock();
+        }
+        thread.start();
+        return index;
+    }
+
+    private void complete(int index, Callable<? extends T> task) {
+        T value = null;
+        Throwable failure = null;
+        if (!isShutdown()) {
+            try {
+                value = task.call();
+            } catch (Throwable ex) {
+                failure = ex;
+            }
+        }
+        lock.lock();
+        try {
+            running--;
+            if (!shutdown) {
+                if (failure == null) {
+                    results.set(index, value);
+                    if (policy == Policy.SHUTDOWN_ON_SUCCESS) {
+                        succeeded = true;
+                        firstResult = value;
+                        shutdownLocked();
+                    }
+                } else {
+                    failures.add(failure);
+                    if (policy == Policy.SHUTDOWN_ON_FAILURE) {
+                        shutdownLocked();
+                    }
+                }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isShutdown() {
+        lock.lock();
+        try {
+            return shutdown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the scope is shut down by its policy or every forked subtask has ended.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} value after which to stop waiting
+     * @return true if the scope finished, false if the deadline passed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean join(long deadlineNanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!shutdown && running > 0) {
+                long nanos = deadlineNanos - System.nanoTime();
+                if (nanos <= 0L) {
+                    return false;
+                }
+                changed.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of forked subtasks that have not ended.
+     *
+     * @return running subtasks
+     */
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the results of all subtasks after a successful join under {@link Policy#SHUTDOWN_ON_FAILURE}.
+     *
+     * @return results by fork index
+     * @throws ExecutionException    with the first failure if a subtask failed
+     * @throws IllegalStateException if subtasks are still running
+     */
+    public List<T> results() throws ExecutionException {
+        lock.lock();
+        try {
+            throwIfFailed();
+            if (running > 0) {
+                throw new IllegalStateException("Scope " + name + " has running subtasks");
+            }
+            return Collections.unmodifiableList(new ArrayList<>(results));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the first successful result under {@link Policy#SHUTDOWN_ON_SUCCESS}.
+     *
+     * @return the first result
+     * @throws ExecutionException    with the first failure, later ones suppressed, if no subtask succeeded
+     * @throws IllegalStateException if no subtask succeeded and none failed
+     */
+    public T result() throws ExecutionException {
+        lock.lock();
+        try {
+            if (succeeded) {
+                return firstResult;
+            }
+            throwIfFailed();
+            throw new IllegalStateException("Scope " + name + " has no result");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void throwIfFailed() throws ExecutionException {
+        if (failures.isEmpty()) {
+            return;
+        }
+        ExecutionException exception = new ExecutionException(failures.get(0));
+        failures.stream().skip(1).forEach(exception::addSuppressed);
+        throw exception;
+    }
+
+    /**
+     * Interrupts the running subtasks and ignores their outcomes from now on.
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdownLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void shutdownLocked() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        Thread current = Thread.currentThread();
+        threads.stream().filter(thread -> thread != current).forEach(Thread::interrupt);
+        changed.signalAll();
+    }
+
+    /**
+     * Shuts the scope down and waits for all subtask threads to end. An interrupt while waiting is
+     * remembered and restored afterwards.
+     */
+    @Override
+    public void close() {
+        List<Thread> forked;
+        lock.lock();
+        try {
+            shutdownLocked();
+            forked = List.copyOf(threads);
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        for (Thread thread : forked) {
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.lcsk42.frameworks.starter.common.threadpool.timer;
+
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed hierarchical timing wheel for large numbers of timers, such as timeouts, delayed retries
+ * and expiry sweeps, where {@link java.util.concurrent.ScheduledThreadPoolExecutor} pays O(log n) per
+ * timer in its heap.
+ * <p>
+ * Time is divided into ticks. Level 0 has one bucket per tick of the next wheel-size ticks, and every
+ * further level covers wheel-size times the span of the level below with the same number of buckets,
+ * like the digits of the tick number. A timer goes into the bucket of the highest digit in which its
+ * due tick differs from the current tick. When the current tick rolls over into a bucket of a higher
+ * level, that bucket is cascaded into the levels below. Adding and cancelling are O(1), and each timer
+ * is moved at most once per level.
+ * <p>
+ * A single daemon thread owns the wheel: new and cancelled timers reach it through lock-free queues,
+ * and due tasks are handed to the executor instead of running on the tick thread. Tasks are decorated
+ * through the {@link TaskDecoratorRegistry} when scheduled. Timers fire up to one tick late, never early.
+ */
+@Slf4j
+public class TimingWheelScheduler implements AutoCloseable {
+
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 2;
+
+    private final long tickNanos;
+
+    private final int wheelBits;
+
+    private final int mask;
+
+    private final Executor executor;
+
+    // Buckets by level, levels allocated on first use, only touched by the tick thread
+    private final Bucket[][] levels;
+
+    private final Queue<WheelTimeout> added = new ConcurrentLinkedQueue<>();
+
+    private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final long startNanos = System.nanoTime();
+
+    private final Thread worker;
+
+    // Last processed tick, written by the tick thread only
+    private volatile long currentTick;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates and starts a scheduler.
+     *
+     * @param tickMillis resolution in milliseconds
+     * @param wheelSize  buckets per level, rounded up to a power of two
+     * @param executor   runs the due tasks
+     * @param threadName name of the tick thread
+     * @throws IllegalArgumentException if tickMillis or wheelSize is out of range
+     */
+    public TimingWheelScheduler(long tickMillis, int wheelSize, @NonNull Executor executor, @NonNull String threadName) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 2 || wheelSize > (1 << 16)) {
+            throw new IllegalArgumentException("Wheel size must be between 2 and 65536");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheelBits = Integer.SIZE - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.mask = (1 << wheelBits) - 1;
+        this.levels = new Bucket[(Long.SIZE - 2) / wheelBits + 1][];
+        this.executor = executor;
+        this.worker = ThreadFactoryBuilder.builder()
+                .prefix(threadName + "-")
+                .daemon(true)
+                .build()
+                .newThread(this::tickLoop);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task to be handed to the executor after the delay.
+     *
+     * @param task  the task
+     * @param delay the delay, delays over about 70 years are shortened to that
+     * @param unit  the unit of the delay
+     * @return a handle to cancel the task
+     * @throws RejectedExecutionException if the scheduler is closed
+     */
+    public WheelTimeout schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        if (closed) {
+            throw new RejectedExecutionException("Timing wheel is closed.");
+        }
+        // Clamped so the deadline cannot overflow
+        long deadlineNanos = System.nanoTime() + Math.min(Math.max(0L, unit.toNanos(delay)), MAX_DELAY_NANOS);
+        // Round up so a timer never fires early
+        long expireTick = Math.max(0L, (deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+        WheelTimeout timeout = new WheelTimeout(this, TaskDecoratorRegistry.decorate(task), expireTick, deadlineNanos);
+        pendingCount.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of tasks scheduled and neither due nor cancelled.
+     *
+     * @return pending tasks
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    void cancelled(WheelTimeout timeout) {
+        pendingCount.decrementAndGet();
+        cancelled.add(timeout);
+    }
+
+    private void tickLoop() {
+        while (!closed) {
+            long nextTick = currentTick + 1;
+            long sleepNanos = startNanos + nextTick * tickNanos - System.nanoTime();
+            if (sleepNanos > 0L) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            try {
+                unlinkCancelled();
+                placeAdded(nextTick - 1);
+                advance(nextTick);
+            } catch (RuntimeException ex) {
+                log.warn("Timing wheel tick failed.", ex);
+            }
+            currentTick = nextTick;
+        }
+    }
+
+    private void unlinkCancelled() {
+        WheelTimeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void placeAdded(long now) {
+        // Bounded, so a flood of new timers cannot stall the tick
+        for (int i = 0; i < 100_000; i++) {
+            WheelTimeout timeout = added.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (!timeout.isCancelled()) {
+                place(timeout, now);
+            }
+        }
+    }
+
+    /**
+     * Puts a timer into the bucket of the highest digit its due tick differs from now in.
+     */
+    private void place(WheelTimeout timeout, long now) {
+        long expireTick = timeout.expireTick;
+        if (expireTick <= now) {
+            // Due already, fires with the next tick
+            expireTick = now + 1;
+        }
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(expireTick ^ now)) / wheelBits;
+        int index = (int) (expireTick >>> (level * wheelBits)) & mask;
+        bucket(level, index).add(timeout);
+    }
+
+    private Bucket bucket(int level, int index) {
+        Bucket[] buckets = levels[level];
+        if (buckets == null) {
+            buckets = new Bucket[mask + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new Bucket();
+            }
+            levels[level] = buckets;
+        }
+        return buckets[index];
+    }
+
+    private void advance(long tick) {
+        // Cascade from the highest level whose lower digits all rolled over to zero
+        int highest = 0;
+        while (highest + 1 < levels.length && (tick & ((1L << ((highest + 1) * wheelBits)) - 1)) == 0L) {
+            highest++;
+        }
+        for (int level = highest; level > 0; level--) {
+            if (levels[level] == null) {
+                continue;
+            }
+            Bucket bucket = levels[level][(int) (tick >>> (level * wheelBits)) & mask];
+            WheelTimeout timeout;
+            while ((timeout = bucket.poll()) != null) {
+                if (timeout.expireTick <= tick) {
+                    fire(timeout);
+                } else {
+                    place(timeout, tick);
+                }
+            }
+        }
+        if (levels[0] == null) {
+            return;
+        }
+        Bucket bucket = levels[0][(int) tick & mask];
+        WheelTimeout timeout;
+        while ((timeout = bucket.poll()) != null) {
+            fire(timeout);
+        }
+    }
+
+    private void fire(WheelTimeout timeout) {
+        if (!timeout.expire()) {
+            return;
+        }
+        pendingCount.decrementAndGet();
+        try {
+            executor.execute(timeout.task);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Executor rejected due task {}.", timeout.task, ex);
+        }
+    }
+
+    /**
+     * Stops the tick thread and cancels the tasks not yet due.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+        boolean interrupted = false;
+        while (worker.isAlive()) {
+            try {
+                worker.join();
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        WheelTimeout timeout;
+        while ((timeout = added.poll()) != null) {
+            timeout.cancel();
+        }
+        for (Bucket[] buckets : levels) {
+            if (buckets == null) {
+                continue;
+            }
+            for (Bucket bucket : buckets) {
+                while ((timeout = bucket.poll()) != null) {
+                    timeout.cancel();
+                }
+            }
+        }
+        cancelled.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Doubly linked list of timers, only touched by the tick thread.
+     */
+    static final class Bucket {
+
+        private WheelTimeout head;
+
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(WheelTimeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private WheelTimeout poll() {
+            WheelTimeout timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
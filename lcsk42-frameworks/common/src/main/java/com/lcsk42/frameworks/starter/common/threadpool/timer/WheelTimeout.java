@@ -0,0 +1,89 @@
+package com.lcsk42.frameworks.starter.common.threadpool.timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Handle of a task scheduled on a {@link TimingWheelScheduler}.
+ */
+public final class WheelTimeout {
+
+    private static final int PENDING = 0;
+
+    private static final int CANCELLED = 1;
+
+    private static final int EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    private final TimingWheelScheduler scheduler;
+
+    final Runnable task;
+
+    // Absolute tick at which the task is due
+    final long expireTick;
+
+    private final long deadlineNanos;
+
+    private volatile int state;
+
+    // Bucket links, only touched by the tick thread
+    WheelTimeout prev;
+
+    WheelTimeout next;
+
+    TimingWheelScheduler.Bucket bucket;
+
+    WheelTimeout(TimingWheelScheduler scheduler, Runnable task, long expireTick, long deadlineNanos) {
+        this.scheduler = scheduler;
+        this.task = task;
+        this.expireTick = expireTick;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Cancels the task unless it has been handed to the executor already.
+     *
+     * @return true if this call cancelled the task
+     */
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+            return false;
+        }
+        scheduler.cancelled(this);
+        return true;
+    }
+
+    /**
+     * Marks the task as handed to the executor.
+     *
+     * @return false if it was cancelled first
+     */
+    boolean expire() {
+        return STATE.compareAndSet(this, PENDING, EXPIRED);
+    }
+
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state == EXPIRED;
+    }
+
+    /**
+     * Returns the time left until the task is due.
+     *
+     * @param unit the unit of the result
+     * @return remaining delay, zero or negative once due
+     */
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "WheelTimeout[" + task + ", delay " + getDelay(TimeUnit.MILLISECONDS) + " ms]";
+    }
+}
@@ -0,0 +1,27 @@
+package com.lcsk42.frameworks.starter.common.threadpool.tuning;
+
+import java.time.Instant;
+
+/**
+ * A pool size change made by the {@link ThreadPoolAutoTuner}.
+ *
+ * @param time       when the change was made
+ * @param poolName   name of the pool in the registry
+ * @param fromSize   core pool size before the change
+ * @param toSize     core pool size after the change
+ * @param reason     why the size was changed
+ * @param throughput completed tasks per second
+ * @param arrival    smoothed submitted tasks per second
+ * @param runMillis  smoothed run time per task in milliseconds
+ * @param waitMillis queue wait per task in milliseconds
+ */
+public record ThreadPoolAdjustment(Instant time,
+                                   String poolName,
+                                   int fromSize,
+                                   int toSize,
+                                   String reason,
+                                   double throughput,
+                                   double arrival,
+                                   double runMillis,
+                                   double waitMillis) {
+}
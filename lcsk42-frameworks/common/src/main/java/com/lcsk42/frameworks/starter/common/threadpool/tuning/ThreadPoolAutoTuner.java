@@ -0,0 +1,205 @@
+package com.lcsk42.frameworks.starter.common.threadpool.tuning;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.frameworks.starter.common.threadpool.dynamic.ThreadPoolSettings;
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.MonitoredThreadPoolExecutor;
+import com.lcsk42.frameworks.starter.common.threadpool.monitor.ThreadPoolStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes registered pools from their measured load instead of the fixed default of five threads per core.
+ * <p>
+ * Every interval the tuner reads the task timings of each configured pool, which must be a
+ * {@link MonitoredThreadPoolExecutor}, and lets a {@link TuningController} decide on a new core pool size
+ * within the configured bounds. The distance between core and maximum pool size is kept, so eager pools
+ * still grow past the core. Changes go through {@link ThreadPoolRegistry#update(String, ThreadPoolSettings)}
+ * and are logged; the latest ones can be read from {@link #getAdjustments()}.
+ */
+@Slf4j
+public class ThreadPoolAutoTuner implements AutoCloseable {
+
+    // Adjustments kept for getAdjustments()
+    private static final int MAX_ADJUSTMENTS = 100;
+
+    private final Map<String, TuningBounds> bounds;
+
+    private final int cooldownSamples;
+
+    // Sampling state by pool name, only touched by the tuning thread
+    private final Map<String, PoolState> states = new HashMap<>();
+
+    private final Deque<ThreadPoolAdjustment> adjustments = new ArrayDeque<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a tuner.
+     *
+     * @param bounds          pools to tune by registry name, with their size limits
+     * @param cooldownSamples intervals without a change after each change
+     * @throws IllegalArgumentException if bounds are invalid or cooldownSamples is negative
+     */
+    public ThreadPoolAutoTuner(Map<String, TuningBounds> bounds, int cooldownSamples) {
+        bounds.forEach((name, value) -> {
+            if (value.getMinThreads() == null || value.getMaxThreads() == null
+                    || value.getMinThreads() <= 0 || value.getMaxThreads() < value.getMinThreads()) {
+                throw new IllegalArgumentException("Invalid tuning bounds for thread pool " + name
+                        + ": " + value.getMinThreads() + " to " + value.getMaxThreads());
+            }
+        });
+        if (cooldownSamples < 0) {
+            throw new IllegalArgumentException("Cool-down must be non-negative");
+        }
+        this.bounds = Map.copyOf(bounds);
+        this.cooldownSamples = cooldownSamples;
+    }
+
+    /**
+     * Starts tuning periodically on a daemon thread.
+     *
+     * @param intervalMillis time between samples in milliseconds
+     */
+    public synchronized void start(long intervalMillis) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = new ScheduledThreadPoolExecutor(1,
+                ThreadFactoryBuilder.builder().prefix("thread-pool-tuner-").daemon(true).build());
+        scheduler.scheduleWithFixedDelay(this::tune, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the latest adjustments, oldest first.
+     *
+     * @return at most the last 100 adjustments
+     */
+    public List<ThreadPoolAdjustment> getAdjustments() {
+        synchronized (adjustments) {
+            return List.copyOf(adjustments);
+        }
+    }
+
+    /**
+     * Samples every configured pool once and resizes it if needed.
+     */
+    void tune() {
+        bounds.forEach((name, value) -> {
+            try {
+                ThreadPoolRegistry.get(name).ifPresentOrElse(
+                        executor -> tune(name, executor, value),
+                        () -> states.remove(name));
+            } catch (RuntimeException ex) {
+                log.warn("Failed to tune thread pool {}.", name, ex);
+            }
+        });
+    }
+
+    private void tune(String name, ThreadPoolExecutor executor, TuningBounds poolBounds) {
+        if (!(executor instanceof MonitoredThreadPoolExecutor monitored)) {
+            if (states.put(name, PoolState.UNSUPPORTED) == null) {
+                log.warn("Thread pool {} ({}) records no task timings and cannot be tuned.", name, executor.getClass().getName());
+            }
+            return;
+        }
+        PoolState state = states.get(name);
+        if (state == null || state.executor != executor) {
+            // New pool, or a pool registered again under the same name
+            states.put(name, new PoolState(monitored, poolBounds, cooldownSamples));
+            return;
+        }
+        TuningController.Sample sample = state.sample();
+        int current = executor.getCorePoolSize();
+        TuningController.Decision decision = state.controller.observe(sample, current);
+        if (decision == null) {
+            return;
+        }
+        int maximumPoolSize = decision.size() + state.maximumExtra;
+        ThreadPoolRegistry.update(name, ThreadPoolSettings.builder()
+                .corePoolSize(decision.size())
+                .maximumPoolSize(maximumPoolSize)
+                .build());
+        ThreadPoolAdjustment adjustment = new ThreadPoolAdjustment(Instant.now(), name, current, decision.size(),
+                decision.reason(), decision.throughput(), decision.arrival(), decision.runMillis(), decision.waitMillis());
+        log.info("Tuned thread pool {}: core {} -> {}, {} (throughput {}/s, run {} ms, wait {} ms).", name,
+                current, decision.size(), decision.reason(), Math.round(decision.throughput()),
+                Math.round(decision.runMillis()), Math.round(decision.waitMillis()));
+        synchronized (adjustments) {
+            if (adjustments.size() == MAX_ADJUSTMENTS) {
+                adjustments.removeFirst();
+            }
+            adjustments.addLast(adjustment);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private static final class PoolState {
+
+        private static final PoolState UNSUPPORTED = new PoolState();
+
+        private final MonitoredThreadPoolExecutor executor;
+
+        private final TuningController controller;
+
+        // Maximum minus core pool size when tuning started
+        private final int maximumExtra;
+
+        private long executionCount;
+
+        private double executionNanos;
+
+        private double queueWaitNanos;
+
+        private int queueSize;
+
+        private long sampledAt;
+
+        private PoolState() {
+            this.executor = null;
+            this.controller = null;
+            this.maximumExtra = 0;
+        }
+
+        private PoolState(MonitoredThreadPoolExecutor executor, TuningBounds bounds, int cooldownSamples) {
+            this.executor = executor;
+            this.controller = new TuningController(bounds.getMinThreads(), bounds.getMaxThreads(), cooldownSamples);
+            this.maximumExtra = Math.max(0, executor.getMaximumPoolSize() - executor.getCorePoolSize());
+            sample();
+        }
+
+        private TuningController.Sample sample() {
+            ThreadPoolStats stats = executor.getStats();
+            long now = System.nanoTime();
+            long count = stats.getExecutionCount();
+            double execution = stats.getExecutionNanos();
+            double wait = stats.getQueueWaitNanos();
+            int size = executor.getQueue().size();
+            TuningController.Sample sample = new TuningController.Sample(count - executionCount,
+                    execution - executionNanos, wait - queueWaitNanos, size - queueSize, now - sampledAt);
+            executionCount = count;
+            executionNanos = execution;
+            queueWaitNanos = wait;
+            queueSize = size;
+            sampledAt = now;
+            return sample;
+        }
+    }
+}
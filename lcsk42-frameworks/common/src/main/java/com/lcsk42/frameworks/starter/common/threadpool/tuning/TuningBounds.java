@@ -0,0 +1,24 @@
+package com.lcsk42.frameworks.starter.common.threadpool.tuning;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Limits within which the {@link ThreadPoolAutoTuner} may size the core of a pool.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TuningBounds {
+
+    /**
+     * Smallest core pool size the tuner may set
+     */
+    private Integer minThreads = 1;
+
+    /**
+     * Largest core pool size the tuner may set
+     */
+    private Integer maxThreads = Runtime.getRuntime().availableProcessors() * 10;
+}
@@ -0,0 +1,152 @@
+package com.lcsk42.frameworks.starter.common.threadpool.tuning;
+
+/**
+ * Decides the size of one pool from periodic samples. Kept free of timers and executors so the
+ * decisions can be replayed from recorded samples.
+ * <p>
+ * The target comes from Little's law: the threads needed are the arrival rate times the mean time a
+ * task holds a thread, plus headroom. Rates and times are smoothed with an exponentially weighted
+ * moving average. Every change is followed by a hill-climbing check: if growing the pool lowered
+ * throughput, which happens when tasks contend for CPU or a downstream resource, the step is undone.
+ * Damping keeps the pool steady: small differences are ignored, each change covers half the distance
+ * to the target, and a cool-down of some samples follows every change.
+ */
+class TuningController {
+
+    // Weight of the newest sample in the moving averages
+    private static final double SMOOTHING = 0.3;
+
+    // Threads added on top of the Little's law estimate
+    private static final double HEADROOM = 0.2;
+
+    // Relative throughput loss that undoes the last growth step
+    private static final double THROUGHPUT_DROP = 0.05;
+
+    // Relative size difference below which the pool is left alone
+    private static final double DEAD_BAND = 0.1;
+
+    private final int minThreads;
+
+    private final int maxThreads;
+
+    private final int cooldownSamples;
+
+    private double arrivalRate = -1D;
+
+    private double serviceSeconds = -1D;
+
+    private double throughputBeforeChange;
+
+    private int lastStep;
+
+    private boolean checkLastStep;
+
+    private int cooldown;
+
+    TuningController(int minThreads, int maxThreads, int cooldownSamples) {
+        if (minThreads <= 0 || maxThreads < minThreads) {
+            throw new IllegalArgumentException("Thread bounds must be positive and the maximum at least the minimum");
+        }
+        if (cooldownSamples < 0) {
+            throw new IllegalArgumentException("Cool-down must be non-negative");
+        }
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.cooldownSamples = cooldownSamples;
+    }
+
+    /**
+     * Measurements of one sampling interval.
+     *
+     * @param completed     tasks finished during the interval
+     * @param runNanos      total run time of those tasks
+     * @param waitNanos     total queue wait of the tasks started during the interval
+     * @param queueGrowth   change of the queue length during the interval
+     * @param elapsedNanos  length of the interval
+     */
+    record Sample(long completed, double runNanos, double waitNanos, int queueGrowth, long elapsedNanos) {
+    }
+
+    /**
+     * A size change and why it was made.
+     *
+     * @param size       the new size
+     * @param reason     human-readable explanation
+     * @param throughput smoothed throughput in tasks per second
+     * @param arrival    smoothed arrival rate in tasks per second
+     * @param runMillis  smoothed run time per task in milliseconds
+     * @param waitMillis queue wait per task in milliseconds during the last interval
+     */
+    record Decision(int size, String reason, double throughput, double arrival, double runMillis, double waitMillis) {
+    }
+
+    /**
+     * Consumes a sample and returns a size change, or null to keep the current size.
+     *
+     * @param sample  measurements of the last interval
+     * @param current the current core pool size
+     * @return the decision, null if the size stays
+     */
+    Decision observe(Sample sample, int current) {
+        if (sample.elapsedNanos() <= 0L) {
+            return null;
+        }
+        double seconds = sample.elapsedNanos() / 1e9;
+        double throughput = sample.completed() / seconds;
+        double arrival = Math.max(0L, sample.completed() + sample.queueGrowth()) / seconds;
+        arrivalRate = arrivalRate < 0D ? arrival : SMOOTHING * arrival + (1 - SMOOTHING) * arrivalRate;
+        double waitMillis = 0D;
+        if (sample.completed() > 0L) {
+            double service = sample.runNanos() / sample.completed() / 1e9;
+            serviceSeconds = serviceSeconds < 0D ? service : SMOOTHING * service + (1 - SMOOTHING) * serviceSeconds;
+            waitMillis = sample.waitNanos() / sample.completed() / 1e6;
+        }
+        if (cooldown > 0) {
+            cooldown--;
+            return null;
+        }
+        if (serviceSeconds < 0D) {
+            // Nothing has completed yet, no basis for a decision
+            return null;
+        }
+
+        int target;
+        String reason;
+        if (checkLastStep && lastStep > 0 && throughput < throughputBeforeChange * (1 - THROUGHPUT_DROP)) {
+            checkLastStep = false;
+            target = current - lastStep;
+            reason = String.format("throughput fell from %.1f/s to %.1f/s after growing, undoing the step",
+                    throughputBeforeChange, throughput);
+            return decide(current, clamp(target), reason, -lastStep, throughput, waitMillis, false);
+        }
+        checkLastStep = false;
+        target = clamp((int) Math.ceil(arrivalRate * serviceSeconds * (1 + HEADROOM)));
+        int difference = target - current;
+        if (difference == 0 || Math.abs(difference) < Math.max(1D, current * DEAD_BAND)) {
+            return null;
+        }
+        int step = difference / 2;
+        if (step == 0) {
+            step = Integer.signum(difference);
+        }
+        reason = String.format("Little's law estimate %d threads (%.1f tasks/s x %.1f ms)",
+                target, arrivalRate, serviceSeconds * 1e3);
+        return decide(current, clamp(current + step), reason, step, throughput, waitMillis, true);
+    }
+
+    private Decision decide(int current, int size, String reason, int step, double throughput,
+                            double waitMillis, boolean checkNext) {
+        if (size == current) {
+            return null;
+        }
+        lastStep = step;
+        checkLastStep = checkNext;
+        throughputBeforeChange = throughput;
+        cooldown = cooldownSamples;
+        return new Decision(size, reason, throughput, arrivalRate, serviceSeconds * 1e3, waitMillis);
+    }
+
+    private int clamp(int size) {
+        return Math.max(minThreads, Math.min(maxThreads, size));
+    }
+}
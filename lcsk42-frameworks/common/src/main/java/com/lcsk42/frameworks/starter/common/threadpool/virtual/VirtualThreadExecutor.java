@@ -0,0 +1,150 @@
+package com.lcsk42.frameworks.starter.common.threadpool.virtual;
+
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor running every task on a new virtual thread, with optional semaphore based limits.
+ * <p>
+ * {@code maxConcurrency} caps the tasks running at once: tasks over the cap park on their own virtual
+ * thread until a permit is free, which costs a few hundred bytes instead of a platform thread.
+ * {@code maxPending} caps the tasks accepted but not finished and plays the role of a bounded work
+ * queue, submissions over it are rejected immediately.
+ * <p>
+ * Tasks are decorated through the {@link TaskDecoratorRegistry} on submission, so they run with the
+ * context of the submitting thread.
+ *
+ * @see com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder#virtual()
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    private final int maxConcurrency;
+
+    private final int maxPending;
+
+    // Permits for running tasks, null without limit
+    private final Semaphore running;
+
+    // Permits for unfinished tasks, null without limit
+    private final Semaphore pending;
+
+    /**
+     * @param threadFactory  factory creating virtual threads
+     * @param maxConcurrency maximum number of running tasks, 0 for no limit
+     * @param maxPending     maximum number of unfinished tasks, 0 for no limit
+     */
+    public VirtualThreadExecutor(ThreadFactory threadFactory, int maxConcurrency, int maxPending) {
+        this.delegate = Executors.newThreadPerTaskExecutor(threadFactory);
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = maxPending;
+        this.running = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        this.pending = maxPending > 0 ? new Semaphore(maxPending) : null;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        if (pending != null && !pending.tryAcquire()) {
+            throw new RejectedExecutionException(
+                    String.format("Task rejected, %d tasks are pending already", maxPending));
+        }
+        Runnable decorated = TaskDecoratorRegistry.decorate(command);
+        try {
+            delegate.execute(() -> run(decorated));
+        } catch (RejectedExecutionException ex) {
+            if (pending != null) {
+                pending.release();
+            }
+            throw ex;
+        }
+    }
+
+    private void run(Runnable command) {
+        try {
+            if (running == null) {
+                command.run();
+                return;
+            }
+            try {
+                running.acquire();
+            } catch (InterruptedException ex) {
+                // Interrupted by shutdownNow while waiting, the task is dropped
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                command.run();
+            } finally {
+                running.release();
+            }
+        } finally {
+            if (pending != null) {
+                pending.release();
+            }
+        }
+    }
+
+    /**
+     * Maximum number of tasks running at once, 0 for no limit.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Maximum number of tasks accepted but not finished, 0 for no limit.
+     */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * Number of tasks holding a concurrency permit, or -1 without a concurrency limit.
+     */
+    public int getRunningCount() {
+        return running == null ? -1 : maxConcurrency - running.availablePermits();
+    }
+
+    /**
+     * Number of tasks accepted but not finished, or -1 without a pending limit.
+     */
+    public int getPendingCount() {
+        return pending == null ? -1 : maxPending - pending.availablePermits();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    @NonNull
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
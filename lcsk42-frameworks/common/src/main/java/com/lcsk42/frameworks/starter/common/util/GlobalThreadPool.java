@@ -8,8 +8,14 @@ import org.springframework.lang.NonNull;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
+/**
+ * Process-wide executor shared by {@link ThreadUtil}.
+ * The executor is created on first use, so services that never submit work do not start its threads.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GlobalThreadPool {
 
@@ -17,7 +23,21 @@ public final class GlobalThreadPool {
      * Global thread pool executor.
      * This is a singleton instance that can be used throughout the application.
      */
-    private static ThreadPoolExecutor threadPoolExecutor;
+    private static volatile ExecutorService threadPoolExecutor;
+
+    /**
+     * Creates the executor on first use, a platform thread pool unless reconfigured.
+     */
+    private static Supplier<? extends ExecutorService> executorFactory =
+            () -> createPlatformPool(new ThreadPoolExecutor.AbortPolicy());
+
+    private static ExecutorService createPlatformPool(RejectedExecutionHandler rejectedExecutionHandler) {
+        return ThreadPoolBuilder.builder()
+                .threadFactory("global-", false)
+                .poolName("global")
+                .rejected(rejectedExecutionHandler)
+                .build();
+    }
 
     /**
      * Initializes the global thread pool executor.
@@ -28,9 +48,44 @@ public final class GlobalThreadPool {
             threadPoolExecutor.shutdownNow();
         }
 
-        threadPoolExecutor = ThreadPoolBuilder.builder()
-                .threadFactory("global-", false)
-                .build();
+        threadPoolExecutor = executorFactory.get();
+    }
+
+    /**
+     * Replaces the factory of the global executor, e.g. to run on virtual threads.
+     * An executor already created is shut down gracefully and replaced on next use.
+     *
+     * @param factory creates the global executor
+     */
+    public static synchronized void configure(@NonNull Supplier<? extends ExecutorService> factory) {
+        executorFactory = factory;
+        if (threadPoolExecutor != null) {
+            threadPoolExecutor.shutdown();
+            threadPoolExecutor = null;
+        }
+    }
+
+    /**
+     * Keeps the platform thread pool but replaces its rejection policy.
+     *
+     * @param rejectedExecutionHandler rejection policy of the global pool
+     * @see #configure(Supplier)
+     */
+    public static void configure(@NonNull RejectedExecutionHandler rejectedExecutionHandler) {
+        configure(() -> createPlatformPool(rejectedExecutionHandler));
+    }
+
+    private static ExecutorService executor() {
+        ExecutorService executor = threadPoolExecutor;
+        if (executor == null) {
+            synchronized (GlobalThreadPool.class) {
+                if (threadPoolExecutor == null) {
+                    threadPoolExecutor = executorFactory.get();
+                }
+                executor = threadPoolExecutor;
+            }
+        }
+        return executor;
     }
 
     /**
@@ -58,7 +113,7 @@ public final class GlobalThreadPool {
      * @return the global thread pool executor
      */
     public static ExecutorService getExecutor() {
-        return threadPoolExecutor;
+        return executor();
     }
 
     /**
@@ -68,7 +123,7 @@ public final class GlobalThreadPool {
      * @param runnable the task to be executed
      */
     public static void execute(@NonNull Runnable runnable) {
-        threadPoolExecutor.execute(runnable);
+        executor().execute(runnable);
     }
 
     /**
@@ -80,7 +135,7 @@ public final class GlobalThreadPool {
      * @return a Future representing the pending result of the task
      */
     public static <T> Future<T> submit(@NonNull Callable<T> task) {
-        return threadPoolExecutor.submit(task);
+        return executor().submit(task);
     }
 
     /**
@@ -91,10 +146,6 @@ public final class GlobalThreadPool {
      * @return a Future representing the pending result of the task
      */
     public static Future<?> submit(@NonNull Runnable runnable) {
-        return threadPoolExecutor.submit(runnable);
-    }
-
-    static {
-        init();
+        return executor().submit(runnable);
     }
 }
@@ -2,6 +2,8 @@ package com.lcsk42.frameworks.starter.common.util;
 
 import com.lcsk42.frameworks.starter.base.Singleton;
 import com.lcsk42.frameworks.starter.base.constant.StringConstant;
+import com.lcsk42.frameworks.starter.common.codec.IdCodec;
+import com.lcsk42.frameworks.starter.common.snowflake.LockFreeSnowflake;
 import com.lcsk42.frameworks.starter.common.snowflake.Snowflake;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -91,15 +93,18 @@ public final class IdUtil {
 
     /**
      * Gets or creates a singleton instance of Snowflake ID generator.
-     * If no instance exists in the Singleton registry, creates a new one and registers it.
+     * If no instance exists in the Singleton registry, creates a {@link LockFreeSnowflake} and registers it
+     * under the {@link Snowflake} class name.
      *
      * @return Singleton instance of Snowflake ID generator
      */
     public static Snowflake getSnowflake() {
         Snowflake snowflake = Singleton.get(Snowflake.class.getName());
         if (Objects.isNull(snowflake)) {
-            snowflake = new Snowflake();
-            Singleton.put(snowflake);
+            // Two generators sharing a worker ID could emit duplicates, so creation must happen once
+            synchronized (IdUtil.class) {
+                snowflake = Singleton.get(Snowflake.class.getName(), LockFreeSnowflake::new);
+            }
         }
         return snowflake;
     }
@@ -114,6 +119,17 @@ public final class IdUtil {
         return getSnowflake().nextId();
     }
 
+    /**
+     * Generates the given number of unique IDs using the Snowflake algorithm in one call.
+     * Prefer it over calling {@link #getSnowflakeNextId()} in a loop for batch inserts.
+     *
+     * @param n number of IDs to generate
+     * @return generated Snowflake IDs
+     */
+    public static long[] getSnowflakeNextIds(int n) {
+        return getSnowflake().nextIds(n);
+    }
+
     /**
      * Generates the next unique ID using the Snowflake algorithm and returns it as a string.
      * Convenience method that combines getSnowflake() and nextIdString() calls.
@@ -123,4 +139,14 @@ public final class IdUtil {
     public static String getSnowflakeNextIdString() {
         return getSnowflake().nextIdString();
     }
+
+    /**
+     * Generates the next unique ID using the Snowflake algorithm and returns it in a compact encoding.
+     *
+     * @param codec encoding of the ID, e.g. {@link IdCodec#BASE62}
+     * @return Next unique ID encoded with the given codec
+     */
+    public static String getSnowflakeNextIdString(IdCodec codec) {
+        return codec.encode(getSnowflake().nextId());
+    }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package com.lcsk42.frameworks.starter.common.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,15 +28,28 @@ import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for JSON serialization/deserialization using Jackson.
@@ -42,6 +61,32 @@ public final class JacksonUtil {
     // Pre-configured JsonMapper instance with custom settings
     private static final ObjectMapper jsonMapper;
 
+    // Optional module generating accessors with LambdaMetafactory instead of reflection
+    private static final String BLACKBIRD_MODULE_CLASS = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    // Readers and writers per type with the root (de)serializer resolved once instead of on every call
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return jsonMapper.readerFor(type);
+        }
+    };
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return jsonMapper.writerFor(type);
+        }
+    };
+
+    // Generic types are few, the bound only protects against TypeReferences created per call
+    private static final int MAX_GENERIC_READERS = 1024;
+
+    private static final Map<Type, ObjectReader> GENERIC_READERS = new ConcurrentHashMap<>();
+
+    // Writer for element sequences: leaves the caller's stream open and flushes only at the end
+    private static final ObjectWriter ARRAY_WRITER;
+
     static {
         jsonMapper = JsonMapper.builder()
                 // Ignore unknown properties during deserialization
@@ -83,6 +128,35 @@ public final class JacksonUtil {
 
         jsonMapper.registerModule(javaTimeModule);
         jsonMapper.registerModule(longModule);
+        registerBlackbirdModule();
+
+        ARRAY_WRITER = jsonMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static void registerBlackbirdModule() {
+        if (!ClassUtils.isPresent(BLACKBIRD_MODULE_CLASS, JacksonUtil.class.getClassLoader())) {
+            return;
+        }
+        try {
+            Class<?> moduleClass = ClassUtils.forName(BLACKBIRD_MODULE_CLASS, JacksonUtil.class.getClassLoader());
+            jsonMapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Failed to register Jackson Blackbird module, falling back to reflection.", e);
+        }
+    }
+
+    private static ObjectReader readerFor(TypeReference<?> typeReference) {
+        Type type = typeReference.getType();
+        ObjectReader reader = GENERIC_READERS.get(type);
+        if (Objects.isNull(reader)) {
+            reader = jsonMapper.readerFor(typeReference);
+            if (GENERIC_READERS.size() < MAX_GENERIC_READERS) {
+                GENERIC_READERS.putIfAbsent(type, reader);
+            }
+        }
+        return reader;
     }
 
 
@@ -101,13 +175,31 @@ public final class JacksonUtil {
             if (object instanceof String string) {
                 return string;
             } else {
-                return jsonMapper.writeValueAsString(object);
+                return WRITERS.get(object.getClass()).writeValueAsString(object);
             }
         } catch (JsonProcessingException e) {
             throw new ServiceException(e.toString());
         }
     }
 
+    /**
+     * Serializes an object to UTF-8 encoded JSON, skipping the intermediate string.
+     *
+     * @param object the object to serialize
+     * @return JSON bytes or null if input is null
+     * @throws ServiceException if serialization fails
+     */
+    public static byte[] toJsonBytes(Object object) {
+        if (Objects.isNull(object)) {
+            return null;
+        }
+        try {
+            return WRITERS.get(object.getClass()).writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
     /**
      * Deserializes JSON string to specified class.
      *
@@ -121,12 +213,51 @@ public final class JacksonUtil {
             return null;
         }
         try {
-            return jsonMapper.readValue(json, clazz);
+            return READERS.get(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             throw new ServiceException(e.toString());
         }
     }
 
+    /**
+     * Deserializes UTF-8 encoded JSON to specified class, skipping the intermediate string.
+     *
+     * @param json  the JSON bytes to deserialize
+     * @param clazz the target class
+     * @return deserialized object or null if input is empty
+     * @throws ServiceException if deserialization fails
+     */
+    public static <T> T fromJson(byte[] json, Class<T> clazz) {
+        if (ArrayUtils.isEmpty(json) || Objects.isNull(clazz)) {
+            return null;
+        }
+        try {
+            return READERS.get(clazz).readValue(json);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Deserializes JSON from a stream to specified class. The stream is read to the end of the first
+     * JSON value and closed.
+     *
+     * @param json  the JSON stream to deserialize
+     * @param clazz the target class
+     * @return deserialized object or null if input is null
+     * @throws ServiceException if deserialization fails
+     */
+    public static <T> T fromJson(InputStream json, Class<T> clazz) {
+        if (Objects.isNull(json) || Objects.isNull(clazz)) {
+            return null;
+        }
+        try {
+            return READERS.get(clazz).readValue(json);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
     /**
      * Deserializes JSON string using TypeReference for complex types.
      *
@@ -141,14 +272,136 @@ public final class JacksonUtil {
             return null;
         }
         try {
-            return jsonMapper.readValue(json, typeReference);
+            return readerFor(typeReference).readValue(json);
         } catch (JsonProcessingException e) {
             throw new ServiceException(e.toString());
         }
     }
 
     /**
-     * Checks if a string is valid JSON.
+     * Deserializes UTF-8 encoded JSON using TypeReference for complex types.
+     *
+     * @param json          the JSON bytes to deserialize
+     * @param typeReference the type reference for target type
+     * @return deserialized object or null if input is empty
+     * @throws ServiceException if deserialization fails
+     */
+    public static <T> T fromJson(byte[] json, TypeReference<T> typeReference) {
+        if (ArrayUtils.isEmpty(json) || Objects.isNull(typeReference)) {
+            return null;
+        }
+        try {
+            return readerFor(typeReference).readValue(json);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Iterates the elements of a JSON array read from a stream, materializing one element at a time.
+     * A stream holding whitespace separated root values instead of an array is iterated as well.
+     * <p>
+     * Closing the iterator closes the input stream.
+     *
+     * @param json  the JSON stream to read
+     * @param clazz the element class
+     * @return iterator over the elements, failures while iterating surface as
+     * {@link com.fasterxml.jackson.databind.RuntimeJsonMappingException}
+     * @throws ServiceException if the stream cannot be opened for reading
+     */
+    public static <T> MappingIterator<T> readArray(InputStream json, Class<T> clazz) {
+        try {
+            return READERS.get(clazz).readValues(json);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Iterates the elements of a JSON array read from a stream using TypeReference for complex element types.
+     *
+     * @param json          the JSON stream to read
+     * @param typeReference the type reference for the element type
+     * @return iterator over the elements, closing it closes the input stream
+     * @throws ServiceException if the stream cannot be opened for reading
+     * @see #readArray(InputStream, Class)
+     */
+    public static <T> MappingIterator<T> readArray(InputStream json, TypeReference<T> typeReference) {
+        try {
+            return readerFor(typeReference).readValues(json);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Streams the elements of a JSON array read from a stream, materializing one element at a time.
+     * Use it in try-with-resources, closing the returned stream closes the input stream.
+     *
+     * @param json  the JSON stream to read
+     * @param clazz the element class
+     * @return sequential stream of the elements
+     * @throws ServiceException if the stream cannot be opened for reading
+     */
+    public static <T> Stream<T> streamArray(InputStream json, Class<T> clazz) {
+        return toStream(readArray(json, clazz));
+    }
+
+    /**
+     * Streams the elements of a JSON array read from a stream using TypeReference for complex element types.
+     *
+     * @param json          the JSON stream to read
+     * @param typeReference the type reference for the element type
+     * @return sequential stream of the elements, closing it closes the input stream
+     * @throws ServiceException if the stream cannot be opened for reading
+     */
+    public static <T> Stream<T> streamArray(InputStream json, TypeReference<T> typeReference) {
+        return toStream(readArray(json, typeReference));
+    }
+
+    /**
+     * Writes the elements of an iterator as a JSON array, serializing one element at a time.
+     * The output stream is flushed but not closed.
+     *
+     * @param out      the stream to write to
+     * @param elements the elements to write
+     * @throws ServiceException if writing fails
+     */
+    public static void writeArray(OutputStream out, Iterator<?> elements) {
+        try (SequenceWriter writer = ARRAY_WRITER.writeValuesAsArray(out)) {
+            while (elements.hasNext()) {
+                writer.write(elements.next());
+            }
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Writes the elements of a stream as a JSON array, serializing one element at a time.
+     * Neither the element stream nor the output stream is closed, the output stream is flushed.
+     *
+     * @param out      the stream to write to
+     * @param elements the elements to write
+     * @throws ServiceException if writing fails
+     */
+    public static void writeArray(OutputStream out, Stream<?> elements) {
+        writeArray(out, elements.iterator());
+    }
+
+    private static <T> Stream<T> toStream(MappingIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new ServiceException(e.toString());
+                    }
+                });
+    }
+
+    /**
+     * Checks if a string is valid JSON. The first value is validated token by token without building a tree.
      *
      * @param json the string to validate
      * @return true if valid JSON, false otherwise
@@ -157,10 +410,9 @@ public final class JacksonUtil {
         if (StringUtils.isBlank(json)) {
             return false;
         }
-        try {
-            jsonMapper.readTree(json);
-            return true;
-        } catch (JsonProcessingException ignore) {
+        try (JsonParser parser = jsonMapper.createParser(json)) {
+            return JsonFieldExtractor.validate(parser);
+        } catch (IOException ignore) {
             // ignore exception
             return false;
         }
@@ -197,27 +449,85 @@ public final class JacksonUtil {
      * @param fieldName the field name to find
      * @return list of text values or empty list if not found
      * @throws ServiceException if JSON processing fails
+     * @see JsonFieldExtractor#findValues(JsonParser, String, int)
      */
     public static List<String> findText(String json, String fieldName) {
-        if (StringUtils.isBlank(json) || StringUtils.isBlank(fieldName)) {
-            return Collections.emptyList();
-        }
-        try {
-            return jsonMapper.readTree(json).findValuesAsText(fieldName);
-        } catch (JsonProcessingException e) {
-            throw new ServiceException(e.toString());
-        }
+        return findText(json, fieldName, Integer.MAX_VALUE);
     }
 
     /**
      * Finds the first text value for a given field name in JSON.
+     * Scanning stops at the first match, the rest of the input is neither read nor validated.
      *
      * @param json      the JSON string to search
      * @param fieldName the field name to find
      * @return first text value or null if not found
+     * @throws ServiceException if JSON processing fails
      */
     public static String find(String json, String fieldName) {
-        return findText(json, fieldName).stream().findFirst().orElse(null);
+        return findText(json, fieldName, 1).stream().findFirst().orElse(null);
+    }
+
+    private static List<String> findText(String json, String fieldName, int limit) {
+        if (StringUtils.isBlank(json) || StringUtils.isBlank(fieldName)) {
+            return Collections.emptyList();
+        }
+        try (JsonParser parser = jsonMapper.createParser(json)) {
+            return JsonFieldExtractor.findValues(parser, fieldName, limit);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Extracts values by JSON pointer in a single pass without building a tree.
+     *
+     * @param json     the JSON string to read
+     * @param pointers JSON pointers, e.g. {@code /header/type}
+     * @return text values by pointer, unresolved pointers are absent
+     * @throws ServiceException if JSON processing fails
+     * @see JsonFieldExtractor
+     */
+    public static Map<String, String> extract(String json, String... pointers) {
+        return extract(json, JsonFieldExtractor.of(pointers));
+    }
+
+    /**
+     * Extracts values with a precompiled extractor, preferable for extractors used on every message.
+     *
+     * @param json      the JSON string to read
+     * @param extractor the compiled JSON pointers
+     * @return text values by pointer, unresolved pointers are absent
+     * @throws ServiceException if JSON processing fails
+     */
+    public static Map<String, String> extract(String json, JsonFieldExtractor extractor) {
+        if (StringUtils.isBlank(json)) {
+            return Collections.emptyMap();
+        }
+        try (JsonParser parser = jsonMapper.createParser(json)) {
+            return extractor.extract(parser, jsonMapper);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
+    }
+
+    /**
+     * Extracts values with a precompiled extractor from UTF-8 encoded JSON.
+     *
+     * @param json      the JSON bytes to read
+     * @param extractor the compiled JSON pointers
+     * @return text values by pointer, unresolved pointers are absent
+     * @throws ServiceException if JSON processing fails
+     */
+    public static Map<String, String> extract(byte[] json, JsonFieldExtractor extractor) {
+        if (ArrayUtils.isEmpty(json)) {
+            return Collections.emptyMap();
+        }
+        try (JsonParser parser = jsonMapper.createParser(json)) {
+            return extractor.extract(parser, jsonMapper);
+        } catch (IOException e) {
+            throw new ServiceException(e.toString());
+        }
     }
 
     /**
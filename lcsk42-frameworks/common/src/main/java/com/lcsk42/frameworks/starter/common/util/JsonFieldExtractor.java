@@ -0,0 +1,228 @@
+package com.lcsk42.frameworks.starter.common.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Extracts values by JSON pointer from a token stream without building a tree.
+ * <p>
+ * The pointers are compiled once into a trie, so a single pass over the input serves all of them:
+ * subtrees off every requested path are skipped token by token, and parsing stops as soon as every
+ * pointer has been resolved. Instances are immutable and can be shared.
+ * <pre>{@code
+ * JsonFieldExtractor extractor = JsonFieldExtractor.of("/header/type", "/body/items/0/id");
+ * Map<String, String> values = JacksonUtil.extract(json, extractor);
+ * }</pre>
+ * Scalars are returned as text like {@link JsonNode#asText()}; an object or array at a pointer is
+ * returned as compact JSON.
+ */
+public final class JsonFieldExtractor {
+
+    private final List<String> pointers;
+
+    private final PathNode root = new PathNode();
+
+    private JsonFieldExtractor(List<String> pointers) {
+        this.pointers = pointers;
+        for (String pointer : pointers) {
+            PathNode node = root;
+            for (JsonPointer segment = JsonPointer.compile(pointer); !segment.matches(); segment = segment.tail()) {
+                node = node.child(segment.getMatchingProperty(), segment.getMatchingIndex());
+            }
+            node.pointer = pointer;
+        }
+    }
+
+    /**
+     * Compiles an extractor for the given JSON pointers.
+     *
+     * @param pointers JSON pointers (RFC 6901), e.g. {@code /order/items/0/sku}
+     * @return the extractor
+     * @throws IllegalArgumentException if a pointer is malformed
+     */
+    public static JsonFieldExtractor of(String... pointers) {
+        Validate.notEmpty(pointers, "At least one JSON pointer is required");
+        return new JsonFieldExtractor(List.copyOf(new LinkedHashSet<>(Arrays.asList(pointers))));
+    }
+
+    public List<String> getPointers() {
+        return pointers;
+    }
+
+    /**
+     * Reads values from a parser positioned before the root value.
+     *
+     * @param parser the parser, left positioned where extraction stopped
+     * @param mapper mapper used to render an object or array at a pointer
+     * @return values by pointer in the order they were found; unresolved pointers are absent
+     * @throws IOException if the input is not valid JSON up to the last value needed
+     */
+    public Map<String, String> extract(JsonParser parser, ObjectMapper mapper) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        JsonToken token = parser.nextToken();
+        if (Objects.nonNull(token)) {
+            visit(parser, token, root, mapper, values);
+        }
+        return values;
+    }
+
+    /**
+     * Collects the text of every property with the given name at any depth, without descending into
+     * matched values, which mirrors {@link JsonNode#findValuesAsText(String)} on the parsed tree.
+     *
+     * @param parser    the parser, left positioned where the scan stopped
+     * @param fieldName the property name
+     * @param limit     stop after this many values
+     * @return values in document order, an object or array value is reported as an empty string
+     * @throws IOException if the input is not valid JSON up to the last value needed
+     */
+    public static List<String> findValues(JsonParser parser, String fieldName, int limit) throws IOException {
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while (values.size() < limit && Objects.nonNull(token = parser.nextToken())) {
+            if (token == JsonToken.FIELD_NAME && fieldName.equals(parser.currentName())) {
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    parser.skipChildren();
+                    values.add("");
+                } else {
+                    values.add(scalarText(parser, value));
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Checks that the input holds one well-formed JSON value, reading tokens without keeping them.
+     *
+     * @param parser the parser positioned before the root value
+     * @return true if a complete value was read
+     * @throws IOException if the input is not valid JSON
+     */
+    public static boolean validate(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (Objects.isNull(token)) {
+            return false;
+        }
+        parser.skipChildren();
+        return true;
+    }
+
+    private boolean visit(JsonParser parser, JsonToken token, PathNode node,
+                          ObjectMapper mapper, Map<String, String> values) throws IOException {
+        if (Objects.nonNull(node.pointer)) {
+            if (token.isStructStart()) {
+                JsonNode tree = mapper.readTree(parser);
+                values.put(node.pointer, tree.toString());
+                // Pointers below a captured container are resolved on the captured subtree
+                collectNested(node, tree, values);
+            } else {
+                values.put(node.pointer, scalarText(parser, token));
+            }
+            return values.size() == pointers.size();
+        }
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                PathNode child = Objects.isNull(node.fields) ? null : node.fields.get(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (Objects.isNull(child)) {
+                    parser.skipChildren();
+                } else if (visit(parser, value, child, mapper, values)) {
+                    return true;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            JsonToken value;
+            while ((value = parser.nextToken()) != JsonToken.END_ARRAY) {
+                PathNode child = Objects.nonNull(node.elements) && index < node.elements.length ? node.elements[index] : null;
+                index++;
+                if (Objects.isNull(child)) {
+                    parser.skipChildren();
+                } else if (visit(parser, value, child, mapper, values)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void collectNested(PathNode node, JsonNode tree, Map<String, String> values) {
+        if (tree.isObject() && Objects.nonNull(node.fields)) {
+            for (Map.Entry<String, PathNode> entry : node.fields.entrySet()) {
+                JsonNode child = tree.get(entry.getKey());
+                if (Objects.nonNull(child)) {
+                    capture(entry.getValue(), child, values);
+                }
+            }
+        } else if (tree.isArray() && Objects.nonNull(node.elements)) {
+            for (int i = 0; i < node.elements.length && i < tree.size(); i++) {
+                if (Objects.nonNull(node.elements[i])) {
+                    capture(node.elements[i], tree.get(i), values);
+                }
+            }
+        }
+    }
+
+    private static void capture(PathNode node, JsonNode value, Map<String, String> values) {
+        if (Objects.nonNull(node.pointer)) {
+            values.put(node.pointer, value.isContainerNode() ? value.toString() : value.asText());
+        }
+        collectNested(node, value, values);
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> String.valueOf(parser.getNumberValue());
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            case VALUE_NULL -> "null";
+            default -> "";
+        };
+    }
+
+    /**
+     * Trie node for one pointer segment. A segment that looks like an index matches both an array
+     * element and a property of that name, as JSON pointers do.
+     */
+    private static final class PathNode {
+
+        private String pointer;
+
+        private Map<String, PathNode> fields;
+
+        private PathNode[] elements;
+
+        private PathNode child(String property, int index) {
+            if (Objects.isNull(fields)) {
+                fields = new HashMap<>();
+            }
+            PathNode child = fields.computeIfAbsent(property, key -> new PathNode());
+            if (index >= 0) {
+                if (Objects.isNull(elements)) {
+                    elements = new PathNode[index + 1];
+                } else if (elements.length <= index) {
+                    elements = Arrays.copyOf(elements, index + 1);
+                }
+                elements[index] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.lcsk42.frameworks.starter.common.util;
 
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
+import com.lcsk42.frameworks.starter.common.jwt.VerifiedTokenCache;
 import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.AccessLevel;
@@ -20,6 +23,8 @@ public final class JwtUtil {
 
     private static final long EXPIRATION = 60 * 60 * 24L;
 
+    private static final int TOKEN_CACHE_CAPACITY = 4096;
+
     public static final String TOKEN_PREFIX = "Bearer ";
 
     public static final String ISSUER = "lcsk42";
@@ -28,33 +33,54 @@ public final class JwtUtil {
 
     private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 
+    // Parsers are immutable and thread-safe, build it once
+    private static final JwtParser PARSER = Jwts.parser()
+            .verifyWith(SECRET_KEY)
+            .clock(() -> new Date(TimeSourceHolder.currentTimeMillis()))
+            .build();
+
+    private static final VerifiedTokenCache TOKEN_CACHE = new VerifiedTokenCache(TOKEN_CACHE_CAPACITY);
+
     public static String generateAccessToken(UserInfoDTO userInfo) {
+        long now = TimeSourceHolder.currentTimeMillis();
         String jwtToken = Jwts.builder()
                 .subject(JacksonUtil.toJSON(userInfo))
                 .signWith(SECRET_KEY)
                 .issuer(ISSUER)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + EXPIRATION * 1_000))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + EXPIRATION * 1_000))
                 .compact();
         return TOKEN_PREFIX + jwtToken;
     }
 
+    /**
+     * Verifies a token and returns its user. Tokens verified before are answered from a cache
+     * until they expire, skipping signature verification and JSON parsing.
+     *
+     * @param jwtToken the token, with or without the {@link #TOKEN_PREFIX}
+     * @return a copy of the user, or null if the token is empty, invalid or expired
+     */
     public static UserInfoDTO parseJwtToken(String jwtToken) {
 
         if (StringUtils.hasText(jwtToken)) {
             String actualJwtToken = jwtToken.replace(TOKEN_PREFIX, "");
+            byte[] digest = VerifiedTokenCache.digest(actualJwtToken);
+            UserInfoDTO cached = TOKEN_CACHE.get(digest, TimeSourceHolder.currentTimeMillis());
+            if (cached != null) {
+                return cached;
+            }
             try {
 
-                Claims claims = Jwts.parser()
-                        .verifyWith(SECRET_KEY)
-                        .build()
-                        .parseSignedClaims(actualJwtToken)
-                        .getPayload();
+                Claims claims = PARSER.parseSignedClaims(actualJwtToken).getPayload();
 
                 Date expiration = claims.getExpiration();
-                if (expiration.after(new Date())) {
+                if (expiration.getTime() > TimeSourceHolder.currentTimeMillis()) {
                     String subject = claims.getSubject();
-                    return JacksonUtil.fromJson(subject, UserInfoDTO.class);
+                    UserInfoDTO userInfo = JacksonUtil.fromJson(subject, UserInfoDTO.class);
+                    if (userInfo != null) {
+                        TOKEN_CACHE.put(digest, userInfo, expiration.getTime());
+                    }
+                    return userInfo;
                 }
             } catch (JwtException ex) {
                 log.warn("JWT token is invalid: {}", ex.getMessage());
@@ -64,4 +90,13 @@ public final class JwtUtil {
         }
         return null;
     }
+
+    /**
+     * Returns the cache of verified tokens, e.g. to read its hit rate.
+     *
+     * @return the verified-token cache
+     */
+    public static VerifiedTokenCache getTokenCache() {
+        return TOKEN_CACHE;
+    }
 }
@@ -1,12 +1,21 @@
 package com.lcsk42.frameworks.starter.common.util;
 
+import com.lcsk42.frameworks.starter.common.threadpool.structured.FanOutScope;
+import com.lcsk42.frameworks.starter.common.threadpool.timer.TimingWheelScheduler;
+import com.lcsk42.frameworks.starter.common.threadpool.timer.WheelTimeout;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Utility class for thread-related operations.
@@ -70,4 +79,126 @@ public final class ThreadUtil {
     public static Future<?> submit(Runnable runnable) {
         return GlobalThreadPool.submit(runnable);
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the tasks in parallel on virtual threads and returns all results. The first failure
+     * cancels the remaining tasks; no task is left running when this method returns or throws.
+     * Tasks see the context of the calling thread propagated by the registered task decorators.
+     *
+     * @param tasks   the tasks
+     * @param timeout time to wait for all results
+     * @param <T>     the result type
+     * @return results in task order
+     * @throws ExecutionException   with the first failure if a task failed
+     * @throws TimeoutException     if not all tasks finished in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static <T> List<T> invokeAll(@NonNull Collection<? extends Callable<T>> tasks, @NonNull Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (FanOutScope<T> scope = new FanOutScope<>("fan-out", FanOutScope.Policy.SHUTDOWN_ON_FAILURE)) {
+            tasks.forEach(scope::fork);
+            if (!scope.join(deadline)) {
+                throw new TimeoutException("Tasks did not finish within " + timeout);
+            }
+            return scope.results();
+        }
+    }
+
+    /**
+     * Runs the tasks in parallel on virtual threads and returns the first successful result,
+     * cancelling the remaining tasks. No task is left running when this method returns or throws.
+     *
+     * @param tasks   the tasks, e.g. the same call against different replicas
+     * @param timeout time to wait for a result
+     * @param <T>     the result type
+     * @return the first successful result
+     * @throws ExecutionException   with the first failure, later ones suppressed, if every task failed
+     * @throws TimeoutException     if no task succeeded in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static <T> T invokeAny(@NonNull Collection<? extends Callable<T>> tasks, @NonNull Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("No tasks to invoke");
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (FanOutScope<T> scope = new FanOutScope<>("fan-out", FanOutScope.Policy.SHUTDOWN_ON_SUCCESS)) {
+            tasks.forEach(scope::fork);
+            if (!scope.join(deadline)) {
+                throw new TimeoutException("No task succeeded within " + timeout);
+            }
+            return scope.result();
+        }
+    }
+
+    /**
+     * Runs a task as a hedged request: if it has not succeeded after the hedge delay, or failed, another
+     * attempt starts in parallel, up to the maximum number of attempts. The first success wins and
+     * cancels the other attempts, which cuts tail latency for idempotent calls.
+     *
+     * @param task        the task, must be safe to run more than once
+     * @param hedgeDelay  time to wait for an attempt before starting the next one
+     * @param maxAttempts maximum number of attempts, including the first
+     * @param timeout     time to wait for a result
+     * @param <T>         the result type
+     * @return the first successful result
+     * @throws ExecutionException   with the first failure, later ones suppressed, if every attempt failed
+     * @throws TimeoutException     if no attempt succeeded in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static <T> T hedge(@NonNull Callable<T> task, @NonNull Duration hedgeDelay, int maxAttempts,
+                              @NonNull Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (maxAttempts <= 0 || hedgeDelay.isNegative()) {
+            throw new IllegalArgumentException("Attempts must be positive and the hedge delay non-negative");
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (FanOutScope<T> scope = new FanOutScope<>("hedge", FanOutScope.Policy.SHUTDOWN_ON_SUCCESS)) {
+            int attempts = 0;
+            while (true) {
+                scope.fork(task);
+                attempts++;
+                long waitUntil = deadline;
+                if (attempts < maxAttempts) {
+                    long nextAttempt = System.nanoTime() + hedgeDelay.toNanos();
+                    waitUntil = nextAttempt - deadline < 0 ? nextAttempt : deadline;
+                }
+                if (scope.join(waitUntil)) {
+                    try {
+                        return scope.result();
+                    } catch (ExecutionException ex) {
+                        // Every attempt so far failed, start the next one right away
+                        if (attempts >= maxAttempts) {
+                            throw ex;
+                        }
+                    }
+                } else if (deadline - System.nanoTime() <= 0L) {
+                    throw new TimeoutException("No attempt succeeded within " + timeout);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a task on the global thread pool after a delay. Timers live in a shared timing wheel with
+     * a resolution of 10 ms, cheap enough for hundreds of thousands of pending timeouts or retries.
+     *
+     * @param task  the task
+     * @param delay the delay
+     * @param unit  the unit of the delay
+     * @return a handle to cancel the task
+     */
+    public static WheelTimeout schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return TimerHolder.TIMER.schedule(task, delay, unit);
+    }
+
+    /**
+     * Creates the shared timing wheel on first use.
+     */
+    private static final class TimerHolder {
+
+        private static final TimingWheelScheduler TIMER =
+                new TimingWheelScheduler(10, 512, GlobalThreadPool::execute, "timing-wheel");
+    }
+}
@@ -0,0 +1,101 @@
+package com.lcsk42.frameworks.starter.common.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkheadTest {
+
+    private static Thread occupy(Bulkhead bulkhead, CountDownLatch started, CountDownLatch release) {
+        Thread thread = new Thread(() -> bulkhead.run(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    void testSemaphoreBulkheadFailsFastWhenFull() throws Exception {
+        SemaphoreBulkhead bulkhead = new SemaphoreBulkhead("cache", 1, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread occupant = occupy(bulkhead, started, release);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(BulkheadFullException.class, () -> bulkhead.get(() -> "value"));
+        assertEquals(1, bulkhead.getRejectedCount());
+        assertEquals(0, bulkhead.getAvailableConcurrentCalls());
+
+        release.countDown();
+        occupant.join(5_000);
+        assertEquals("value", bulkhead.get(() -> "value"));
+        // Exceptions of the call are not wrapped
+        assertThrows(IOException.class, () -> bulkhead.call(() -> {
+            throw new IOException("down");
+        }));
+        assertEquals(1, bulkhead.getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void testThreadPoolBulkheadRejectsAndTimesOut() throws Exception {
+        try (ThreadPoolBulkhead bulkhead = new ThreadPoolBulkhead("file", 1, 0, 100)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread occupant = new Thread(() -> assertThrows(BulkheadTimeoutException.class, () -> bulkhead.run(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            })));
+            occupant.start();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertThrows(BulkheadFullException.class, () -> bulkhead.get(() -> "value"));
+            assertEquals(1, bulkhead.getRejectedCount());
+
+            // The caller gives up after the timeout and the hanging call is interrupted
+            occupant.join(5_000);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (bulkhead.getAvailableConcurrentCalls() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals("value", bulkhead.get(() -> "value"));
+        }
+    }
+
+    @Test
+    void testBeanPostProcessorRoutesConfiguredBeans() {
+        BulkheadSettings settings = new BulkheadSettings();
+        settings.setMaxConcurrentCalls(1);
+        settings.getBeans().add("nameSupplier");
+        try (BulkheadRegistry registry = new BulkheadRegistry(Map.of("names", settings))) {
+            BulkheadBeanPostProcessor postProcessor = new BulkheadBeanPostProcessor(registry);
+            Supplier<String> target = () -> "name";
+            assertEquals(target, postProcessor.postProcessAfterInitialization(target, "otherBean"));
+
+            @SuppressWarnings("unchecked")
+            Supplier<String> proxy = (Supplier<String>) postProcessor.postProcessAfterInitialization(target, "nameSupplier");
+            Bulkhead bulkhead = registry.bulkhead("names");
+            assertInstanceOf(SemaphoreBulkhead.class, bulkhead);
+            assertEquals("name", proxy.get());
+            // The proxy shares the bulkhead with direct callers
+            assertThrows(BulkheadFullException.class, () -> bulkhead.get(proxy));
+            assertEquals(1, bulkhead.getRejectedCount());
+        }
+    }
+}
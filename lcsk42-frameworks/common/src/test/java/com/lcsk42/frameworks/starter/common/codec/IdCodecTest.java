@@ -0,0 +1,90 @@
+package com.lcsk42.frameworks.starter.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IdCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        long[] ids = {0L, 1L, 61L, 62L, 31L, 32L, Long.MAX_VALUE, Long.MIN_VALUE, -1L, 1_934_000_000_000_000_000L};
+        for (IdCodec codec : IdCodec.values()) {
+            char[] chars = new char[codec.getMaxLength() + 2];
+            byte[] bytes = new byte[codec.getMaxLength() + 2];
+            for (long id : ids) {
+                assertRoundTrip(codec, id, chars, bytes);
+            }
+            for (int i = 0; i < 10_000; i++) {
+                assertRoundTrip(codec, ThreadLocalRandom.current().nextLong(), chars, bytes);
+            }
+        }
+    }
+
+    @Test
+    void testEncoding() {
+        assertEquals("0", IdCodec.BASE62.encode(0L));
+        assertEquals("10", IdCodec.BASE62.encode(62L));
+        assertEquals("LygHa16AHYF", IdCodec.BASE62.encode(-1L));
+        assertEquals("Z", IdCodec.CROCKFORD_BASE32.encode(31L));
+        assertEquals("FZZZZZZZZZZZZ", IdCodec.CROCKFORD_BASE32.encode(-1L));
+        assertEquals(11, IdCodec.BASE62.getMaxLength());
+        assertEquals(13, IdCodec.CROCKFORD_BASE32.getMaxLength());
+    }
+
+    @Test
+    void testCrockfordAliases() {
+        long id = IdCodec.CROCKFORD_BASE32.decode("10");
+        assertEquals(id, IdCodec.CROCKFORD_BASE32.decode("lo"));
+        assertEquals(id, IdCodec.CROCKFORD_BASE32.decode("IO"));
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode("ab-c"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode("LygHa16AHYG"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.CROCKFORD_BASE32.decode("U"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.CROCKFORD_BASE32.decode("G000000000000"));
+    }
+
+    @Test
+    void testJacksonCompactId() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Payload payload = new Payload();
+        payload.id = 1_934_000_000_000_000_000L;
+        payload.code = 1_934_000_000_000_000_000L;
+        String json = objectMapper.writeValueAsString(payload);
+        assertEquals("{\"id\":\"" + IdCodec.BASE62.encode(payload.id) + "\",\"code\":\""
+                + IdCodec.CROCKFORD_BASE32.encode(payload.code) + "\"}", json);
+
+        Payload read = objectMapper.readValue(json, Payload.class);
+        assertEquals(payload.id, read.id);
+        assertEquals(payload.code, read.code);
+        assertEquals(42L, objectMapper.readValue("{\"id\":42}", Payload.class).id);
+    }
+
+    private static void assertRoundTrip(IdCodec codec, long id, char[] chars, byte[] bytes) {
+        int length = codec.encode(id, chars, 1);
+        assertEquals(codec.encodedLength(id), length);
+        assertEquals(id, codec.decode(chars, 1, length));
+        assertEquals(length, codec.encode(id, bytes, 2));
+        assertEquals(id, codec.decode(bytes, 2, length));
+        assertEquals(new String(chars, 1, length), new String(bytes, 2, length, StandardCharsets.US_ASCII));
+        assertEquals(id, codec.decode(codec.encode(id)));
+    }
+
+    static class Payload {
+
+        @CompactId
+        public Long id;
+
+        @CompactId(IdCodec.CROCKFORD_BASE32)
+        public Long code;
+    }
+}
@@ -0,0 +1,82 @@
+package com.lcsk42.frameworks.starter.common.context;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContextCarrierTest {
+
+    private static RequestContext context(String requestId) {
+        return RequestContext.builder()
+                .user(UserInfoDTO.builder().userId(1L).username("alice").build())
+                .requestId(requestId)
+                .deadline(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+    private static String currentRequestId() {
+        return ContextCarrier.current().map(RequestContext::getRequestId).orElse(null);
+    }
+
+    @Test
+    void testBindingsNestAndUnwind() throws Exception {
+        assertTrue(ContextCarrier.current().isEmpty());
+        ContextCarrier.runWhere(context("outer"), () -> {
+            assertEquals("outer", currentRequestId());
+            assertFalse(ContextCarrier.current().get().isExpired());
+            ContextCarrier.runWhere(context("inner"), () -> {
+                assertEquals("inner", currentRequestId());
+                ContextCarrier.replace(context("replaced"));
+                assertEquals("replaced", currentRequestId());
+            });
+            assertEquals("outer", currentRequestId());
+        });
+        assertTrue(ContextCarrier.current().isEmpty());
+        assertThrows(IllegalStateException.class, () -> ContextCarrier.replace(context("unbound")));
+        String result = ContextCarrier.callWhere(context("call"), ContextCarrierTest::currentRequestId);
+        assertEquals("call", result);
+        assertTrue(ContextCarrier.current().isEmpty());
+
+        RequestContext expired = context("expired").toBuilder().deadline(Instant.now().minusMillis(1)).build();
+        assertTrue(expired.isExpired());
+        assertTrue(expired.remaining().isNegative());
+    }
+
+    @Test
+    void testFrameworkPoolsCarryTheContext() throws Exception {
+        RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+        TaskDecoratorRegistry.register(decorator);
+        ExecutorService platform = ThreadPoolBuilder.builder()
+                .threadFactory("context-test-", true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .build();
+        ExecutorService virtual = ThreadPoolBuilder.virtual()
+                .threadFactory("context-test-virtual-")
+                .build();
+        try {
+            List<String> seen = ContextCarrier.callWhere(context("request-1"), () -> List.of(
+                    platform.submit(ContextCarrierTest::currentRequestId).get(5, TimeUnit.SECONDS),
+                    virtual.submit(ContextCarrierTest::currentRequestId).get(5, TimeUnit.SECONDS)));
+            assertEquals(List.of("request-1", "request-1"), seen);
+            // The worker does not keep the context once the task is done
+            assertNull(platform.submit(ContextCarrierTest::currentRequestId).get(5, TimeUnit.SECONDS));
+        } finally {
+            TaskDecoratorRegistry.unregister(decorator);
+            platform.shutdownNow();
+            virtual.shutdownNow();
+        }
+        assertTrue(platform.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
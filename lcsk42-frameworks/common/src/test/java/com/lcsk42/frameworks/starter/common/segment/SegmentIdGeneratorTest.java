@@ -0,0 +1,72 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentIdGeneratorTest {
+
+    @Test
+    void testIdsAreSequentialWithinNode() {
+        SegmentIdGenerator generator = new SegmentIdGenerator(new InMemorySegmentAllocator(), "order", 100);
+        for (long expected = 0; expected < 1_000; expected++) {
+            assertEquals(expected, generator.nextId());
+        }
+    }
+
+    @Test
+    void testNodesSharingAllocatorNeverOverlap() throws InterruptedException {
+        InMemorySegmentAllocator allocator = new InMemorySegmentAllocator();
+        SegmentIdGenerator first = new SegmentIdGenerator(allocator, "order", 128);
+        SegmentIdGenerator second = new SegmentIdGenerator(allocator, "order", 128);
+        int threads = 8;
+        int idsPerThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threads);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                SegmentIdGenerator generator = i % 2 == 0 ? first : second;
+                executor.execute(() -> {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        }
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    @Test
+    void testNextSegmentIsPrefetched() throws InterruptedException {
+        AtomicInteger allocations = new AtomicInteger();
+        InMemorySegmentAllocator delegate = new InMemorySegmentAllocator();
+        SegmentAllocator allocator = (bizTag, step) -> {
+            allocations.incrementAndGet();
+            return delegate.allocate(bizTag, step);
+        };
+        SegmentIdGenerator generator = new SegmentIdGenerator(allocator, "order", 100, 0.1D, Runnable::run);
+
+        generator.nextId();
+        assertEquals(1, allocations.get());
+        for (int i = 0; i < 10; i++) {
+            generator.nextId();
+        }
+        // The second segment was reserved at 10% consumption, before the first one ran out
+        assertEquals(2, allocations.get());
+        for (int i = 0; i < 89; i++) {
+            generator.nextId();
+        }
+        assertEquals(100, generator.nextId());
+    }
+}
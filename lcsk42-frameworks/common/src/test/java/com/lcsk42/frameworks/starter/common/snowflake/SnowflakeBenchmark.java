@@ -0,0 +1,58 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the synchronized {@link Snowflake} with {@link LockFreeSnowflake} under contention.
+ * <p>
+ * Run {@link #main(String[])} from the IDE or with the test classpath; every benchmark is executed
+ * once per thread count in {@link #THREADS}. Note that both generators are capped at 4096 IDs per
+ * millisecond, so at high thread counts the difference is in how the waiting threads behave.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    private final Snowflake synchronizedSnowflake = new Snowflake(1, 1);
+
+    private final Snowflake lockFreeSnowflake = new LockFreeSnowflake(1, 1);
+
+    @Benchmark
+    public long synchronizedNextId() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    @Benchmark
+    public long lockFreeNextId() {
+        return lockFreeSnowflake.nextId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .include(SnowflakeBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+}
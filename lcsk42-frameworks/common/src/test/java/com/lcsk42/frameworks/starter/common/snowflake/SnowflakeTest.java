@@ -0,0 +1,142 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import com.lcsk42.frameworks.starter.base.time.ManualTimeSource;
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnowflakeTest {
+
+    @Test
+    void testLockFreeIdsAreUniqueAcrossThreads() throws InterruptedException {
+        LockFreeSnowflake snowflake = new LockFreeSnowflake(1, 2);
+        int threads = 8;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threads);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(snowflake.nextId());
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        }
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    @Test
+    void testLockFreeIdsAreMonotonicPerThread() {
+        LockFreeSnowflake snowflake = new LockFreeSnowflake(1, 2);
+        long previous = 0L;
+        for (int i = 0; i < 100_000; i++) {
+            long id = snowflake.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void testLockFreeLayoutMatchesSynchronized() {
+        long now = System.currentTimeMillis();
+        TimeSourceHolder.install(new ManualTimeSource(now));
+        try {
+            LockFreeSnowflake snowflake = new LockFreeSnowflake(7, 19);
+            SnowflakeIdInfo info = new Snowflake(0, 0).parseId(snowflake.nextId());
+
+            assertEquals(7, info.getWorkerId());
+            assertEquals(19, info.getDatacenterId());
+            assertEquals(now, info.getTimestamp());
+        } finally {
+            TimeSourceHolder.reset();
+        }
+    }
+
+    @Test
+    void testNextIdsReturnsDistinctAscendingIds() {
+        for (Snowflake snowflake : new Snowflake[]{new Snowflake(3, 4), new LockFreeSnowflake(3, 4)}) {
+            // Larger than one millisecond of sequence space
+            long[] ids = snowflake.nextIds(10_000);
+            assertEquals(10_000, ids.length);
+            for (int i = 1; i < ids.length; i++) {
+                assertTrue(ids[i] > ids[i - 1]);
+            }
+            assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+        }
+    }
+
+    @Test
+    void testBufferedIdsAreUniqueAcrossThreads() throws InterruptedException {
+        BufferedIdGenerator generator = new BufferedIdGenerator(new LockFreeSnowflake(5, 6), 256);
+        int threads = 8;
+        int idsPerThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threads);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                    Arrays.stream(generator.nextIds(100)).forEach(ids::add);
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        }
+        assertEquals(threads * (idsPerThread + 100), ids.size());
+    }
+
+    @Test
+    void testDriftTolerantBorrowsAcrossSmallClockStepBackwards() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        DriftTolerantSnowflake snowflake = new DriftTolerantSnowflake(1, 1, 5) {
+            @Override
+            protected long timeGen() {
+                return clock.get();
+            }
+        };
+        long before = snowflake.nextId();
+        clock.addAndGet(-3);
+        long during = snowflake.nextId();
+        assertTrue(during > before);
+        assertEquals(snowflake.parseId(before).getTimestamp(), snowflake.parseId(during).getTimestamp());
+        assertEquals(1, snowflake.getBorrowedIdCount());
+        assertEquals(3, snowflake.getMaxBorrowedMillis());
+
+        clock.addAndGet(-10);
+        assertThrows(RuntimeException.class, snowflake::nextId);
+    }
+
+    @Test
+    void testDriftTolerantBorrowsAheadWhenSequenceIsExhausted() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        DriftTolerantSnowflake snowflake = new DriftTolerantSnowflake(1, 1, 2) {
+            @Override
+            protected long timeGen() {
+                return clock.get();
+            }
+        };
+        long[] ids = snowflake.nextIds(2 * 4096 + 100);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+        }
+        assertEquals(clock.get() + 2, snowflake.parseId(ids[ids.length - 1]).getTimestamp());
+        assertEquals(2, snowflake.getMaxBorrowedMillis());
+    }
+}
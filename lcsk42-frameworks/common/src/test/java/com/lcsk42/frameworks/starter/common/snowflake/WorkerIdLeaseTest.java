@@ -0,0 +1,106 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import com.lcsk42.frameworks.starter.base.time.ManualTimeSource;
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkerIdLeaseTest {
+
+    @Test
+    void testLeasesAreExclusiveUntilReleased() {
+        InMemoryWorkerIdRegistry registry = new InMemoryWorkerIdRegistry();
+        WorkerIdLeaseManager first = new WorkerIdLeaseManager(registry, 30_000);
+        WorkerIdLeaseManager second = new WorkerIdLeaseManager(registry, 30_000);
+        int firstId = first.start().getLeaseId();
+        assertNotEquals(firstId, second.start().getLeaseId());
+        first.close();
+        second.close();
+
+        try (WorkerIdLeaseManager third = new WorkerIdLeaseManager(registry, 30_000)) {
+            assertEquals(firstId, third.start().getLeaseId());
+        }
+    }
+
+    @Test
+    void testSnowflakeRejectsIdsAfterLeaseIsLost() {
+        InMemoryWorkerIdRegistry registry = new InMemoryWorkerIdRegistry();
+        try (WorkerIdLeaseManager manager = new WorkerIdLeaseManager(registry, 30_000)) {
+            WorkerIdLease lease = manager.start();
+            Snowflake snowflake = new LockFreeSnowflake(lease);
+            SnowflakeIdInfo info = snowflake.parseId(snowflake.nextId());
+            assertEquals(lease.getWorkerId(), info.getWorkerId());
+            assertEquals(lease.getDatacenterId(), info.getDatacenterId());
+
+            registry.takeOver(lease.getLeaseId());
+            manager.heartbeat();
+            assertThrows(IllegalStateException.class, snowflake::nextId);
+            assertThrows(IllegalStateException.class, () -> snowflake.nextIds(10));
+        }
+    }
+
+    @Test
+    void testExpiredLeaseIsReclaimedOnRenewal() {
+        InMemoryWorkerIdRegistry registry = new InMemoryWorkerIdRegistry();
+        WorkerIdLease lease = registry.acquire(30_000);
+        Snowflake snowflake = new Snowflake(lease);
+        lease.revoke();
+        assertThrows(IllegalStateException.class, snowflake::nextId);
+
+        registry.release(lease);
+        assertTrue(registry.renew(lease));
+        lease.extend(System.nanoTime());
+        assertDoesNotThrow(snowflake::nextId);
+    }
+
+    @Test
+    void testSuccessorWaitsForTimestampsOfPreviousHolder() {
+        long now = System.currentTimeMillis();
+        ManualTimeSource clock = new ManualTimeSource(now);
+        TimeSourceHolder.install(clock);
+        try {
+            InMemoryWorkerIdRegistry registry = new InMemoryWorkerIdRegistry();
+            WorkerIdLease previous = registry.acquire(30_000);
+            clock.advance(Duration.ofMillis(5));
+            new LockFreeSnowflake(previous).nextId();
+            assertEquals(now + 5 + 30_000, previous.issuedBoundMillis());
+            registry.release(previous);
+
+            // The successor's clock is behind the previous holder's
+            clock.set(now);
+            WorkerIdLease lease = registry.acquire(30_000);
+            assertEquals(previous.getLeaseId(), lease.getLeaseId());
+            assertEquals(now + 5, lease.getNotBeforeMillis());
+            Snowflake snowflake = new LockFreeSnowflake(lease);
+            assertThrows(IllegalStateException.class, snowflake::nextId);
+
+            clock.advance(Duration.ofMillis(6));
+            assertTrue(snowflake.parseId(snowflake.nextId()).getTimestamp() > now + 5);
+        } finally {
+            TimeSourceHolder.reset();
+        }
+    }
+
+    @Test
+    void testBufferedIdsAreDiscardedWithTheirLease() {
+        InMemoryWorkerIdRegistry registry = new InMemoryWorkerIdRegistry();
+        WorkerIdLease lease = registry.acquire(30_000);
+        BufferedIdGenerator generator = new BufferedIdGenerator(new LockFreeSnowflake(lease), 256);
+        long first = generator.nextId();
+
+        lease.revoke();
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        // A chunk reserved before the revocation stays discarded once the lease is reclaimed
+        assertTrue(registry.renew(lease));
+        lease.extend(System.nanoTime());
+        assertNotEquals(first + 1, generator.nextId());
+    }
+}
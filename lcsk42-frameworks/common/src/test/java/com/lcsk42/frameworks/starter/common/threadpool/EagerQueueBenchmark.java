@@ -0,0 +1,78 @@
+package com.lcsk42.frameworks.starter.common.threadpool;
+
+import com.lcsk42.frameworks.starter.common.threadpool.eager.ArrayTaskQueue;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.EagerTaskQueue;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.EagerThreadPoolExecutor;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Submit throughput of an {@link EagerThreadPoolExecutor} over the linked {@link TaskQueue} and the
+ * array-backed {@link ArrayTaskQueue}, with more submitting threads than workers. Tasks that do not
+ * fit run on the submitting thread, so the score is the rate at which tasks get done.
+ * <p>
+ * Run {@link #main(String[])} from the IDE or with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class EagerQueueBenchmark {
+
+    @Param({"linked", "array"})
+    private String queue;
+
+    private EagerThreadPoolExecutor executor;
+
+    private final Runnable task = () -> Blackhole.consumeCPU(64);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int workers = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        EagerTaskQueue workQueue = "array".equals(queue) ? new ArrayTaskQueue(4096) : new TaskQueue(4096);
+        executor = new EagerThreadPoolExecutor(workers / 2, workers, 60, TimeUnit.SECONDS,
+                workQueue, Executors.defaultThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void submit() {
+        executor.execute(task);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EagerQueueBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
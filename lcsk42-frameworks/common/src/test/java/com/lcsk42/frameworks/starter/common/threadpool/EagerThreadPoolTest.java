@@ -1,5 +1,6 @@
 package com.lcsk42.frameworks.starter.common.threadpool;
 
+import com.lcsk42.frameworks.starter.common.threadpool.eager.ArrayTaskQueue;
 import com.lcsk42.frameworks.starter.common.threadpool.eager.EagerThreadPoolExecutor;
 import com.lcsk42.frameworks.starter.common.threadpool.eager.TaskQueue;
 import com.lcsk42.frameworks.starter.common.util.ThreadUtil;
@@ -9,12 +10,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -214,4 +218,94 @@ public class EagerThreadPoolTest {
         assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
         }));
     }
+
+    @Test
+    void testArrayTaskQueueKeepsEagerSemantics() throws InterruptedException {
+        ArrayTaskQueue arrayQueue = new ArrayTaskQueue(3);
+        assertEquals(4, arrayQueue.getCapacity());
+        EagerThreadPoolExecutor arrayExecutor = new EagerThreadPoolExecutor(
+                1, 2, 60, TimeUnit.SECONDS,
+                arrayQueue, Executors.defaultThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(6);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+        try {
+            // Grows to the maximum before queueing, then queues up to the capacity
+            for (int i = 0; i < 6; i++) {
+                arrayExecutor.execute(blocking);
+            }
+            assertEquals(2, arrayExecutor.getLivePoolSize());
+            assertEquals(4, arrayQueue.size());
+            assertThrows(RejectedExecutionException.class, () -> arrayExecutor.execute(blocking));
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            arrayExecutor.shutdownNow();
+        }
+        assertTrue(arrayExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        // Workers leave the live count just after the pool reports termination
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (arrayExecutor.getLivePoolSize() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, arrayExecutor.getLivePoolSize());
+    }
+
+    @Test
+    void testArrayTaskQueueDeliversEachTaskOnce() throws InterruptedException {
+        ArrayTaskQueue arrayQueue = new ArrayTaskQueue(64);
+        int producers = 4;
+        int tasksPerProducer = 10_000;
+        AtomicInteger[] runs = new AtomicInteger[producers * tasksPerProducer];
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = new AtomicInteger();
+        }
+        CountDownLatch done = new CountDownLatch(runs.length);
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < 4; c++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    Runnable task;
+                    while ((task = arrayQueue.poll(1, TimeUnit.SECONDS)) != null) {
+                        task.run();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int p = 0; p < producers; p++) {
+            int offset = p * tasksPerProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    AtomicInteger counter = runs[offset + i];
+                    try {
+                        arrayQueue.put(() -> {
+                            counter.incrementAndGet();
+                            done.countDown();
+                        });
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }));
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (AtomicInteger counter : runs) {
+            assertEquals(1, counter.get());
+        }
+        assertTrue(arrayQueue.isEmpty());
+    }
 }
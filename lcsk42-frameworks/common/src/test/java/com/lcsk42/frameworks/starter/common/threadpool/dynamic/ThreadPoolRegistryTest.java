@@ -0,0 +1,146 @@
+package com.lcsk42.frameworks.starter.common.threadpool.dynamic;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.frameworks.starter.common.threadpool.eager.EagerThreadPoolExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadPoolRegistryTest {
+
+    @Test
+    void testQueueCapacityCanChange() throws InterruptedException {
+        ResizableLinkedBlockingQueue<Integer> queue = new ResizableLinkedBlockingQueue<>(2);
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertEquals(0, queue.remainingCapacity());
+
+        queue.setCapacity(3);
+        assertTrue(queue.offer(3));
+
+        // Shrinking keeps the backlog and rejects until it drains below the new capacity
+        queue.setCapacity(1);
+        assertEquals(3, queue.size());
+        assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+        queue.clear();
+        assertTrue(queue.offer(4));
+
+        CountDownLatch put = new CountDownLatch(1);
+        Thread producer = Thread.ofPlatform().start(() -> {
+            try {
+                queue.put(5);
+                put.countDown();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertFalse(put.await(50, TimeUnit.MILLISECONDS));
+        assertEquals(4, queue.take());
+        assertTrue(put.await(5, TimeUnit.SECONDS));
+        producer.join();
+    }
+
+    @Test
+    void testQueueSlotsFollowEveryRemoval() throws InterruptedException {
+        ResizableLinkedBlockingQueue<Integer> queue = new ResizableLinkedBlockingQueue<>(4);
+        queue.addAll(List.of(1, 2, 3, 4));
+
+        assertTrue(queue.removeIf(each -> each % 2 == 0));
+        assertEquals(2, queue.remainingCapacity());
+        Iterator<Integer> iterator = queue.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(3, queue.remainingCapacity());
+        queue.clear();
+        assertEquals(4, queue.remainingCapacity());
+        queue.addAll(List.of(1, 2, 3, 4));
+        assertFalse(queue.offer(5));
+
+        // Growing the capacity wakes every blocked producer
+        CountDownLatch put = new CountDownLatch(2);
+        List<Thread> producers = List.of(6, 7).stream()
+                .map(each -> Thread.ofPlatform().start(() -> {
+                    try {
+                        queue.put(each);
+                        put.countDown();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }))
+                .toList();
+        assertFalse(put.await(50, TimeUnit.MILLISECONDS));
+        queue.setCapacity(6);
+        assertTrue(put.await(5, TimeUnit.SECONDS));
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(6, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+    }
+
+    @Test
+    void testPoolsAreRegisteredAndResized() {
+        ThreadPoolExecutor first = ThreadPoolBuilder.builder()
+                .threadFactory("registry-test-", true)
+                .corePoolSize(2)
+                .maximumPoolSize(4)
+                .queueCapacity(8)
+                .build();
+        ThreadPoolExecutor second = ThreadPoolBuilder.builder()
+                .threadFactory("registry-test-", true)
+                .eager()
+                .build();
+        try {
+            assertSame(first, ThreadPoolRegistry.get("registry-test").orElseThrow());
+            assertSame(second, ThreadPoolRegistry.get("registry-test-2").orElseThrow());
+            assertInstanceOf(EagerThreadPoolExecutor.class, second);
+
+            ThreadPoolRegistry.configure(Map.of("registry-test", ThreadPoolSettings.builder()
+                    .corePoolSize(6)
+                    .maximumPoolSize(10)
+                    .keepAliveTime(1_000L)
+                    .queueCapacity(16)
+                    .build()));
+            ThreadPoolSnapshot snapshot = ThreadPoolRegistry.snapshot(first);
+            assertEquals(6, snapshot.getCorePoolSize());
+            assertEquals(10, snapshot.getMaximumPoolSize());
+            assertEquals(1_000L, snapshot.getKeepAliveTime());
+            assertEquals(16, snapshot.getQueueCapacity());
+
+            assertTrue(ThreadPoolRegistry.update("registry-test", ThreadPoolSettings.builder().maximumPoolSize(1).corePoolSize(1).build()));
+            assertEquals(1, first.getCorePoolSize());
+            assertEquals(1, first.getMaximumPoolSize());
+            assertThrows(IllegalArgumentException.class,
+                    () -> ThreadPoolRegistry.update("registry-test", ThreadPoolSettings.builder().corePoolSize(2).build()));
+            assertFalse(ThreadPoolRegistry.update("registry-test-missing", new ThreadPoolSettings()));
+        } finally {
+            ThreadPoolRegistry.configure(Map.of());
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+        assertFalse(ThreadPoolRegistry.getAll().containsKey("registry-test"));
+
+        // The name of a pool that was shut down is reused
+        ThreadPoolExecutor third = ThreadPoolBuilder.builder().threadFactory("registry-test-", true).build();
+        try {
+            assertNotSame(first, third);
+            assertSame(third, ThreadPoolRegistry.get("registry-test").orElseThrow());
+        } finally {
+            third.shutdownNow();
+        }
+    }
+}
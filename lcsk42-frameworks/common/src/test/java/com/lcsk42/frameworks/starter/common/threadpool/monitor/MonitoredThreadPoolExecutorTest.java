@@ -0,0 +1,179 @@
+package com.lcsk42.frameworks.starter.common.threadpool.monitor;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MonitoredThreadPoolExecutorTest {
+
+    @Test
+    void testRecordsTimingsAndRejections() throws InterruptedException {
+        ThreadPoolExecutor executor = ThreadPoolBuilder.builder()
+                .threadFactory("monitor-test-", true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .queueCapacity(1)
+                .build();
+        MonitoredThreadPoolExecutor monitored = assertInstanceOf(MonitoredThreadPoolExecutor.class, executor);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        try {
+            Runnable blocking = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            };
+            executor.execute(blocking);
+            Runnable queued = done::countDown;
+            executor.execute(queued);
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+            }));
+            assertEquals(1, monitored.getStats().getRejectedCount());
+            assertEquals(1, monitored.getStats().getRejectedCounts().get("AbortPolicy").get());
+
+            // Queued tasks are handed back as submitted
+            assertTrue(executor.remove(queued));
+            executor.execute(queued);
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, monitored.getStats().getQueueWaitCount());
+        assertEquals(2, monitored.getStats().getExecutionCount());
+        assertTrue(monitored.getStats().getExecutionNanos() > 0);
+    }
+
+    @Test
+    void testPurgeAndRejectionSeeTasksAsSubmitted() throws InterruptedException {
+        List<Runnable> rejected = new ArrayList<>();
+        ThreadPoolExecutor executor = ThreadPoolBuilder.builder()
+                .threadFactory("monitor-purge-", true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .queueCapacity(2)
+                .rejected((r, e) -> rejected.add(r))
+                .build();
+        // A decorator changing every task, as a bound request context does
+        TaskDecorator decorator = runnable -> runnable::run;
+        TaskDecoratorRegistry.register(decorator);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<?> cancelled = executor.submit(() -> {
+            });
+            Runnable queued = () -> {
+            };
+            executor.execute(queued);
+            Runnable overflow = () -> {
+            };
+            executor.execute(overflow);
+            assertEquals(List.of(overflow), rejected);
+
+            assertTrue(cancelled.cancel(false));
+            executor.purge();
+            assertEquals(1, executor.getQueue().size());
+            assertTrue(executor.remove(queued));
+            assertTrue(executor.getQueue().isEmpty());
+        } finally {
+            TaskDecoratorRegistry.unregister(decorator);
+            release.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testShutdownNowReturnsSubmittedTasks() {
+        ThreadPoolExecutor executor = ThreadPoolBuilder.builder()
+                .threadFactory("monitor-shutdown-", true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Runnable queued = () -> {
+        };
+        executor.execute(queued);
+        List<Runnable> pending = executor.shutdownNow();
+        assertEquals(1, pending.size());
+        assertSame(queued, pending.getFirst());
+    }
+
+    @Test
+    void testMetersAndAlarms() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolExecutor executor = ThreadPoolBuilder.builder()
+                .threadFactory("monitor-alarm-", true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .build();
+        List<ThreadPoolAlarmEvent> events = new ArrayList<>();
+        ThreadPoolAlarmMonitor monitor = new ThreadPoolAlarmMonitor(event -> events.add((ThreadPoolAlarmEvent) event), 100, 0, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ThreadPoolMeterBinder binder = new ThreadPoolMeterBinder()) {
+            binder.bindTo(meterRegistry);
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.get("threadpool.active").tag("name", "monitor-alarm").gauge().value());
+            assertEquals(1.0, meterRegistry.get("threadpool.queue.wait").tag("name", "monitor-alarm")
+                    .functionTimer().count());
+
+            monitor.check();
+            assertTrue(events.stream().noneMatch(event -> "monitor-alarm".equals(event.getPoolName())));
+            monitor.check();
+            monitor.check();
+            List<ThreadPoolAlarmEvent> fired = events.stream()
+                    .filter(event -> "monitor-alarm".equals(event.getPoolName()))
+                    .toList();
+            assertEquals(1, fired.size());
+            assertEquals(ThreadPoolAlarmEvent.Type.ACTIVE_THREADS, fired.getFirst().getType());
+            assertEquals(100, fired.getFirst().getUtilization());
+        } finally {
+            release.countDown();
+            monitor.close();
+            executor.shutdownNow();
+        }
+    }
+}
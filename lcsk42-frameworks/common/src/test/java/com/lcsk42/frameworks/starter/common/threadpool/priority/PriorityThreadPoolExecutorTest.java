@@ -0,0 +1,104 @@
+package com.lcsk42.frameworks.starter.common.threadpool.priority;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PriorityThreadPoolExecutorTest {
+
+    private static PriorityThreadPoolExecutor singleThreadPool(String name, long agingMillis) {
+        ThreadPoolExecutor executor = ThreadPoolBuilder.builder()
+                .threadFactory(name, true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .priority(agingMillis)
+                .build();
+        return assertInstanceOf(PriorityThreadPoolExecutor.class, executor);
+    }
+
+    private static CountDownLatch block(PriorityThreadPoolExecutor executor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    @Test
+    void testQueuedTasksRunByPriority() throws Exception {
+        PriorityThreadPoolExecutor executor = singleThreadPool("priority-order-", 60_000L);
+        List<String> order = new CopyOnWriteArrayList<>();
+        try {
+            CountDownLatch release = block(executor);
+            executor.execute(() -> order.add("default"));
+            executor.execute(() -> order.add("low"), -5);
+            executor.execute(() -> order.add("high"), 10);
+            Future<?> last = executor.submit(PriorityTask.of(5, () -> order.add("medium")));
+            release.countDown();
+            last.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of("high", "medium", "default", "low"), order);
+    }
+
+    @Test
+    void testWaitingTasksAge() throws Exception {
+        PriorityThreadPoolExecutor executor = singleThreadPool("priority-aging-", 1L);
+        List<String> order = new CopyOnWriteArrayList<>();
+        try {
+            CountDownLatch release = block(executor);
+            executor.execute(() -> order.add("old"), 0);
+            // Waiting 50 ms is worth 50 levels, more than the newcomer's head start
+            Thread.sleep(50);
+            executor.execute(() -> order.add("new"), 10);
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of("old", "new"), order);
+    }
+
+    @Test
+    void testExpiredTasksAreDropped() throws Exception {
+        PriorityThreadPoolExecutor executor = singleThreadPool("priority-deadline-", 1_000L);
+        List<String> order = new CopyOnWriteArrayList<>();
+        try {
+            CountDownLatch release = block(executor);
+            Future<String> expiring = executor.submit(() -> "late", 10, Duration.ofMillis(10));
+            executor.execute(PriorityTask.of(0, Duration.ofMillis(10), () -> order.add("expired")));
+            executor.execute(PriorityTask.of(0, Duration.ofMinutes(1), () -> order.add("in time")));
+            Thread.sleep(50);
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(expiring.isCancelled());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of("in time"), order);
+        assertEquals(2, executor.getPriorityQueue().getExpiredCount());
+    }
+}
@@ -0,0 +1,233 @@
+package com.lcsk42.frameworks.starter.common.threadpool.spill;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.SpillRetryPolicyBuilder;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpillRetryPolicyTest {
+
+    private static final AtomicInteger JOURNALED_RUNS = new AtomicInteger();
+
+    private static final Queue<String> JOURNALED_THREADS = new ConcurrentLinkedQueue<>();
+
+    private static ThreadPoolExecutor singleThreadPool(String name, SpillRetryPolicy policy) {
+        return ThreadPoolBuilder.builder()
+                .threadFactory(name, true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .queueCapacity(1)
+                .rejected(policy)
+                .build();
+    }
+
+    private static Runnable awaiting(CountDownLatch release) {
+        return () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    void testRejectedTasksRunOnceCapacityFreesUp() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        try (SpillRetryPolicy policy = SpillRetryPolicyBuilder.builder().capacity(2).backoff(5, 20).maxRetries(100).build()) {
+            ThreadPoolExecutor executor = singleThreadPool("spill-test-", policy);
+            try {
+                executor.execute(awaiting(release));
+                executor.execute(done::countDown);
+                // Pool and queue are full, these are spilled
+                executor.execute(done::countDown);
+                executor.execute(done::countDown);
+                assertEquals(2, policy.getSpillDepth());
+                // Spill queue is full as well, the fallback aborts
+                assertThrows(RejectedExecutionException.class, () -> executor.execute(done::countDown));
+                assertEquals(1, policy.getDroppedCount());
+
+                release.countDown();
+                assertTrue(done.await(5, TimeUnit.SECONDS));
+                assertEquals(2, policy.getSpilledCount());
+                assertTrue(policy.getRetryCount() >= 2);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testTasksOutOfRetriesAreDropped() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        try (SpillRetryPolicy policy = SpillRetryPolicyBuilder.builder().backoff(1, 1).maxRetries(2).build()) {
+            ThreadPoolExecutor executor = singleThreadPool("spill-drop-", policy);
+            try {
+                executor.execute(awaiting(release));
+                executor.execute(() -> {
+                });
+                Future<?> future = executor.submit(() -> {
+                });
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!future.isCancelled() && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                assertTrue(future.isCancelled());
+                assertEquals(1, policy.getDroppedCount());
+                assertEquals(2, policy.getRetryCount());
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testOverflowIsJournaled(@TempDir Path directory) throws InterruptedException {
+        JOURNALED_RUNS.set(0);
+        CountDownLatch release = new CountDownLatch(1);
+        try (SpillRetryPolicy policy = SpillRetryPolicyBuilder.builder()
+                .capacity(1)
+                // Long enough that the spilled task is not retried before the journal is checked
+                .backoff(200, 200)
+                .maxRetries(100)
+                .journal(directory, JournaledTask.class.getName())
+                .build()) {
+            ThreadPoolExecutor executor = singleThreadPool("spill-journal-", policy);
+            try {
+                executor.execute(awaiting(release));
+                executor.execute(new JournaledTask());
+                executor.execute(new JournaledTask());
+                executor.execute(new JournaledTask());
+                executor.execute(new JournaledTask());
+                assertEquals(1, policy.getSpillDepth());
+                assertEquals(2, policy.getJournalSize());
+
+                release.countDown();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (JOURNALED_RUNS.get() < 4 && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                assertEquals(4, JOURNALED_RUNS.get());
+                assertEquals(0, policy.getJournalSize());
+                assertEquals(0, policy.getDroppedCount());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testJournaledTasksReturnToTheirPool(@TempDir Path directory) throws InterruptedException {
+        JOURNALED_THREADS.clear();
+        CountDownLatch release = new CountDownLatch(1);
+        try (SpillRetryPolicy policy = SpillRetryPolicyBuilder.builder()
+                .capacity(1)
+                .backoff(200, 200)
+                .maxRetries(100)
+                .journal(directory, JournaledTask.class.getName())
+                .build()) {
+            ThreadPoolExecutor first = singleThreadPool("spill-first-", policy);
+            ThreadPoolExecutor second = singleThreadPool("spill-second-", policy);
+            try {
+                first.execute(awaiting(release));
+                first.execute(awaiting(release));
+                second.execute(awaiting(release));
+                second.execute(awaiting(release));
+                // One task fills the spill queue, the rest is journaled with its pool
+                first.execute(new JournaledTask());
+                first.execute(new JournaledTask());
+                second.execute(new JournaledTask());
+                assertEquals(2, policy.getJournalSize());
+
+                release.countDown();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (JOURNALED_THREADS.size() < 3 && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                assertEquals(2, JOURNALED_THREADS.stream().filter(name -> name.startsWith("spill-first-")).count());
+                assertEquals(1, JOURNALED_THREADS.stream().filter(name -> name.startsWith("spill-second-")).count());
+            } finally {
+                first.shutdownNow();
+                second.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testJournalIsResumedAfterRestart(@TempDir Path directory) throws InterruptedException {
+        JOURNALED_THREADS.clear();
+        FileSpillJournal previousRun = new FileSpillJournal(directory, List.of(JournaledTask.class.getName()));
+        assertTrue(previousRun.append("spill-resume", new JournaledTask()));
+
+        try (SpillRetryPolicy policy = SpillRetryPolicyBuilder.builder()
+                .journal(directory, JournaledTask.class.getName())
+                .build()) {
+            // Nothing is read back before the pools are up
+            Thread.sleep(250);
+            assertEquals(1, policy.getJournalSize());
+
+            ThreadPoolExecutor executor = singleThreadPool("spill-resume-", policy);
+            try {
+                policy.resumeJournal();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (JOURNALED_THREADS.isEmpty() && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                assertEquals(1, JOURNALED_THREADS.size());
+                assertTrue(JOURNALED_THREADS.peek().startsWith("spill-resume-"));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testJournalOnlyReadsAllowedClasses(@TempDir Path directory) {
+        FileSpillJournal journal = new FileSpillJournal(directory, List.of(JournaledTask.class.getName()));
+        assertTrue(journal.append("pool", new JournaledTask()));
+        assertTrue(journal.append("pool", new ForeignTask()));
+
+        List<SpillJournal.Entry> entries = journal.poll(10);
+        assertEquals(1, entries.size());
+        assertEquals("pool", entries.get(0).pool());
+        assertInstanceOf(JournaledTask.class, entries.get(0).task());
+        assertEquals(0, journal.size());
+
+        assertThrows(IllegalArgumentException.class, () -> new FileSpillJournal(directory, List.of()));
+    }
+
+    private static final class JournaledTask implements Runnable, Serializable {
+
+        @Override
+        public void run() {
+            JOURNALED_RUNS.incrementAndGet();
+            JOURNALED_THREADS.add(Thread.currentThread().getName());
+        }
+    }
+
+    private static final class ForeignTask implements Runnable, Serializable {
+
+        @Override
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.lcsk42.frameworks.starter.common.threadpool.timer;
+
+import com.lcsk42.frameworks.starter.common.util.ThreadUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelSchedulerTest {
+
+    @Test
+    void testTimersFireInOrderAndNeverEarly() throws InterruptedException {
+        // A tiny wheel, so the longer delays cascade through several levels
+        try (TimingWheelScheduler scheduler = new TimingWheelScheduler(1, 4, Runnable::run, "wheel-test")) {
+            long[] delays = {150, 3, 70, 0, 20, 300, 45};
+            List<Long> fired = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(delays.length);
+            long start = System.nanoTime();
+            for (long delay : delays) {
+                scheduler.schedule(() -> {
+                    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    assertTrue(elapsed >= delay, "Fired after " + elapsed + " ms instead of " + delay);
+                    fired.add(delay);
+                    done.countDown();
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(0L, 3L, 20L, 45L, 70L, 150L, 300L), fired);
+            assertEquals(0, scheduler.getPendingCount());
+        }
+    }
+
+    @Test
+    void testCancelledTimersDoNotFire() throws InterruptedException {
+        try (TimingWheelScheduler scheduler = new TimingWheelScheduler(1, 8, Runnable::run, "wheel-test")) {
+            AtomicInteger runs = new AtomicInteger();
+            List<WheelTimeout> timeouts = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                timeouts.add(scheduler.schedule(runs::incrementAndGet, 20 + i % 50, TimeUnit.MILLISECONDS));
+            }
+            for (int i = 0; i < timeouts.size(); i += 2) {
+                assertTrue(timeouts.get(i).cancel());
+            }
+            assertEquals(500, scheduler.getPendingCount());
+            CountDownLatch done = new CountDownLatch(1);
+            scheduler.schedule(done::countDown, 200, TimeUnit.MILLISECONDS);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(500, runs.get());
+            assertTrue(timeouts.get(1).isExpired());
+            assertFalse(timeouts.get(0).cancel(), "Cancelling twice has no effect");
+        }
+    }
+
+    @Test
+    void testThreadUtilScheduleRunsOnGlobalPool() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        ThreadUtil.schedule(() -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        }, 20, TimeUnit.MILLISECONDS);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(threads.get(0).startsWith("timing-wheel"));
+    }
+}
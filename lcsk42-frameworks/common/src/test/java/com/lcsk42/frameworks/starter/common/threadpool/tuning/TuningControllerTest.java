@@ -0,0 +1,63 @@
+package com.lcsk42.frameworks.starter.common.threadpool.tuning;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TuningControllerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static TuningController.Sample sample(long completed, long runMillisPerTask, int queueGrowth) {
+        double runNanos = completed * (double) TimeUnit.MILLISECONDS.toNanos(runMillisPerTask);
+        return new TuningController.Sample(completed, runNanos, 0D, queueGrowth, SECOND);
+    }
+
+    @Test
+    public void testConvergesToLittlesLawEstimateInDampedSteps() {
+        TuningController controller = new TuningController(1, 100, 0);
+        // 100 tasks per second holding a thread for 100 ms need 10 threads, 12 with headroom
+        int size = 4;
+        TuningController.Decision decision = controller.observe(sample(100, 100, 0), size);
+        assertNotNull(decision);
+        assertEquals(8, decision.size(), "Each change covers half the distance");
+        size = decision.size();
+        while ((decision = controller.observe(sample(100, 100, 0), size)) != null) {
+            size = decision.size();
+        }
+        // One thread short of 12 is inside the dead band
+        assertEquals(11, size);
+        assertNull(controller.observe(sample(100, 100, 0), size), "Stays put once converged");
+    }
+
+    @Test
+    public void testUndoesGrowthThatLowersThroughput() {
+        TuningController controller = new TuningController(1, 100, 0);
+        TuningController.Decision decision = controller.observe(sample(100, 100, 0), 4);
+        assertNotNull(decision);
+        assertEquals(8, decision.size());
+        // More threads made things slower, e.g. CPU-bound tasks contending for cores
+        decision = controller.observe(sample(60, 100, 0), 8);
+        assertNotNull(decision);
+        assertEquals(4, decision.size());
+    }
+
+    @Test
+    public void testRespectsBoundsCooldownAndIdlePools() {
+        TuningController controller = new TuningController(2, 6, 1);
+        assertNull(controller.observe(sample(0, 0, 0), 4), "No completed task, no decision");
+        TuningController.Decision decision = controller.observe(sample(100, 100, 50), 4);
+        assertNotNull(decision);
+        assertEquals(5, decision.size());
+        assertNull(controller.observe(sample(100, 100, 50), 5), "Cool-down after a change");
+        decision = controller.observe(sample(100, 100, 50), 5);
+        assertNotNull(decision);
+        assertEquals(6, decision.size(), "Capped at the maximum");
+        assertNull(controller.observe(sample(100, 100, 50), 6));
+        assertNull(controller.observe(sample(100, 100, 50), 6));
+    }
+}
@@ -0,0 +1,75 @@
+package com.lcsk42.frameworks.starter.common.threadpool.virtual;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadExecutorTest {
+
+    @Test
+    void testRunsOnNamedVirtualThreads() throws Exception {
+        try (VirtualThreadExecutor executor = ThreadPoolBuilder.virtual().threadFactory("vt-test").build()) {
+            Future<Thread> thread = executor.submit(Thread::currentThread);
+            assertTrue(thread.get().isVirtual());
+            assertTrue(thread.get().getName().startsWith("vt-test-"));
+        }
+    }
+
+    @Test
+    void testConcurrencyIsLimited() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+        try (VirtualThreadExecutor executor = ThreadPoolBuilder.virtual()
+                .threadFactory("vt-limit")
+                .maxConcurrency(4)
+                .build()) {
+            for (int i = 0; i < 200; i++) {
+                executor.execute(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        }
+        assertTrue(peak.get() <= 4);
+    }
+
+    @Test
+    void testPendingTasksAreBounded() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        try (VirtualThreadExecutor executor = ThreadPoolBuilder.virtual()
+                .threadFactory("vt-pending")
+                .maxConcurrency(1)
+                .maxPending(2)
+                .build()) {
+            Runnable blocked = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            executor.execute(blocked);
+            executor.execute(blocked);
+            assertEquals(2, executor.getPendingCount());
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(blocked));
+            release.countDown();
+        }
+    }
+}
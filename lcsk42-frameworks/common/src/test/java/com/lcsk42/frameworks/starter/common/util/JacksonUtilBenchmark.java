@@ -0,0 +1,122 @@
+package com.lcsk42.frameworks.starter.common.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link JacksonUtil} against calling a equally configured {@link ObjectMapper} directly,
+ * which resolves the root type on every call and, without Blackbird, accesses properties reflectively.
+ * <p>
+ * Run {@link #main(String[])} from the IDE or with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonUtilBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .addModule(new SimpleModule()
+                    .addSerializer(Long.class, ToStringSerializer.instance)
+                    .addSerializer(Long.TYPE, ToStringSerializer.instance))
+            .build();
+
+    private final Payload payload = Payload.sample();
+
+    private final String json = JacksonUtil.toJSON(payload);
+
+    private final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public String objectMapperWrite() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public String jacksonUtilWrite() {
+        return JacksonUtil.toJSON(payload);
+    }
+
+    @Benchmark
+    public byte[] jacksonUtilWriteBytes() {
+        return JacksonUtil.toJsonBytes(payload);
+    }
+
+    @Benchmark
+    public Payload objectMapperRead() throws JsonProcessingException {
+        return objectMapper.readValue(json, Payload.class);
+    }
+
+    @Benchmark
+    public Payload jacksonUtilRead() {
+        return JacksonUtil.fromJson(json, Payload.class);
+    }
+
+    @Benchmark
+    public Payload jacksonUtilReadBytes() {
+        return JacksonUtil.fromJson(jsonBytes, Payload.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JacksonUtilBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Data
+    public static class Payload {
+
+        private Long id;
+
+        private String username;
+
+        private String email;
+
+        private Integer status;
+
+        private Boolean admin;
+
+        private Long createdAt;
+
+        private List<String> roles;
+
+        static Payload sample() {
+            Payload payload = new Payload();
+            payload.setId(1_934_000_000_000_000_000L);
+            payload.setUsername("lcsk42");
+            payload.setEmail("admin@lcsk42.com");
+            payload.setStatus(1);
+            payload.setAdmin(Boolean.TRUE);
+            payload.setCreatedAt(1_700_000_000_000L);
+            payload.setRoles(List.of("admin", "user", "auditor"));
+            return payload;
+        }
+    }
+}
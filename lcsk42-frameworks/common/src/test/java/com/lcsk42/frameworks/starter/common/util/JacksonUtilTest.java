@@ -0,0 +1,91 @@
+package com.lcsk42.frameworks.starter.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JacksonUtilTest {
+
+    @Test
+    void testArrayStreamingRoundTrip() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        JacksonUtil.writeArray(out, IntStream.range(0, 10_000).mapToObj(i -> Map.of("id", (long) i)));
+        assertFalse(closed.get());
+
+        AtomicBoolean inputClosed = new AtomicBoolean();
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray()) {
+            @Override
+            public void close() {
+                inputClosed.set(true);
+            }
+        };
+        try (Stream<Map<String, Long>> elements = JacksonUtil.streamArray(in, new TypeReference<>() {
+        })) {
+            assertEquals(49_995_000L, elements.mapToLong(element -> element.get("id")).sum());
+        }
+        assertTrue(inputClosed.get());
+    }
+
+    @Test
+    void testWriteEmptyArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtil.writeArray(out, List.of().iterator());
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+        assertEquals(0, JacksonUtil.streamArray(new ByteArrayInputStream(out.toByteArray()), Long.class).count());
+    }
+
+    @Test
+    void testFindMatchesTreeSemantics() {
+        String json = "{'a':1,'b':{'a':'x','c':{'a':null}},'d':[{'a':2.5},{'a':{'a':'hidden'}}],'e':true}";
+        assertEquals(JacksonUtil.toTree(json).findValuesAsText("a"), JacksonUtil.findText(json, "a"));
+        assertEquals("1", JacksonUtil.find(json, "a"));
+        assertEquals("true", JacksonUtil.find(json, "e"));
+        assertNull(JacksonUtil.find(json, "missing"));
+        // Stops at the first match, the malformed rest is never read
+        assertEquals("route", JacksonUtil.find("{\"tag\":\"route\",\"body\":{", "tag"));
+    }
+
+    @Test
+    void testIsJson() {
+        assertTrue(JacksonUtil.isJson("{\"a\":[1,2,{\"b\":null}]}"));
+        assertTrue(JacksonUtil.isJson("42"));
+        assertFalse(JacksonUtil.isJson("{\"a\":[1,2}"));
+        assertFalse(JacksonUtil.isJson("abc"));
+        assertFalse(JacksonUtil.isJson(" "));
+    }
+
+    @Test
+    void testExtractPointers() {
+        String json = "{\"header\":{\"type\":\"ORDER\",\"version\":2},"
+                + "\"body\":{\"items\":[{\"sku\":\"A\"},{\"sku\":\"B\",\"qty\":3}],\"note\":null},"
+                + "\"tail\":{";
+        JsonFieldExtractor extractor = JsonFieldExtractor.of("/header/type", "/body/items/1/sku", "/body/note");
+        Map<String, String> values = JacksonUtil.extract(json, extractor);
+        assertEquals(Map.of("/header/type", "ORDER", "/body/items/1/sku", "B", "/body/note", "null"), values);
+
+        // Unresolved pointers make the extractor read the whole input
+        Map<String, String> nested = JacksonUtil.extract(json + "}}", "/body/items/0", "/body/items/0/sku", "/missing");
+        assertEquals("{\"sku\":\"A\"}", nested.get("/body/items/0"));
+        assertEquals("A", nested.get("/body/items/0/sku"));
+        assertFalse(nested.containsKey("/missing"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.lcsk42.frameworks.starter.common.util;
+
+import com.lcsk42.frameworks.starter.common.context.TaskDecoratorRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadUtilTest {
+
+    private static final ThreadLocal<String> CONTEXT = new ThreadLocal<>();
+
+    @Test
+    void testInvokeAllCancelsRemainingTasksOnFailure() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Callable<String> slow = () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+            return "slow";
+        };
+        Callable<String> failing = () -> {
+            throw new IllegalStateException("backend down");
+        };
+
+        assertEquals(List.of("a", "b"), ThreadUtil.invokeAll(List.of(() -> "a", () -> "b"), Duration.ofSeconds(5)));
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> ThreadUtil.invokeAll(List.of(slow, failing), Duration.ofSeconds(5)));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        // The slow task has been interrupted and has ended by the time invokeAll returns
+        assertEquals(0, interrupted.getCount());
+        assertThrows(TimeoutException.class, () -> ThreadUtil.invokeAll(List.of(slow), Duration.ofMillis(50)));
+    }
+
+    @Test
+    void testInvokeAnyAndHedgeReturnFirstSuccess() throws Exception {
+        Callable<String> failing = () -> {
+            throw new IllegalStateException("replica down");
+        };
+        Callable<String> slow = () -> {
+            Thread.sleep(10_000);
+            return "slow";
+        };
+        assertEquals("fast", ThreadUtil.invokeAny(List.of(failing, slow, () -> "fast"), Duration.ofSeconds(5)));
+        assertThrows(ExecutionException.class, () -> ThreadUtil.invokeAny(List.of(failing, failing), Duration.ofSeconds(5)));
+
+        // The first attempt hangs, the hedged second one answers
+        AtomicInteger attempts = new AtomicInteger();
+        Callable<String> firstHangs = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                Thread.sleep(10_000);
+            }
+            return "attempt " + attempts.get();
+        };
+        long start = System.nanoTime();
+        assertEquals("attempt 2", ThreadUtil.hedge(firstHangs, Duration.ofMillis(50), 3, Duration.ofSeconds(5)));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        // Failed attempts are retried right away until the attempts run out
+        attempts.set(0);
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> ThreadUtil.hedge(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("down");
+        }, Duration.ofSeconds(1), 3, Duration.ofSeconds(5)));
+        assertEquals(3, attempts.get());
+        assertEquals(2, ex.getSuppressed().length);
+    }
+
+    @Test
+    void testTasksAfterAnEarlyOutcomeAreNotForked() throws Exception {
+        Callable<String> sleepy = () -> {
+            Thread.sleep(10_000);
+            return "sleepy";
+        };
+        Callable<String> failing = () -> {
+            throw new IllegalStateException("backend down");
+        };
+        // The first task usually decides the scope before the others are forked
+        for (int i = 0; i < 500; i++) {
+            assertEquals("fast", ThreadUtil.invokeAny(List.of(() -> "fast", sleepy, () -> "c"), Duration.ofSeconds(5)));
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> ThreadUtil.invokeAll(List.of(failing, sleepy, () -> "c"), Duration.ofSeconds(5)));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void testFanOutPropagatesContextThroughDecorators() throws Exception {
+        TaskDecorator decorator = runnable -> {
+            String value = CONTEXT.get();
+            return () -> {
+                CONTEXT.set(value);
+                try {
+                    runnable.run();
+                } finally {
+                    CONTEXT.remove();
+                }
+            };
+        };
+        TaskDecoratorRegistry.register(decorator);
+        CONTEXT.set("user-1");
+        try {
+            assertEquals(List.of("user-1", "user-1"),
+                    ThreadUtil.invokeAll(List.of(CONTEXT::get, CONTEXT::get), Duration.ofSeconds(5)));
+        } finally {
+            CONTEXT.remove();
+            TaskDecoratorRegistry.unregister(decorator);
+        }
+    }
+}
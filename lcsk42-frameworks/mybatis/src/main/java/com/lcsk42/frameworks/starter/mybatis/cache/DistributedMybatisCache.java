@@ -0,0 +1,238 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.lcsk42.frameworks.starter.base.ApplicationContextHolder;
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.util.CacheUtil;
+import com.lcsk42.frameworks.starter.mybatis.config.MybatisCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.ibatis.cache.Cache;
+import org.springframework.context.ApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis second-level cache that stores query results in {@link DistributedCache}.
+ * <p>
+ * Enable it per mapper with {@code @CacheNamespace(implementation = DistributedMybatisCache.class)} and
+ * exclude mappers again through {@code framework.mybatis.cache.excluded-namespaces}.
+ * <p>
+ * Entries are keyed by {@code prefix:namespace:version:digest}. MyBatis calls {@link #clear()} when a
+ * transaction containing a write statement of the mapper commits, which increments the namespace version
+ * so every previously cached result of that mapper becomes unreachable at once and simply expires.
+ * <p>
+ * The namespace version is kept in process for {@code framework.mybatis.cache.version-timeout}, or
+ * {@code local-timeout} when the local tier is enabled, which saves a Redis read per statement and is
+ * the upper bound on how long a flush made by another instance can go unnoticed. A version timeout of
+ * {@code 0} reads the version on every statement. When the local tier is enabled, results are also kept
+ * in process for {@code local-timeout}.
+ * <p>
+ * Without the cache starter, or before the application context is available, the cache is disabled
+ * and every statement goes to the database.
+ */
+@Slf4j
+public class DistributedMybatisCache implements Cache {
+
+    private static final String VERSION_KEY = "version";
+
+    private final String id;
+
+    private volatile Dependencies dependencies;
+
+    private volatile long localVersion;
+
+    private volatile long localVersionExpireAt;
+
+    public DistributedMybatisCache(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        Dependencies actual = dependencies();
+        if (!actual.enabled()) {
+            return;
+        }
+        try {
+            String cacheKey = cacheKey(actual, key);
+            String encoded = actual.codec().encode(value);
+            actual.distributedCache().put(cacheKey, encoded, actual.properties().getTimeout(), TimeUnit.MILLISECONDS);
+            if (actual.localTier() != null) {
+                actual.localTier().put(cacheKey, encoded);
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to cache query result of mapper [{}].", id, ex);
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        Dependencies actual = dependencies();
+        if (!actual.enabled()) {
+            return null;
+        }
+        try {
+            String cacheKey = cacheKey(actual, key);
+            String encoded = actual.localTier() == null ? null : actual.localTier().get(cacheKey);
+            if (encoded == null) {
+                encoded = actual.distributedCache().get(cacheKey, String.class);
+                if (encoded != null && actual.localTier() != null) {
+                    actual.localTier().put(cacheKey, encoded);
+                }
+            }
+            return encoded == null ? null : actual.codec().decode(encoded);
+        } catch (Exception ex) {
+            // Fall back to the database rather than failing the query
+            log.warn("Failed to read cached query result of mapper [{}].", id, ex);
+            return null;
+        }
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        Dependencies actual = dependencies();
+        if (!actual.enabled()) {
+            return null;
+        }
+        try {
+            String cacheKey = cacheKey(actual, key);
+            if (actual.localTier() != null) {
+                actual.localTier().remove(cacheKey);
+            }
+            actual.distributedCache().delete(cacheKey);
+        } catch (Exception ex) {
+            log.warn("Failed to remove cached query result of mapper [{}].", id, ex);
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        Dependencies actual = dependencies();
+        if (!actual.enabled()) {
+            return;
+        }
+        if (actual.localTier() != null) {
+            actual.localTier().clear();
+        }
+        try {
+            Long version = actual.distributedCache().increment(versionKey(actual));
+            localVersion = Objects.requireNonNullElse(version, 0L);
+            localVersionExpireAt = System.currentTimeMillis() + actual.versionTimeout();
+        } catch (Exception ex) {
+            localVersionExpireAt = 0L;
+            log.error("Failed to flush cache of mapper [{}], cached results may stay stale until they expire.", id, ex);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        try {
+            Dependencies actual = dependencies();
+            return actual.localTier() == null ? 0 : actual.localTier().size();
+        } catch (Exception ex) {
+            log.warn("Failed to read cache size of mapper [{}].", id, ex);
+            return 0;
+        }
+    }
+
+    private String cacheKey(Dependencies actual, Object key) {
+        return CacheUtil.buildKey(actual.properties().getKeyPrefix(), id, String.valueOf(currentVersion(actual)), digest(key));
+    }
+
+    private String versionKey(Dependencies actual) {
+        return CacheUtil.buildKey(actual.properties().getKeyPrefix(), id, VERSION_KEY);
+    }
+
+    private long currentVersion(Dependencies actual) {
+        if (localVersionExpireAt > System.currentTimeMillis()) {
+            return localVersion;
+        }
+        String version = actual.distributedCache().get(versionKey(actual), String.class);
+        long result = NumberUtils.toLong(version, 0L);
+        localVersion = result;
+        localVersionExpireAt = System.currentTimeMillis() + actual.versionTimeout();
+        return result;
+    }
+
+    /**
+     * {@link org.apache.ibatis.cache.CacheKey#toString()} contains the statement id, paging bounds,
+     * SQL and parameters, hash it to keep the Redis key short.
+     */
+    private static String digest(Object key) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(String.valueOf(key).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * MyBatis instantiates caches reflectively while parsing mappers, so Spring beans are resolved on first use.
+     * The cache properties are only registered when the cache starter is present, so their absence
+     * disables the cache before the starter's types are touched.
+     */
+    private Dependencies dependencies() {
+        Dependencies actual = dependencies;
+        if (actual == null) {
+            synchronized (this) {
+                actual = dependencies;
+                if (actual == null) {
+                    ApplicationContext context = ApplicationContextHolder.getInstance();
+                    if (context == null) {
+                        // Not memoized, the context may be available on the next statement
+                        return Dependencies.DISABLED;
+                    }
+                    actual = resolve(context);
+                    dependencies = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    private Dependencies resolve(ApplicationContext context) {
+        MybatisCacheProperties properties = context.getBeanProvider(MybatisCacheProperties.class).getIfAvailable();
+        if (properties == null) {
+            log.warn("Cache of mapper [{}] is disabled, the cache starter is not configured.", id);
+            return Dependencies.DISABLED;
+        }
+        DistributedCache distributedCache = context.getBeanProvider(DistributedCache.class).getIfAvailable();
+        MybatisCacheCodec codec = context.getBeanProvider(MybatisCacheCodec.class).getIfAvailable();
+        if (distributedCache == null || codec == null) {
+            log.warn("Cache of mapper [{}] is disabled, no DistributedCache or MybatisCacheCodec bean.", id);
+            return Dependencies.DISABLED;
+        }
+        boolean enabled = Boolean.TRUE.equals(properties.getEnabled())
+                && !properties.getExcludedNamespaces().contains(id)
+                && StringUtils.isNotBlank(properties.getKeyPrefix());
+        boolean localEnabled = Boolean.TRUE.equals(properties.getLocalEnabled());
+        LocalCacheTier localTier = localEnabled
+                ? new LocalCacheTier(properties.getLocalMaximumSize(), properties.getLocalTimeout())
+                : null;
+        long versionTimeout = localEnabled ? properties.getLocalTimeout() : properties.getVersionTimeout();
+        return new Dependencies(distributedCache, codec, properties, localTier, versionTimeout, enabled);
+    }
+
+    private record Dependencies(DistributedCache distributedCache,
+                                MybatisCacheCodec codec,
+                                MybatisCacheProperties properties,
+                                LocalCacheTier localTier,
+                                long versionTimeout,
+                                boolean enabled) {
+
+        private static final Dependencies DISABLED = new Dependencies(null, null, null, null, 0L, false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the primary key entity cache of {@link com.lcsk42.frameworks.starter.mybatis.service.impl.ServiceImpl}.
+ * <p>
+ * Place it on a service implementation whose entity uses a numeric id. {@code getById} and
+ * {@code listByIds} then read through a local map and the distributed cache, and id based writes
+ * ({@code updateById}, {@code removeById}, {@code saveOrUpdate} and their batch variants) evict the
+ * affected ids once the surrounding transaction commits.
+ * <p>
+ * Writes issued through wrappers ({@code update(wrapper)}, {@code lambdaUpdate()}, {@code remove(wrapper)})
+ * cannot be mapped to ids and must call {@code evictEntityCache} explicitly.
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityCache {
+
+    /**
+     * Key prefix in the distributed cache, defaults to {@code entity:<table name>}.
+     */
+    String keyPrefix() default "";
+
+    /**
+     * Expiration (milliseconds) of entities in the distributed cache.
+     */
+    long timeout() default 30 * 60 * 1_000L;
+
+    /**
+     * Number of slots of the local map, rounded up to a power of two, {@code 0} disables the local tier.
+     */
+    int localCapacity() default 1_024;
+
+    /**
+     * Expiration (milliseconds) of entities in the local map, bounding how long other instances' writes stay unseen.
+     */
+    long localTimeout() default 5_000L;
+
+    /**
+     * Expiration (milliseconds) of the marker an eviction leaves in the distributed cache. While it lives,
+     * loads that started before the eviction cannot write their possibly stale row back, so it should exceed
+     * the slowest expected {@code getById} / {@code listByIds} query.
+     */
+    long tombstoneTimeout() default 10_000L;
+}
@@ -0,0 +1,217 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.util.CacheUtil;
+import com.lcsk42.frameworks.starter.common.util.JacksonUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Two-tier primary key cache used by {@link com.lcsk42.frameworks.starter.mybatis.service.impl.ServiceImpl}
+ * for services annotated with {@link EntityCache}.
+ * <p>
+ * Entities are stored as JSON in both tiers and deserialized on every read, so callers always receive
+ * their own instance and may modify it freely. Failures of the distributed cache are logged and treated
+ * as misses, the database remains the source of truth.
+ * <p>
+ * Loaded rows are written back with set-if-absent, and an eviction replaces the key with a short-lived
+ * tombstone instead of deleting it. A load that read the row before a concurrent update therefore finds
+ * the tombstone and leaves the cache empty rather than reinstating the old row. The protection lasts
+ * {@link EntityCache#tombstoneTimeout()}; a load slower than that can still write a stale row back, which
+ * then lives until {@link EntityCache#timeout()}.
+ */
+@Slf4j
+public class EntityCacheSupport<T> {
+
+    private static final String KEY_PREFIX = "entity";
+
+    /**
+     * Value left behind by {@link #evict(Collection)}, never valid entity JSON.
+     */
+    static final String TOMBSTONE = "<evicted>";
+
+    private final Class<T> entityClass;
+
+    private final String keyPrefix;
+
+    private final long timeout;
+
+    private final long tombstoneTimeout;
+
+    private final DistributedCache distributedCache;
+
+    private final LongKeyedLocalCache localCache;
+
+    public EntityCacheSupport(Class<T> entityClass, EntityCache entityCache, DistributedCache distributedCache) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        this.entityClass = entityClass;
+        this.keyPrefix = StringUtils.isNotBlank(entityCache.keyPrefix())
+                ? entityCache.keyPrefix()
+                : CacheUtil.buildKey(KEY_PREFIX, tableInfo.getTableName());
+        this.timeout = entityCache.timeout();
+        this.tombstoneTimeout = entityCache.tombstoneTimeout();
+        this.distributedCache = distributedCache;
+        this.localCache = entityCache.localCapacity() > 0
+                ? new LongKeyedLocalCache(entityCache.localCapacity(), entityCache.localTimeout())
+                : null;
+    }
+
+    /**
+     * Get an entity by id, falling back to the loader and caching its result on a miss.
+     */
+    public T get(long id, LongFunction<T> loader) {
+        String value = localCache == null ? null : localCache.get(id);
+        if (value == null) {
+            value = getRemote(id);
+            if (value != null && localCache != null) {
+                localCache.put(id, value);
+            }
+        }
+        if (value != null) {
+            return JacksonUtil.fromJson(value, entityClass);
+        }
+        T entity = loader.apply(id);
+        if (entity != null) {
+            String json = JacksonUtil.toJSON(entity);
+            String key = key(id);
+            if (putRemoteIfAbsent(Map.of(key, json)).contains(key) && localCache != null) {
+                localCache.put(id, json);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Get entities by ids. Ids missing from both tiers are handed to the loader in a single call,
+     * which is expected to issue one {@code IN} query.
+     *
+     * @param ids      ids to look up, duplicates are ignored
+     * @param loader   loads the missing ids from the database
+     * @param idGetter extracts the id of a loaded entity
+     * @return found entities in the order of the requested ids
+     */
+    public List<T> list(Collection<Long> ids, Function<List<Long>, List<T>> loader, ToLongFunction<T> idGetter) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, String> cached = new HashMap<>(distinctIds.size());
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            String value = localCache == null ? null : localCache.get(id);
+            if (value != null) {
+                cached.put(id, value);
+            } else {
+                remoteIds.add(id);
+            }
+        }
+        if (!remoteIds.isEmpty()) {
+            List<String> values = multiGetRemote(remoteIds);
+            for (int i = 0; i < values.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    Long id = remoteIds.get(i);
+                    cached.put(id, value);
+                    if (localCache != null) {
+                        localCache.put(id, value);
+                    }
+                }
+            }
+        }
+        List<Long> missingIds = remoteIds.stream().filter(id -> !cached.containsKey(id)).toList();
+        Map<Long, T> loaded = new HashMap<>(missingIds.size());
+        if (!missingIds.isEmpty()) {
+            Map<String, Object> values = new HashMap<>(missingIds.size());
+            Map<String, Long> keyIds = new HashMap<>(missingIds.size());
+            for (T entity : loader.apply(missingIds)) {
+                long id = idGetter.applyAsLong(entity);
+                String key = key(id);
+                loaded.put(id, entity);
+                values.put(key, JacksonUtil.toJSON(entity));
+                keyIds.put(key, id);
+            }
+            Set<String> written = putRemoteIfAbsent(values);
+            if (localCache != null) {
+                written.forEach(key -> localCache.put(keyIds.get(key), (String) values.get(key)));
+            }
+        }
+        List<T> result = new ArrayList<>(distinctIds.size());
+        for (Long id : distinctIds) {
+            String value = cached.get(id);
+            T entity = value != null ? JacksonUtil.fromJson(value, entityClass) : loaded.get(id);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove the given ids from the local tier and replace them with tombstones in the distributed cache.
+     */
+    public void evict(Collection<Long> ids) {
+        if (localCache != null) {
+            ids.forEach(localCache::remove);
+        }
+        Map<String, String> tombstones = new HashMap<>(ids.size());
+        ids.forEach(id -> tombstones.put(key(id), TOMBSTONE));
+        try {
+            distributedCache.putAll(tombstones, tombstoneTimeout, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            log.error("Failed to evict cached {} entities {}, they may stay stale until they expire.",
+                    entityClass.getSimpleName(), ids, ex);
+        }
+    }
+
+    private String key(long id) {
+        return CacheUtil.buildKey(keyPrefix, String.valueOf(id));
+    }
+
+    private String getRemote(long id) {
+        try {
+            String value = distributedCache.get(key(id), String.class);
+            return TOMBSTONE.equals(value) ? null : value;
+        } catch (Exception ex) {
+            log.warn("Failed to read cached {} entity {}.", entityClass.getSimpleName(), id, ex);
+            return null;
+        }
+    }
+
+    private List<String> multiGetRemote(List<Long> ids) {
+        try {
+            List<String> values = distributedCache.multiGet(ids.stream().map(this::key).toList(), String.class);
+            if (values == null) {
+                return List.of();
+            }
+            return values.stream().map(value -> TOMBSTONE.equals(value) ? null : value).toList();
+        } catch (Exception ex) {
+            log.warn("Failed to read cached {} entities.", entityClass.getSimpleName(), ex);
+            return List.of();
+        }
+    }
+
+    /**
+     * @return the keys actually written, only those may be cached locally
+     */
+    private Set<String> putRemoteIfAbsent(Map<String, Object> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            return distributedCache.putAllIfAbsent(values, timeout, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            log.warn("Failed to cache {} entities.", entityClass.getSimpleName(), ex);
+            return Set.of();
+        }
+    }
+}
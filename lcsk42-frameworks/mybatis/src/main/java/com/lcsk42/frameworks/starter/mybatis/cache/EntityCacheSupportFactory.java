@@ -0,0 +1,20 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates the {@link EntityCacheSupport} of services annotated with {@link EntityCache}.
+ * <p>
+ * Registered only when the cache starter is on the classpath, so
+ * {@link com.lcsk42.frameworks.starter.mybatis.service.impl.ServiceImpl} never links against it otherwise.
+ */
+@RequiredArgsConstructor
+public class EntityCacheSupportFactory {
+
+    private final DistributedCache distributedCache;
+
+    public <T> EntityCacheSupport<T> create(Class<T> entityClass, EntityCache entityCache) {
+        return new EntityCacheSupport<>(entityClass, entityCache, distributedCache);
+    }
+}
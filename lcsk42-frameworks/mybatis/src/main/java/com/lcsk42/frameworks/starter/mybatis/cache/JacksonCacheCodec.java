@@ -0,0 +1,110 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lcsk42.frameworks.starter.common.util.JacksonUtil;
+import com.lcsk42.frameworks.starter.convention.errorcode.impl.BaseErrorCode;
+import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
+import com.lcsk42.frameworks.starter.mybatis.po.BasePO;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Default codec storing a query result as JSON through {@link JacksonUtil}, together with the class of its rows.
+ * <p>
+ * Cached values come from a shared cache, so rows are only decoded into {@link BasePO} entities, JDK value types
+ * and classes of the configured packages; other results are not cached. All rows of a result must share one class,
+ * which holds for entity queries.
+ */
+public class JacksonCacheCodec implements MybatisCacheCodec {
+
+    private static final Set<String> VALUE_TYPES = Stream.of(String.class, Boolean.class, Character.class,
+                    Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+                    BigInteger.class, BigDecimal.class,
+                    LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class)
+            .map(Class::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final List<String> allowedPackages;
+
+    /**
+     * @param allowedPackages packages whose classes may be cached besides entities and JDK value types
+     */
+    public JacksonCacheCodec(Collection<String> allowedPackages) {
+        this.allowedPackages = allowedPackages.stream()
+                .map(each -> each.endsWith(".") ? each : each + ".")
+                .toList();
+    }
+
+    /**
+     * The stored form of a result: the class of its rows, null when all rows are null, and the rows.
+     */
+    private record CachedRows(String type, List<?> rows) {
+    }
+
+    @Override
+    public String encode(Object value) {
+        Assert.isInstanceOf(List.class, value, "Only list query results can be cached");
+        List<?> rows = (List<?>) value;
+        Class<?> type = null;
+        for (Object row : rows) {
+            if (row == null) {
+                continue;
+            }
+            if (type == null) {
+                type = row.getClass();
+                Assert.isTrue(isAllowed(type), () -> "Query results of type [" + row.getClass().getName() + "] cannot be cached");
+            } else {
+                Assert.isTrue(row.getClass() == type, "Query results mixing row types cannot be cached");
+            }
+        }
+        return JacksonUtil.toJSON(new CachedRows(type == null ? null : type.getName(), rows));
+    }
+
+    @Override
+    public Object decode(String value) {
+        JsonNode cached = JacksonUtil.toTree(value);
+        JsonNode rows = cached.path("rows");
+        String typeName = cached.path("type").asText(null);
+        Class<?> type = typeName == null ? null : resolve(typeName);
+        List<Object> result = new ArrayList<>(rows.size());
+        for (JsonNode row : rows) {
+            result.add(row.isNull() ? null : JacksonUtil.convert(row, type));
+        }
+        return result;
+    }
+
+    private Class<?> resolve(String typeName) {
+        Class<?> type = load(typeName);
+        Assert.isTrue(isAllowed(type), () -> "Cached query results of type [" + typeName + "] are not allowed");
+        return type;
+    }
+
+    private boolean isAllowed(Class<?> type) {
+        String typeName = type.getName();
+        return VALUE_TYPES.contains(typeName)
+                || BasePO.class.isAssignableFrom(type)
+                || allowedPackages.stream().anyMatch(typeName::startsWith);
+    }
+
+    private static Class<?> load(String typeName) {
+        try {
+            // Not initialized: a disallowed type must not run any code
+            return Class.forName(typeName, false, ClassUtils.getDefaultClassLoader());
+        } catch (ClassNotFoundException ex) {
+            throw new ServiceException("Unknown type of cached query result: " + typeName, ex, BaseErrorCode.SERVICE_ERROR);
+        }
+    }
+}
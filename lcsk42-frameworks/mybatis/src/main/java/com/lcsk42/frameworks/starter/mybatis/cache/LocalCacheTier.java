@@ -0,0 +1,56 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small LRU map with per-entry expiration, used as the optional local tier of {@link DistributedMybatisCache}.
+ * Values are kept in encoded form so every read hands out a fresh copy.
+ */
+class LocalCacheTier {
+
+    private final long timeout;
+
+    private final Map<String, Entry> entries;
+
+    LocalCacheTier(int maximumSize, long timeout) {
+        this.timeout = timeout;
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    synchronized void put(String key, String value) {
+        entries.put(key, new Entry(value, System.currentTimeMillis() + timeout));
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(String value, long expireAt) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Direct-mapped local cache keyed by a primitive {@code long}.
+ * <p>
+ * Each id hashes to exactly one slot and a colliding put simply replaces the previous entry, so lookups
+ * are a single array read without boxing the key, locking or maintaining LRU order.
+ */
+class LongKeyedLocalCache {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicReferenceArray<Entry> table;
+
+    private final int mask;
+
+    private final long timeout;
+
+    LongKeyedLocalCache(int capacity, long timeout) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.timeout = timeout;
+    }
+
+    String get(long key) {
+        Entry entry = table.get(index(key));
+        if (entry == null || entry.key() != key || entry.expireAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    void put(long key, String value) {
+        table.set(index(key), new Entry(key, value, System.currentTimeMillis() + timeout));
+    }
+
+    void remove(long key) {
+        int index = index(key);
+        Entry entry = table.get(index);
+        if (entry != null && entry.key() == key) {
+            table.compareAndSet(index, entry, null);
+        }
+    }
+
+    /**
+     * Snowflake ids keep their entropy in the high bits and a small sequence in the low bits,
+     * so mix them before masking.
+     */
+    private int index(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> 32) & mask;
+    }
+
+    private record Entry(long key, String value, long expireAt) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+/**
+ * Converts MyBatis query results to and from the string form stored in the distributed cache.
+ * <p>
+ * Register a bean of this type to replace the default {@link JacksonCacheCodec}.
+ */
+public interface MybatisCacheCodec {
+
+    /**
+     * Encode a query result, usually a {@link java.util.List} of entities.
+     */
+    String encode(Object value);
+
+    /**
+     * Decode a value previously produced by {@link #encode(Object)}.
+     */
+    Object decode(String value);
+}
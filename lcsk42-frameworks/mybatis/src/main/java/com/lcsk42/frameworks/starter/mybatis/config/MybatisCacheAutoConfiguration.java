@@ -0,0 +1,32 @@
+package com.lcsk42.frameworks.starter.mybatis.config;
+
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.mybatis.cache.EntityCacheSupportFactory;
+import com.lcsk42.frameworks.starter.mybatis.cache.JacksonCacheCodec;
+import com.lcsk42.frameworks.starter.mybatis.cache.MybatisCacheCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Support for {@link com.lcsk42.frameworks.starter.mybatis.cache.DistributedMybatisCache} and
+ * {@link com.lcsk42.frameworks.starter.mybatis.cache.EntityCache}, active only when the cache starter
+ * is on the classpath.
+ */
+@ConditionalOnClass(DistributedCache.class)
+@EnableConfigurationProperties(MybatisCacheProperties.class)
+public class MybatisCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MybatisCacheCodec mybatisCacheCodec(MybatisCacheProperties properties) {
+        return new JacksonCacheCodec(properties.getAllowedPackages());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EntityCacheSupportFactory entityCacheSupportFactory(DistributedCache distributedCache) {
+        return new EntityCacheSupportFactory(distributedCache);
+    }
+}
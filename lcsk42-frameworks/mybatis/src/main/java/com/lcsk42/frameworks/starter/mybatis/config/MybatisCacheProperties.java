@@ -0,0 +1,60 @@
+package com.lcsk42.frameworks.starter.mybatis.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = MybatisCacheProperties.PREFIX)
+public class MybatisCacheProperties {
+
+    public static final String PREFIX = "framework.mybatis.cache";
+
+    /**
+     * Whether mappers annotated with the distributed second-level cache actually use it
+     */
+    private Boolean enabled = Boolean.TRUE;
+
+    /**
+     * Mapper namespaces (fully qualified mapper interface names) that bypass the cache
+     */
+    private Set<String> excludedNamespaces = new HashSet<>();
+
+    /**
+     * Prefix of the cache keys written to the distributed cache
+     */
+    private String keyPrefix = "mybatis_cache";
+
+    /**
+     * Expiration (milliseconds) of cached query results
+     */
+    private Long timeout = 30 * 60 * 1_000L;
+
+    /**
+     * Whether a process-local tier is placed in front of the distributed cache
+     */
+    private Boolean localEnabled = Boolean.FALSE;
+
+    /**
+     * Maximum number of entries held by the local tier of each mapper
+     */
+    private Integer localMaximumSize = 1_000;
+
+    /**
+     * Expiration (milliseconds) of local entries, which also bounds how long other instances' flushes stay unseen
+     */
+    private Long localTimeout = 1_000L;
+
+    /**
+     * Time (milliseconds) the namespace version is kept in process without the local tier, which bounds how long
+     * other instances' flushes stay unseen, 0 reads it from the distributed cache on every statement
+     */
+    private Long versionTimeout = 1_000L;
+
+    /**
+     * Packages whose classes may be cached as query result rows, besides entities and JDK value types
+     */
+    private Set<String> allowedPackages = new HashSet<>();
+}
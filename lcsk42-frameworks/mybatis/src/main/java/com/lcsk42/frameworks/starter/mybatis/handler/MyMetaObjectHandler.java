@@ -1,6 +1,7 @@
 package com.lcsk42.frameworks.starter.mybatis.handler;
 
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
 import com.lcsk42.frameworks.starter.mybatis.po.BasePO;
 import org.apache.ibatis.reflection.MetaObject;
 
@@ -10,13 +11,14 @@ public class MyMetaObjectHandler implements MetaObjectHandler {
 
     @Override
     public void insertFill(MetaObject metaObject) {
+        LocalDateTime now = TimeSourceHolder.now();
         this.strictInsertFill(metaObject, BasePO.Fields.deleted, Boolean.class, false);
-        this.strictInsertFill(metaObject, BasePO.Fields.createTime, LocalDateTime.class, LocalDateTime.now());
-        this.strictInsertFill(metaObject, BasePO.Fields.updateTime, LocalDateTime.class, LocalDateTime.now());
+        this.strictInsertFill(metaObject, BasePO.Fields.createTime, LocalDateTime.class, now);
+        this.strictInsertFill(metaObject, BasePO.Fields.updateTime, LocalDateTime.class, now);
     }
 
     @Override
     public void updateFill(MetaObject metaObject) {
-        this.strictUpdateFill(metaObject, BasePO.Fields.updateTime, LocalDateTime.class, LocalDateTime.now());
+        this.strictUpdateFill(metaObject, BasePO.Fields.updateTime, LocalDateTime.class, TimeSourceHolder.now());
     }
 }
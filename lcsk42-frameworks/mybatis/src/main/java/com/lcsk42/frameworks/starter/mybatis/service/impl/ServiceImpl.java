@@ -1,10 +1,201 @@
 package com.lcsk42.frameworks.starter.mybatis.service.impl;
 
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.lcsk42.frameworks.starter.base.ApplicationContextHolder;
+import com.lcsk42.frameworks.starter.mybatis.cache.EntityCache;
+import com.lcsk42.frameworks.starter.mybatis.cache.EntityCacheSupport;
+import com.lcsk42.frameworks.starter.mybatis.cache.EntityCacheSupportFactory;
 import com.lcsk42.frameworks.starter.mybatis.mapper.BaseMapper;
 import com.lcsk42.frameworks.starter.mybatis.po.BasePO;
 import com.lcsk42.frameworks.starter.mybatis.service.IService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Base service implementation.
+ * <p>
+ * Services annotated with {@link EntityCache} additionally cache entities by primary key,
+ * see {@link EntityCacheSupport}.
+ */
+@Slf4j
 public class ServiceImpl<M extends BaseMapper<T>, T extends BasePO>
         extends com.baomidou.mybatisplus.extension.service.impl.ServiceImpl<M, T>
         implements IService<T> {
+
+    private volatile EntityCacheSupport<T> entityCacheSupport;
+
+    private volatile boolean entityCacheResolved;
+
+    @Override
+    public T getById(Serializable id) {
+        EntityCacheSupport<T> cache = getEntityCacheSupport();
+        Long key = toLongId(id);
+        if (cache == null || key == null) {
+            return super.getById(id);
+        }
+        return cache.get(key, each -> super.getById(each));
+    }
+
+    @Override
+    public List<T> listByIds(Collection<? extends Serializable> idList) {
+        EntityCacheSupport<T> cache = getEntityCacheSupport();
+        if (cache == null || CollectionUtils.isEmpty(idList)) {
+            return super.listByIds(idList);
+        }
+        List<Long> ids = idList.stream().map(this::toLongId).toList();
+        if (ids.contains(null)) {
+            return super.listByIds(idList);
+        }
+        return cache.list(ids, missingIds -> super.listByIds(missingIds), this::getEntityId);
+    }
+
+    @Override
+    public boolean updateById(T entity) {
+        boolean result = super.updateById(entity);
+        evictEntityCache(Collections.singletonList(entity));
+        return result;
+    }
+
+    @Override
+    public boolean removeById(Serializable id) {
+        boolean result = super.removeById(id);
+        evictEntityCache(Collections.singletonList(id));
+        return result;
+    }
+
+    @Override
+    public boolean removeById(Serializable id, boolean useFill) {
+        boolean result = super.removeById(id, useFill);
+        evictEntityCache(Collections.singletonList(id));
+        return result;
+    }
+
+    @Override
+    public boolean removeById(T entity) {
+        boolean result = super.removeById(entity);
+        evictEntityCache(Collections.singletonList(entity));
+        return result;
+    }
+
+    @Override
+    public boolean removeByIds(Collection<?> list) {
+        boolean result = super.removeByIds(list);
+        evictEntityCache(list);
+        return result;
+    }
+
+    @Override
+    public boolean removeByIds(Collection<?> list, boolean useFill) {
+        boolean result = super.removeByIds(list, useFill);
+        evictEntityCache(list);
+        return result;
+    }
+
+    @Override
+    public boolean saveOrUpdate(T entity) {
+        boolean result = super.saveOrUpdate(entity);
+        evictEntityCache(Collections.singletonList(entity));
+        return result;
+    }
+
+    @Override
+    public boolean updateBatchById(Collection<T> entityList, int batchSize) {
+        boolean result = super.updateBatchById(entityList, batchSize);
+        evictEntityCache(entityList);
+        return result;
+    }
+
+    @Override
+    public boolean saveOrUpdateBatch(Collection<T> entityList, int batchSize) {
+        boolean result = super.saveOrUpdateBatch(entityList, batchSize);
+        evictEntityCache(entityList);
+        return result;
+    }
+
+    /**
+     * Evict ids or entities from the entity cache once the current transaction commits, or immediately
+     * when no transaction is active. Call it after writes issued through wrappers.
+     *
+     * @param idsOrEntities ids, entities, or a mix of both
+     */
+    protected void evictEntityCache(Collection<?> idsOrEntities) {
+        EntityCacheSupport<T> cache = getEntityCacheSupport();
+        if (cache == null || CollectionUtils.isEmpty(idsOrEntities)) {
+            return;
+        }
+        List<Long> ids = idsOrEntities.stream().map(this::toLongId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(ids);
+                }
+            });
+        } else {
+            cache.evict(ids);
+        }
+    }
+
+    private EntityCacheSupport<T> getEntityCacheSupport() {
+        if (!entityCacheResolved) {
+            synchronized (this) {
+                if (!entityCacheResolved) {
+                    EntityCache entityCache = AnnotatedElementUtils.findMergedAnnotation(getClass(), EntityCache.class);
+                    if (entityCache != null) {
+                        entityCacheSupport = createEntityCacheSupport(entityCache);
+                    }
+                    entityCacheResolved = true;
+                }
+            }
+        }
+        return entityCacheSupport;
+    }
+
+    private EntityCacheSupport<T> createEntityCacheSupport(EntityCache entityCache) {
+        EntityCacheSupportFactory factory = ApplicationContextHolder.getInstance()
+                .getBeanProvider(EntityCacheSupportFactory.class)
+                .getIfAvailable();
+        if (factory == null) {
+            log.warn("Entity cache of {} is disabled, the cache starter is not configured.", getClass().getSimpleName());
+            return null;
+        }
+        return factory.create(getEntityClass(), entityCache);
+    }
+
+    private long getEntityId(T entity) {
+        Long id = toLongId(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("Entity cache requires a numeric primary key: " + getEntityClass().getName());
+        }
+        return id;
+    }
+
+    private Long toLongId(Object idOrEntity) {
+        Object id = idOrEntity;
+        if (id != null && getEntityClass().isInstance(id)) {
+            TableInfo tableInfo = TableInfoHelper.getTableInfo(getEntityClass());
+            id = tableInfo.getPropertyValue(idOrEntity, tableInfo.getKeyProperty());
+        }
+        if (id instanceof Number number) {
+            return number.longValue();
+        }
+        if (id instanceof String string && NumberUtils.isDigits(string)) {
+            return Long.parseLong(string);
+        }
+        return null;
+    }
 }
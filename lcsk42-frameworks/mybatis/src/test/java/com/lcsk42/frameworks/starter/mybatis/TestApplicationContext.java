@@ -0,0 +1,55 @@
+package com.lcsk42.frameworks.starter.mybatis;
+
+import com.lcsk42.frameworks.starter.base.ApplicationContextHolder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Builds a plain application context from bean instances and installs it in the {@link ApplicationContextHolder},
+ * for tests of code that looks its collaborators up there.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TestApplicationContext {
+
+    private final GenericApplicationContext context = new GenericApplicationContext();
+
+    /**
+     * Start a context holding the given beans, each registered under its own class.
+     *
+     * @param beans bean instances
+     * @return the context to add further beans to
+     */
+    public static TestApplicationContext of(Object... beans) {
+        TestApplicationContext result = new TestApplicationContext();
+        for (Object bean : beans) {
+            result.register(bean);
+        }
+        return result;
+    }
+
+    /**
+     * Add a bean registered under the given type, e.g. a mock that must be found by its interface.
+     *
+     * @param type bean type
+     * @param bean bean instance
+     * @return this context
+     */
+    public <T> TestApplicationContext with(Class<T> type, T bean) {
+        context.registerBean(type, () -> bean);
+        return this;
+    }
+
+    /**
+     * Refresh the context and install it in the {@link ApplicationContextHolder}.
+     */
+    public void install() {
+        context.refresh();
+        new ApplicationContextHolder().setApplicationContext(context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void register(T bean) {
+        with((Class<T>) bean.getClass(), bean);
+    }
+}
@@ -0,0 +1,101 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.mybatis.TestApplicationContext;
+import com.lcsk42.frameworks.starter.mybatis.config.MybatisCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DistributedMybatisCacheTest {
+
+    private static final String VERSION_KEY = "mybatis_cache:test.Mapper:version";
+
+    private final DistributedCache distributedCache = mock(DistributedCache.class);
+
+    @Test
+    void missingCacheStarterDisablesCache() {
+        TestApplicationContext.of().install();
+        DistributedMybatisCache cache = new DistributedMybatisCache("test.Mapper");
+
+        assertDoesNotThrow(() -> cache.putObject("key", List.of("value")));
+        assertNull(cache.getObject("key"));
+        assertDoesNotThrow(() -> cache.removeObject("key"));
+        assertDoesNotThrow(cache::clear);
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void missingDistributedCacheDisablesCache() {
+        TestApplicationContext.of(new MybatisCacheProperties(), new JacksonCacheCodec(Set.of())).install();
+        DistributedMybatisCache cache = new DistributedMybatisCache("test.Mapper");
+
+        assertNull(cache.getObject("key"));
+        assertDoesNotThrow(() -> cache.removeObject("key"));
+    }
+
+    @Test
+    void removeObjectSurvivesRedisErrors() {
+        when(distributedCache.delete(anyString())).thenThrow(new IllegalStateException("redis down"));
+        TestApplicationContext.of(new MybatisCacheProperties(), new JacksonCacheCodec(Set.of()))
+                .with(DistributedCache.class, distributedCache)
+                .install();
+        DistributedMybatisCache cache = new DistributedMybatisCache("test.Mapper");
+
+        assertDoesNotThrow(() -> cache.removeObject("key"));
+    }
+
+    @Test
+    void versionIsCachedWithoutLocalTier() {
+        TestApplicationContext.of(new MybatisCacheProperties(), new JacksonCacheCodec(Set.of()))
+                .with(DistributedCache.class, distributedCache)
+                .install();
+        DistributedMybatisCache cache = new DistributedMybatisCache("test.Mapper");
+
+        cache.getObject("first");
+        cache.getObject("second");
+
+        verify(distributedCache, times(1)).get(eq(VERSION_KEY), eq(String.class));
+    }
+
+    @Test
+    void zeroVersionTimeoutReadsVersionEveryTime() {
+        MybatisCacheProperties properties = new MybatisCacheProperties();
+        properties.setVersionTimeout(0L);
+        TestApplicationContext.of(properties, new JacksonCacheCodec(Set.of()))
+                .with(DistributedCache.class, distributedCache)
+                .install();
+        DistributedMybatisCache cache = new DistributedMybatisCache("test.Mapper");
+
+        cache.getObject("first");
+        cache.getObject("second");
+
+        verify(distributedCache, times(2)).get(eq(VERSION_KEY), eq(String.class));
+    }
+
+    @Test
+    void disabledNamespaceDoesNotTouchRedis() {
+        MybatisCacheProperties properties = new MybatisCacheProperties();
+        properties.getExcludedNamespaces().add("test.Mapper");
+        TestApplicationContext.of(properties, new JacksonCacheCodec(Set.of()))
+                .with(DistributedCache.class, distributedCache)
+                .install();
+        DistributedMybatisCache cache = new DistributedMybatisCache("test.Mapper");
+
+        cache.putObject("key", List.of("value"));
+        assertNull(cache.getObject("key"));
+        verifyNoInteractions(distributedCache);
+    }
+}
@@ -0,0 +1,144 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityCacheSupportTest {
+
+    private static final String KEY = "item:1";
+
+    private final Map<String, String> remote = new ConcurrentHashMap<>();
+
+    private final DistributedCache distributedCache = mapBackedCache(remote);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        private Long id;
+
+        private String name;
+    }
+
+    @EntityCache(keyPrefix = "item", localCapacity = 0)
+    private static class RemoteOnly {
+    }
+
+    @EntityCache(keyPrefix = "item")
+    private static class TwoTier {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DistributedCache mapBackedCache(Map<String, String> remote) {
+        DistributedCache cache = mock(DistributedCache.class);
+        when(cache.get(anyString(), eq(String.class))).thenAnswer(invocation -> remote.get(invocation.<String>getArgument(0)));
+        when(cache.multiGet(any(), eq(String.class))).thenAnswer(invocation -> {
+            List<String> values = new ArrayList<>();
+            invocation.<Collection<String>>getArgument(0).forEach(key -> values.add(remote.get(key)));
+            return values;
+        });
+        when(cache.putAllIfAbsent(anyMap(), anyLong(), any())).thenAnswer(invocation -> {
+            Set<String> written = new HashSet<>();
+            invocation.<Map<String, ?>>getArgument(0).forEach((key, value) -> {
+                if (remote.putIfAbsent(key, (String) value) == null) {
+                    written.add(key);
+                }
+            });
+            return written;
+        });
+        doAnswer(invocation -> {
+            invocation.<Map<String, ?>>getArgument(0).forEach((key, value) -> remote.put(key, (String) value));
+            return null;
+        }).when(cache).putAll(anyMap(), anyLong(), any());
+        return cache;
+    }
+
+    private EntityCacheSupport<Item> support(Class<?> annotated) {
+        return new EntityCacheSupport<>(Item.class, annotated.getAnnotation(EntityCache.class), distributedCache);
+    }
+
+    @Test
+    void getLoadsOnceAndServesFromCache() {
+        EntityCacheSupport<Item> support = support(RemoteOnly.class);
+        AtomicInteger loads = new AtomicInteger();
+
+        Item first = support.get(1L, id -> {
+            loads.incrementAndGet();
+            return new Item(id, "a");
+        });
+        Item second = support.get(1L, id -> {
+            loads.incrementAndGet();
+            return new Item(id, "b");
+        });
+
+        assertEquals("a", first.getName());
+        assertEquals("a", second.getName());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictDuringLoadKeepsStaleRowOutOfCache() {
+        EntityCacheSupport<Item> support = support(TwoTier.class);
+
+        // The loader read the old row, then a concurrent update committed and evicted it
+        Item stale = support.get(1L, id -> {
+            support.evict(List.of(id));
+            return new Item(id, "old");
+        });
+
+        assertEquals("old", stale.getName());
+        assertEquals(EntityCacheSupport.TOMBSTONE, remote.get(KEY));
+        assertEquals("new", support.get(1L, id -> new Item(id, "new")).getName());
+    }
+
+    @Test
+    void evictDuringListLoadKeepsStaleRowOutOfCache() {
+        EntityCacheSupport<Item> support = support(TwoTier.class);
+
+        support.list(List.of(1L, 2L), ids -> {
+            support.evict(List.of(1L));
+            return ids.stream().map(id -> new Item(id, "old")).toList();
+        }, Item::getId);
+
+        assertEquals(EntityCacheSupport.TOMBSTONE, remote.get(KEY));
+        List<Item> items = support.list(List.of(1L, 2L),
+                ids -> ids.stream().map(id -> new Item(id, "new")).toList(), Item::getId);
+        assertEquals(List.of(new Item(1L, "new"), new Item(2L, "old")), items);
+    }
+
+    @Test
+    void failedRemoteWriteSkipsLocalTier() {
+        when(distributedCache.putAllIfAbsent(anyMap(), anyLong(), any())).thenThrow(new IllegalStateException("redis down"));
+        EntityCacheSupport<Item> support = support(TwoTier.class);
+        AtomicInteger loads = new AtomicInteger();
+
+        support.get(1L, id -> new Item(id, "a" + loads.incrementAndGet()));
+        Item second = support.get(1L, id -> new Item(id, "a" + loads.incrementAndGet()));
+
+        assertEquals("a2", second.getName());
+        assertEquals(2, loads.get());
+    }
+}
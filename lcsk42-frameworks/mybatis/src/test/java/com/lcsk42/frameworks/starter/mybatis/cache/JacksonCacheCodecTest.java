@@ -0,0 +1,57 @@
+package com.lcsk42.frameworks.starter.mybatis.cache;
+
+import com.lcsk42.frameworks.starter.mybatis.po.BasePO;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonCacheCodecTest {
+
+    private final JacksonCacheCodec codec = new JacksonCacheCodec(Set.of());
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Item extends BasePO {
+
+        private Long id;
+
+        private String name;
+    }
+
+    private static Item item(long id, String name) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setCreateTime(LocalDateTime.of(2026, 1, 1, 12, 0));
+        return item;
+    }
+
+    @Test
+    void entitiesAndValuesRoundTrip() {
+        List<Item> items = Arrays.asList(item(1L, "a"), null, item(2L, "b"));
+        assertEquals(items, codec.decode(codec.encode(items)));
+        assertEquals(List.of(3L), codec.decode(codec.encode(List.of(3L))));
+        assertEquals(List.of(), codec.decode(codec.encode(List.of())));
+        assertEquals(Arrays.asList(null, null), codec.decode(codec.encode(Arrays.asList(null, null))));
+    }
+
+    @Test
+    void rowTypesOutsideTheAllowListAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(List.of(Map.of("id", 1L))));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(List.of(1L, "a")));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode("{\"type\":\"java.util.HashMap\",\"rows\":[{\"id\":1}]}"));
+
+        JacksonCacheCodec allowing = new JacksonCacheCodec(Set.of("java.util"));
+        assertEquals(List.of(Map.of("id", 1)), allowing.decode("{\"type\":\"java.util.HashMap\",\"rows\":[{\"id\":1}]}"));
+    }
+}
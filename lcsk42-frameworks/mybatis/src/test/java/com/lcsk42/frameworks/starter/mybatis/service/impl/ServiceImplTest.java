@@ -0,0 +1,138 @@
+package com.lcsk42.frameworks.starter.mybatis.service.impl;
+
+import com.lcsk42.frameworks.starter.cache.DistributedCache;
+import com.lcsk42.frameworks.starter.mybatis.TestApplicationContext;
+import com.lcsk42.frameworks.starter.mybatis.cache.EntityCache;
+import com.lcsk42.frameworks.starter.mybatis.cache.EntityCacheSupportFactory;
+import com.lcsk42.frameworks.starter.mybatis.mapper.BaseMapper;
+import com.lcsk42.frameworks.starter.mybatis.po.BasePO;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServiceImplTest {
+
+    private static final String KEY = "item:1";
+
+    private final ItemMapper mapper = mock(ItemMapper.class);
+
+    private final DistributedCache distributedCache = mock(DistributedCache.class);
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Item extends BasePO {
+
+        private Long id;
+
+        private String name;
+    }
+
+    interface ItemMapper extends BaseMapper<Item> {
+    }
+
+    @EntityCache(keyPrefix = "item", localCapacity = 0)
+    static class ItemService extends ServiceImpl<ItemMapper, Item> {
+
+        ItemService(ItemMapper mapper) {
+            this.baseMapper = mapper;
+        }
+
+        @Override
+        public Class<Item> getEntityClass() {
+            return Item.class;
+        }
+    }
+
+    static class PlainService extends ServiceImpl<ItemMapper, Item> {
+
+        PlainService(ItemMapper mapper) {
+            this.baseMapper = mapper;
+        }
+
+        @Override
+        public Class<Item> getEntityClass() {
+            return Item.class;
+        }
+    }
+
+    private static Item item(long id, String name) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        return item;
+    }
+
+    @Test
+    void getByIdCachesLoadedEntity() {
+        when(mapper.selectById(eq(1L))).thenReturn(item(1L, "a"));
+        when(distributedCache.putAllIfAbsent(anyMap(), anyLong(), any())).thenReturn(Set.of(KEY));
+        TestApplicationContext.of(new EntityCacheSupportFactory(distributedCache)).install();
+        ItemService service = new ItemService(mapper);
+
+        assertEquals("a", service.getById(1L).getName());
+
+        verify(distributedCache).putAllIfAbsent(argThat(values -> values.containsKey(KEY)), anyLong(), any());
+    }
+
+    @Test
+    void getByIdServesCachedEntity() {
+        when(distributedCache.get(KEY, String.class)).thenReturn("{\"id\":1,\"name\":\"cached\"}");
+        TestApplicationContext.of(new EntityCacheSupportFactory(distributedCache)).install();
+        ItemService service = new ItemService(mapper);
+
+        assertEquals("cached", service.getById(1L).getName());
+
+        verify(mapper, times(0)).selectById(any(Serializable.class));
+    }
+
+    @Test
+    void removeByIdLeavesTombstone() {
+        TestApplicationContext.of(new EntityCacheSupportFactory(distributedCache)).install();
+        ItemService service = new ItemService(mapper);
+
+        service.removeById(1L);
+
+        verify(mapper).deleteById(eq(1L));
+        verify(distributedCache).putAll(eq(Map.of(KEY, "<evicted>")), eq(10_000L), any());
+    }
+
+    @Test
+    void missingFactoryFallsBackToDatabase() {
+        when(mapper.selectById(eq(1L))).thenReturn(item(1L, "a"));
+        TestApplicationContext.of().install();
+        ItemService service = new ItemService(mapper);
+
+        assertEquals("a", service.getById(1L).getName());
+        assertEquals("a", service.getById(1L).getName());
+
+        verify(mapper, times(2)).selectById(eq(1L));
+    }
+
+    @Test
+    void unannotatedServiceIgnoresCache() {
+        when(mapper.selectById(eq(1L))).thenReturn(item(1L, "a"));
+        TestApplicationContext.of(new EntityCacheSupportFactory(distributedCache)).install();
+        PlainService service = new PlainService(mapper);
+
+        service.getById(1L);
+        service.removeById(1L);
+
+        verify(distributedCache, times(0)).get(any(), any());
+        verify(distributedCache, times(0)).putAll(anyMap(), anyLong(), any());
+    }
+}
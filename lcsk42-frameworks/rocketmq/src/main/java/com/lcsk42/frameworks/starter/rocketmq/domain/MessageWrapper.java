@@ -1,5 +1,6 @@
 package com.lcsk42.frameworks.starter.rocketmq.domain;
 
+import com.lcsk42.frameworks.starter.base.time.TimeSourceHolder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,7 +30,7 @@ public final class MessageWrapper<T> implements Serializable {
 
     private String uuid = UUID.randomUUID().toString();
 
-    private Long timestamp = System.currentTimeMillis();
+    private Long timestamp = TimeSourceHolder.currentTimeMillis();
 
     public static <T> MessageWrapper<T> of(String key, T message) {
         return new MessageWrapper<>(key, message);
@@ -116,4 +116,15 @@ public class FeignSupportConfig {
                                     .forEach(name -> template.header(name, request.getHeader(name)));
                         });
     }
+
+    /**
+     * Configures a RequestInterceptor forwarding the request context bound to the calling thread,
+     * so Feign calls made from framework pools or fan-out tasks carry the request id, user and deadline.
+     *
+     * @return RequestInterceptor that forwards the bound request context.
+     */
+    @Bean
+    public RequestInterceptor requestContextInterceptor() {
+        return new RequestContextFeignInterceptor();
+    }
 }
@@ -0,0 +1,42 @@
+package com.lcsk42.frameworks.starter.web.feign;
+
+import com.lcsk42.frameworks.starter.base.constant.CustomHttpHeaderConstant;
+import com.lcsk42.frameworks.starter.common.context.ContextCarrier;
+import com.lcsk42.frameworks.starter.common.context.RequestContext;
+import com.lcsk42.frameworks.starter.convention.dto.UserInfoDTO;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Forwards the {@link RequestContext} bound by the {@link ContextCarrier} to the called service:
+ * the request id, the user and the time left until the deadline.
+ * Unlike copying the servlet request headers, this also works for calls made from worker threads.
+ */
+public class RequestContextFeignInterceptor implements RequestInterceptor {
+
+    @Override
+    public void apply(RequestTemplate template) {
+        ContextCarrier.current().ifPresent(context -> {
+            if (Objects.nonNull(context.getRequestId())) {
+                template.header(CustomHttpHeaderConstant.REQUEST_ID_HEADER, context.getRequestId());
+            }
+            UserInfoDTO user = context.getUser();
+            if (Objects.nonNull(user)) {
+                if (Objects.nonNull(user.getUserId())) {
+                    template.header(CustomHttpHeaderConstant.USER_ID, String.valueOf(user.getUserId()));
+                }
+                if (Objects.nonNull(user.getToken())) {
+                    template.header(CustomHttpHeaderConstant.TOKEN, user.getToken());
+                }
+            }
+            Duration remaining = context.remaining();
+            if (Objects.nonNull(remaining)) {
+                template.header(CustomHttpHeaderConstant.REQUEST_TIMEOUT_HEADER,
+                        String.valueOf(Math.max(0L, remaining.toMillis())));
+            }
+        });
+    }
+}
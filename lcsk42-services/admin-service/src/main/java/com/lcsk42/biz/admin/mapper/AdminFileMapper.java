@@ -1,7 +1,10 @@
 package com.lcsk42.biz.admin.mapper;
 
 import com.lcsk42.biz.admin.domain.po.AdminFilePO;
+import com.lcsk42.frameworks.starter.mybatis.cache.DistributedMybatisCache;
 import com.lcsk42.frameworks.starter.mybatis.mapper.BaseMapper;
+import org.apache.ibatis.annotations.CacheNamespace;
 
+@CacheNamespace(implementation = DistributedMybatisCache.class)
 public interface AdminFileMapper extends BaseMapper<AdminFilePO> {
 }